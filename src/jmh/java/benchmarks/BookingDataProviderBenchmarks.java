@@ -0,0 +1,32 @@
+package benchmarks;
+
+import dataproviders.BookingDataGenerator;
+import dataproviders.BookingDataProvider;
+import models.booking.BookingRequest;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test data generation cost paid for every booking created by a test or load run
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BookingDataProviderBenchmarks {
+
+    private final BookingDataGenerator generator = new BookingDataGenerator(42);
+
+    @Benchmark
+    public BookingRequest createValidBookingRequest() {
+        return BookingDataProvider.createValidBookingRequest();
+    }
+
+    @Benchmark
+    public BookingRequest generatorNextBooking() {
+        return generator.nextBooking();
+    }
+}
\ No newline at end of file
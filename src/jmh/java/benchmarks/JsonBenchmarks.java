@@ -0,0 +1,58 @@
+package benchmarks;
+
+import dataproviders.BookingDataProvider;
+import models.booking.BookingRequest;
+import org.openjdk.jmh.annotations.*;
+import utils.EnhancedJsonUtils;
+import utils.JsonCodec;
+import utils.JsonUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization cost paid on every booking request and response
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonBenchmarks {
+
+    private BookingRequest bookingRequest;
+    private String bookingJson;
+    private byte[] bookingBytes;
+
+    @Setup
+    public void setup() {
+        bookingRequest = BookingDataProvider.createValidBookingRequest();
+        bookingJson = JsonUtils.toJson(bookingRequest);
+        bookingBytes = JsonCodec.writeBytes(bookingRequest);
+    }
+
+    @Benchmark
+    public String jsonUtilsToJson() {
+        return JsonUtils.toJson(bookingRequest);
+    }
+
+    @Benchmark
+    public BookingRequest jsonUtilsFromJson() {
+        return JsonUtils.fromJson(bookingJson, BookingRequest.class);
+    }
+
+    @Benchmark
+    public BookingRequest enhancedJsonUtilsFromJson() {
+        return EnhancedJsonUtils.fromJson(bookingJson, BookingRequest.class);
+    }
+
+    @Benchmark
+    public byte[] jsonCodecWriteBytes() {
+        return JsonCodec.writeBytes(bookingRequest);
+    }
+
+    @Benchmark
+    public BookingRequest jsonCodecReadBytes() {
+        return JsonCodec.read(bookingBytes, BookingRequest.class);
+    }
+}
\ No newline at end of file
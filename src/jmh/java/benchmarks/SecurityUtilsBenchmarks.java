@@ -0,0 +1,72 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import utils.SecurityUtils;
+import utils.SensitiveDataMasker;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Masking and detection cost paid by the secure logging filter on every exchange
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SecurityUtilsBenchmarks {
+
+    private static final String AUTH_BODY = "{\"username\":\"admin\",\"password\":\"password123\"}";
+    private static final String BOOKING_BODY = "{\"firstname\":\"Jim\",\"lastname\":\"Brown\",\"totalprice\":111,"
+            + "\"depositpaid\":true,\"bookingdates\":{\"checkin\":\"2018-01-01\",\"checkout\":\"2019-01-01\"},"
+            + "\"additionalneeds\":\"Breakfast\"}";
+
+    @Param({"1", "100"})
+    public int bodyRepetitions;
+
+    private String authBody;
+    private String bookingBody;
+    private SensitiveDataMasker masker;
+
+    @Setup
+    public void setup() {
+        authBody = repeat(AUTH_BODY);
+        bookingBody = repeat(BOOKING_BODY);
+        masker = new SensitiveDataMasker(Arrays.asList("password", "token", "authorization", "secret"), 4096);
+    }
+
+    @Benchmark
+    public String maskSensitiveDataWithSecrets() {
+        return SecurityUtils.maskSensitiveData(authBody);
+    }
+
+    @Benchmark
+    public String maskSensitiveDataWithoutSecrets() {
+        return SecurityUtils.maskSensitiveData(bookingBody);
+    }
+
+    @Benchmark
+    public String streamingMaskWithSecrets() {
+        return masker.mask(authBody);
+    }
+
+    @Benchmark
+    public String streamingMaskWithoutSecrets() {
+        return masker.mask(bookingBody);
+    }
+
+    @Benchmark
+    public boolean containsSensitiveData() {
+        return SecurityUtils.containsSensitiveData(bookingBody);
+    }
+
+    private String repeat(String body) {
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < bodyRepetitions; i++) {
+            builder.append(i == 0 ? "" : ",").append(body);
+        }
+        return builder.append(']').toString();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,38 @@
+package auth;
+
+import core.ApiClient;
+import io.restassured.response.Response;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Performs the raw {@code POST /auth} call. Caching and refresh policy live in {@link TokenProvider}.
+ */
+@Slf4j
+public class AuthClient {
+    
+    public static String requestToken(AuthRequest authRequest) {
+        return requestToken(ApiClient.defaultClient(), authRequest);
+    }
+    
+    /**
+     * Authenticates against the target of the given client
+     */
+    public static String requestToken(ApiClient apiClient, AuthRequest authRequest) {
+        log.info("Requesting authentication token for user: {}", authRequest.getUsername());
+        
+        Response response = apiClient.request()
+                .body(authRequest)
+                .when()
+                .post("/auth")
+                .then()
+                .statusCode(200)
+                .extract()
+                .response();
+        
+        String token = response.jsonPath().getString("token");
+        if (token == null || token.trim().isEmpty()) {
+            throw new RuntimeException("Received empty token from authentication service");
+        }
+        return token;
+    }
+}
\ No newline at end of file
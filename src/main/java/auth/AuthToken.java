@@ -0,0 +1,22 @@
+package auth;
+
+import lombok.Value;
+
+/**
+ * Immutable snapshot of an issued token.
+ * Published through a volatile field so readers never need a lock.
+ */
+@Value
+public class AuthToken {
+    String value;
+    long expiresAtMillis;
+    long refreshAtMillis;
+
+    public boolean isExpired(long nowMillis) {
+        return nowMillis >= expiresAtMillis;
+    }
+
+    public boolean isDueForRefresh(long nowMillis) {
+        return nowMillis >= refreshAtMillis;
+    }
+}
\ No newline at end of file
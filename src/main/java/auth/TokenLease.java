@@ -0,0 +1,37 @@
+package auth;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Token borrowed from a {@link TokenPool} for the duration of one request.
+ * Closing the lease releases the identity's in-flight slot.
+ */
+public class TokenLease implements AutoCloseable {
+
+    private final String username;
+    private final String token;
+    private final AtomicInteger inFlight;
+    private boolean released;
+
+    TokenLease(String username, String token, AtomicInteger inFlight) {
+        this.username = username;
+        this.token = token;
+        this.inFlight = inFlight;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getToken() {
+        return token;
+    }
+
+    @Override
+    public void close() {
+        if (!released) {
+            released = true;
+            inFlight.decrementAndGet();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,231 @@
+package auth;
+
+import config.ConfigManager;
+import core.ApiClient;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import recording.RecordingMode;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Spreads authenticated requests over several identities.
+ * <p>
+ * Each credential set gets its own {@link TokenProvider}, so tokens are cached and renewed
+ * independently. Identities come from {@code auth.users} ({@code user:password,user2:password2});
+ * when none are configured the pool wraps the default {@code auth.username} provider.
+ * <p>
+ * {@link #forClient(ApiClient)} keeps one pool per target, recording mode and set of identities, so services
+ * created for the same target share tokens and renewals. {@link #closeAll()} stops the renewals
+ * of those pools at suite end.
+ */
+@Slf4j
+public class TokenPool implements AutoCloseable {
+
+    private static final Map<PoolKey, TokenPool> poolsByTarget = new ConcurrentHashMap<>();
+    private static final TokenPool defaultPool = fromConfig(null, configuredIdentities());
+
+    private final Map<AuthRequest, Identity> identitiesByCredentials;
+    private final List<Identity> identities;
+    private final TokenSelectionStrategy strategy;
+    private final AtomicInteger nextIndex = new AtomicInteger();
+
+    public TokenPool(Map<AuthRequest, TokenProvider> providers, TokenSelectionStrategy strategy) {
+        if (providers.isEmpty()) {
+            throw new IllegalArgumentException("Token pool requires at least one identity");
+        }
+        Map<AuthRequest, Identity> byCredentials = new LinkedHashMap<>();
+        providers.forEach((credentials, provider) ->
+                byCredentials.put(credentials, new Identity(credentials.getUsername(), provider)));
+        this.identitiesByCredentials = Collections.unmodifiableMap(byCredentials);
+        this.identities = Collections.unmodifiableList(new ArrayList<>(byCredentials.values()));
+        this.strategy = strategy;
+    }
+
+    public static TokenPool defaultPool() {
+        return defaultPool;
+    }
+
+    /**
+     * Pool of the configured identities authenticating against the target of the given client,
+     * shared by every client of the same target
+     */
+    public static TokenPool forClient(ApiClient apiClient) {
+        if (apiClient == ApiClient.defaultClient()) {
+            return defaultPool;
+        }
+        List<AuthRequest> identities = configuredIdentities();
+        PoolKey poolKey = new PoolKey(apiClient.getSettings().getBaseUrl(), apiClient.getSettings().getRecordingMode(), identities);
+        return poolsByTarget.computeIfAbsent(poolKey, key -> fromConfig(apiClient, identities));
+    }
+
+    /**
+     * Closes every pool created by {@link #forClient(ApiClient)}; later calls create new ones
+     */
+    public static void closeAll() {
+        poolsByTarget.values().forEach(TokenPool::close);
+    }
+
+    private static List<AuthRequest> configuredIdentities() {
+        List<AuthRequest> identities = new ArrayList<>();
+        for (String user : ConfigManager.getConfig().authUsers()) {
+            if (user == null || user.trim().isEmpty()) {
+                continue;
+            }
+            int separator = user.indexOf(':');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("auth.users entries must be username:password");
+            }
+            AuthRequest credentials = AuthRequest.builder()
+                    .username(user.substring(0, separator).trim())
+                    .password(user.substring(separator + 1))
+                    .build();
+            if (!identities.contains(credentials)) {
+                identities.add(credentials);
+            }
+        }
+        if (identities.isEmpty()) {
+            identities.add(defaultCredentials());
+        }
+        return identities;
+    }
+
+    private static AuthRequest defaultCredentials() {
+        return AuthRequest.builder()
+                .username(ConfigManager.getConfig().authUsername())
+                .password(ConfigManager.getConfig().authPassword())
+                .build();
+    }
+
+    /**
+     * Pool of the given identities; a null client means the default target
+     */
+    private static TokenPool fromConfig(ApiClient apiClient, List<AuthRequest> identities) {
+        Map<AuthRequest, TokenProvider> providers = new LinkedHashMap<>();
+        for (AuthRequest credentials : identities) {
+            providers.put(credentials, provider(apiClient, credentials));
+        }
+
+        TokenSelectionStrategy strategy = TokenSelectionStrategy.fromConfig(ConfigManager.getConfig().authPoolStrategy());
+        log.info("Token pool configured with {} identities using {} selection", providers.size(), strategy);
+        return new TokenPool(providers, strategy);
+    }
+
+    private static TokenProvider provider(ApiClient apiClient, AuthRequest credentials) {
+        if (apiClient != null) {
+            return TokenProvider.forCredentials(apiClient, credentials);
+        }
+        // The default identity on the default target shares the provider of the authentication managers
+        return credentials.equals(defaultCredentials())
+                ? TokenProvider.defaultProvider()
+                : TokenProvider.forCredentials(credentials);
+    }
+
+    /**
+     * Leases a token from the next identity. Close the lease once the request has completed.
+     */
+    public TokenLease acquire() {
+        Identity identity = select();
+        identity.inFlight.incrementAndGet();
+        try {
+            return new TokenLease(identity.username, identity.provider.getToken(), identity.inFlight);
+        } catch (RuntimeException e) {
+            identity.inFlight.decrementAndGet();
+            throw e;
+        }
+    }
+
+    /**
+     * Non-blocking variant of {@link #acquire()}
+     */
+    public CompletableFuture<TokenLease> acquireAsync() {
+        Identity identity = select();
+        identity.inFlight.incrementAndGet();
+        return identity.provider.getTokenAsync()
+                .whenComplete((token, failure) -> {
+                    if (failure != null) {
+                        identity.inFlight.decrementAndGet();
+                    }
+                })
+                .thenApply(token -> new TokenLease(identity.username, token, identity.inFlight));
+    }
+
+    /**
+     * Runs an asynchronous operation with a leased token and releases the lease when it completes
+     */
+    public <T> CompletableFuture<T> withTokenAsync(Function<String, CompletableFuture<T>> operation) {
+        return acquireAsync().thenCompose(lease -> operation.apply(lease.getToken())
+                .whenComplete((result, failure) -> lease.close()));
+    }
+
+    public TokenProvider providerFor(AuthRequest credentials) {
+        Identity identity = identitiesByCredentials.get(credentials);
+        return identity == null ? null : identity.provider;
+    }
+
+    /**
+     * Stops the background renewals of every identity and drops the pool from the per-target cache
+     */
+    @Override
+    public void close() {
+        identities.forEach(identity -> identity.provider.close());
+        poolsByTarget.values().remove(this);
+    }
+
+    public int size() {
+        return identities.size();
+    }
+
+    /**
+     * Number of requests currently holding a token, per username
+     */
+    public Map<String, Integer> inFlightByUser() {
+        Map<String, Integer> inFlight = new LinkedHashMap<>();
+        identities.forEach(identity -> inFlight.put(identity.username, identity.inFlight.get()));
+        return inFlight;
+    }
+
+    private Identity select() {
+        int start = Math.floorMod(nextIndex.getAndIncrement(), identities.size());
+        if (strategy == TokenSelectionStrategy.ROUND_ROBIN) {
+            return identities.get(start);
+        }
+
+        // Least in flight; scanning from a rotating start spreads ties evenly
+        Identity selected = identities.get(start);
+        for (int i = 1; i < identities.size(); i++) {
+            Identity candidate = identities.get((start + i) % identities.size());
+            if (candidate.inFlight.get() < selected.inFlight.get()) {
+                selected = candidate;
+            }
+        }
+        return selected;
+    }
+
+    @Value
+    private static class PoolKey {
+        String target;
+        // Tokens of a replaying client come from its recording, so it never shares a live pool
+        RecordingMode recordingMode;
+        List<AuthRequest> identities;
+    }
+
+    private static class Identity {
+        private final String username;
+        private final TokenProvider provider;
+        private final AtomicInteger inFlight = new AtomicInteger();
+
+        private Identity(String username, TokenProvider provider) {
+            this.username = username;
+            this.provider = provider;
+        }
+    }
+}
\ No newline at end of file
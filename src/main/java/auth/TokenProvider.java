@@ -0,0 +1,196 @@
+package auth;
+
+import config.ConfigManager;
+import core.ApiClient;
+import lombok.extern.slf4j.Slf4j;
+import utils.SecurityUtils;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Caches an authentication token with a lock-free read path.
+ * <p>
+ * The current token is an immutable {@link AuthToken} held in a volatile field. Refreshes are
+ * single-flight: concurrent callers share one in-flight future instead of each calling {@code /auth}.
+ * After every successful refresh a renewal is scheduled ahead of the expiry buffer, so in steady
+ * state callers always find a valid token and never wait on the network. {@link #close()} stops the
+ * background renewals of a provider that is no longer used.
+ */
+@Slf4j
+public class TokenProvider implements AutoCloseable {
+
+    private static final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2, runnable -> {
+        Thread thread = new Thread(runnable, "token-renewal");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static final long RENEWAL_RETRY_MILLIS = 5_000;
+    private static final TokenProvider defaultProvider = forCredentials(AuthRequest.builder()
+            .username(ConfigManager.getConfig().authUsername())
+            .password(ConfigManager.getConfig().authPassword())
+            .build());
+
+    private final Supplier<String> tokenFetcher;
+    private final long lifetimeMillis;
+    private final long refreshBufferMillis;
+    private final AtomicReference<CompletableFuture<AuthToken>> inFlightRefresh = new AtomicReference<>();
+    private final AtomicReference<ScheduledFuture<?>> scheduledRenewal = new AtomicReference<>();
+    private volatile AuthToken currentToken;
+    private volatile boolean closed;
+
+    public TokenProvider(Supplier<String> tokenFetcher, Duration lifetime, Duration refreshBuffer) {
+        if (refreshBuffer.compareTo(lifetime) >= 0) {
+            throw new IllegalArgumentException("Token refresh buffer must be shorter than the token lifetime");
+        }
+        this.tokenFetcher = tokenFetcher;
+        this.lifetimeMillis = lifetime.toMillis();
+        this.refreshBufferMillis = refreshBuffer.toMillis();
+    }
+
+    /**
+     * Provider for the configured {@code auth.username}, shared by both authentication managers
+     */
+    public static TokenProvider defaultProvider() {
+        return defaultProvider;
+    }
+
+    /**
+     * Creates a provider that authenticates with the given credentials using the configured lifetime and buffer
+     */
+    public static TokenProvider forCredentials(AuthRequest credentials) {
+        return forCredentials(ApiClient.defaultClient(), credentials);
+    }
+
+    /**
+     * Creates a provider that authenticates against the target of the given client
+     */
+    public static TokenProvider forCredentials(ApiClient apiClient, AuthRequest credentials) {
+        return new TokenProvider(() -> AuthClient.requestToken(apiClient, credentials),
+                Duration.ofMinutes(ConfigManager.getConfig().tokenLifetimeMinutes()),
+                Duration.ofMinutes(ConfigManager.getConfig().tokenExpiryBufferMinutes()));
+    }
+
+    /**
+     * Returns a valid token, blocking only when no usable token exists (first call or after {@link #clear()}).
+     * A token that is inside its refresh buffer is still returned while a refresh runs in the background.
+     */
+    public String getToken() {
+        AuthToken token = usableToken();
+        if (token != null) {
+            return token.getValue();
+        }
+        return refresh().join().getValue();
+    }
+
+    /**
+     * Non-blocking variant of {@link #getToken()}
+     */
+    public CompletableFuture<String> getTokenAsync() {
+        AuthToken token = usableToken();
+        if (token != null) {
+            return CompletableFuture.completedFuture(token.getValue());
+        }
+        return refresh().thenApply(AuthToken::getValue);
+    }
+
+    public boolean hasValidToken() {
+        AuthToken token = currentToken;
+        return token != null && !token.isDueForRefresh(System.currentTimeMillis());
+    }
+
+    /**
+     * Current token snapshot, or null if none has been issued
+     */
+    public AuthToken peek() {
+        return currentToken;
+    }
+
+    public void clear() {
+        ScheduledFuture<?> renewal = scheduledRenewal.getAndSet(null);
+        if (renewal != null) {
+            renewal.cancel(false);
+        }
+        currentToken = null;
+    }
+
+    /**
+     * Cancels the scheduled renewal and schedules no further ones; tokens are then only fetched on demand
+     */
+    @Override
+    public void close() {
+        closed = true;
+        clear();
+    }
+
+    private AuthToken usableToken() {
+        AuthToken token = currentToken;
+        long now = System.currentTimeMillis();
+        if (token == null || token.isExpired(now)) {
+            return null;
+        }
+        if (token.isDueForRefresh(now)) {
+            refresh();
+        }
+        return token;
+    }
+
+    /**
+     * Starts a refresh unless one is already running, in which case the running one is returned
+     */
+    private CompletableFuture<AuthToken> refresh() {
+        while (true) {
+            CompletableFuture<AuthToken> existing = inFlightRefresh.get();
+            if (existing != null) {
+                return existing;
+            }
+            CompletableFuture<AuthToken> refresh = new CompletableFuture<>();
+            if (inFlightRefresh.compareAndSet(null, refresh)) {
+                scheduler.execute(() -> fetch(refresh));
+                return refresh;
+            }
+        }
+    }
+
+    private void fetch(CompletableFuture<AuthToken> refresh) {
+        try {
+            String value = tokenFetcher.get();
+            long now = System.currentTimeMillis();
+            AuthToken token = new AuthToken(value, now + lifetimeMillis, now + lifetimeMillis - refreshBufferMillis);
+            currentToken = token;
+            log.info("Authentication token refreshed successfully");
+            log.debug("Token {} expires at: {}", SecurityUtils.maskToken(value),
+                    new java.util.Date(token.getExpiresAtMillis()));
+            scheduleRenewal(token.getRefreshAtMillis() - now);
+            inFlightRefresh.set(null);
+            refresh.complete(token);
+        } catch (Throwable e) {
+            log.error("Failed to refresh authentication token", e);
+            if (currentToken != null) {
+                scheduleRenewal(Math.min(RENEWAL_RETRY_MILLIS, refreshBufferMillis / 2));
+            }
+            inFlightRefresh.set(null);
+            refresh.completeExceptionally(new RuntimeException("Authentication failed", e));
+        }
+    }
+
+    private void scheduleRenewal(long delayMillis) {
+        if (closed) {
+            return;
+        }
+        ScheduledFuture<?> renewal = scheduler.schedule(this::refresh, Math.max(0, delayMillis), TimeUnit.MILLISECONDS);
+        ScheduledFuture<?> previous = scheduledRenewal.getAndSet(renewal);
+        if (previous != null) {
+            previous.cancel(false);
+        }
+        if (closed && scheduledRenewal.compareAndSet(renewal, null)) {
+            renewal.cancel(false);
+        }
+    }
+}
\ No newline at end of file
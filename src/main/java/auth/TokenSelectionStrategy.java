@@ -0,0 +1,15 @@
+package auth;
+
+/**
+ * How {@link TokenPool} picks an identity for the next request
+ */
+public enum TokenSelectionStrategy {
+    /** Cycle through identities in configuration order */
+    ROUND_ROBIN,
+    /** Pick the identity with the fewest requests currently holding its token */
+    LEAST_IN_FLIGHT;
+
+    public static TokenSelectionStrategy fromConfig(String name) {
+        return valueOf(name.trim().toUpperCase().replace('-', '_'));
+    }
+}
\ No newline at end of file
@@ -1,39 +1,208 @@
 package config;
 
+import lombok.extern.slf4j.Slf4j;
 import org.aeonbits.owner.ConfigFactory;
+import org.aeonbits.owner.Factory;
 
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Holds the current {@link ConfigSnapshot}.
+ * <p>
+ * The environment comes from the {@code environment} system property (default {@code dev}) and
+ * properties are read from {@code environments/<environment>.properties} on the classpath, or from
+ * {@code -Dconfig.dir=<directory>} when given. System properties override both, so any setting can be
+ * changed for one run with {@code -D<key>=<value>}; read settings through {@link #getConfig()} only.
+ * Reloading builds a new snapshot and swaps it in atomically; system properties are never modified. With {@code config.reload.enabled} the
+ * environment files are watched and reloaded when they change.
+ */
+@Slf4j
 public class ConfigManager {
-    
-    private static EnvironmentConfig environmentConfig;
-    
+
+    private static final long RELOAD_DEBOUNCE_MILLIS = 200;
+
+    private static final String configDir = System.getProperty("config.dir");
+    private static final List<Consumer<ConfigSnapshot>> reloadListeners = new CopyOnWriteArrayList<>();
+    private static volatile ConfigSnapshot snapshot = load(System.getProperty("environment", "dev"));
+    private static WatchService watchService;
+
     static {
-        String environment = System.getProperty("environment", "dev");
-        System.setProperty("environment", environment);
-        environmentConfig = ConfigFactory.create(EnvironmentConfig.class);
+        if (snapshot.configReloadEnabled()) {
+            startWatching();
+        }
     }
-    
-    public static EnvironmentConfig getConfig() {
-        return environmentConfig;
+
+    public static ConfigSnapshot getConfig() {
+        return snapshot;
     }
-    
+
     public static String getEnvironment() {
-        return System.getProperty("environment", "dev");
+        return snapshot.environment();
     }
-    
+
     /**
-     * Reload configuration (useful for testing)
+     * Re-reads the properties of the current environment
      */
     public static void reloadConfig() {
-        String environment = System.getProperty("environment", "dev");
-        System.setProperty("environment", environment);
-        environmentConfig = ConfigFactory.create(EnvironmentConfig.class);
+        swap(getEnvironment());
     }
-    
+
     /**
-     * Set environment programmatically
+     * Switches to another environment
      */
     public static void setEnvironment(String environment) {
-        System.setProperty("environment", environment);
-        reloadConfig();
+        swap(environment);
+    }
+
+    /**
+     * Called with the new snapshot after every reload
+     */
+    public static void addReloadListener(Consumer<ConfigSnapshot> listener) {
+        reloadListeners.add(listener);
+    }
+
+    public static void removeReloadListener(Consumer<ConfigSnapshot> listener) {
+        reloadListeners.remove(listener);
+    }
+
+    /**
+     * Reloads the configuration whenever the environment properties files change
+     */
+    public static synchronized void startWatching() {
+        if (watchService != null) {
+            return;
+        }
+        Set<Path> directories = watchedDirectories();
+        if (directories.isEmpty()) {
+            log.warn("Config hot reload requested, but the environment files are not on the file system");
+            return;
+        }
+        try {
+            WatchService service = FileSystems.getDefault().newWatchService();
+            for (Path directory : directories) {
+                directory.register(service, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+            }
+            watchService = service;
+        } catch (IOException e) {
+            log.warn("Could not watch {} for config changes", directories, e);
+            return;
+        }
+        Thread watcher = new Thread(() -> watch(watchService), "config-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+        log.info("Watching {} for config changes", directories);
+    }
+
+    public static synchronized void stopWatching() {
+        if (watchService == null) {
+            return;
+        }
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            log.debug("Closing the config watcher failed", e);
+        }
+        watchService = null;
+    }
+
+    private static synchronized void swap(String environment) {
+        ConfigSnapshot reloaded;
+        try {
+            reloaded = load(environment);
+        } catch (RuntimeException e) {
+            log.warn("Could not load the {} configuration; keeping the current one", environment, e);
+            return;
+        }
+        snapshot = reloaded;
+        log.info("Configuration loaded for environment: {}", environment);
+        for (Consumer<ConfigSnapshot> listener : reloadListeners) {
+            try {
+                listener.accept(reloaded);
+            } catch (RuntimeException e) {
+                log.warn("Config reload listener failed", e);
+            }
+        }
+    }
+
+    private static ConfigSnapshot load(String environment) {
+        Factory factory = ConfigFactory.newInstance();
+        factory.setProperty("environment", environment);
+        if (configDir != null) {
+            factory.setProperty("config.dir", configDir);
+        }
+        // Imported properties take precedence over the @Sources files
+        return new ConfigSnapshot(environment, factory.create(EnvironmentConfig.class, System.getProperties()));
+    }
+
+    private static Set<Path> watchedDirectories() {
+        Set<Path> directories = new LinkedHashSet<>();
+        if (configDir != null && Files.isDirectory(Paths.get(configDir))) {
+            directories.add(Paths.get(configDir).toAbsolutePath());
+        }
+        URL resource = ConfigManager.class.getClassLoader().getResource("environments/default.properties");
+        if (resource != null && "file".equals(resource.getProtocol())) {
+            try {
+                directories.add(Paths.get(resource.toURI()).getParent());
+            } catch (URISyntaxException e) {
+                log.debug("Cannot watch {}", resource, e);
+            }
+        }
+        return directories;
+    }
+
+    private static void watch(WatchService service) {
+        try {
+            while (true) {
+                WatchKey key = service.take();
+                boolean changed = isRelevant(key);
+                key.reset();
+                if (!changed) {
+                    continue;
+                }
+                // Editors often write a file in several steps; wait for them to finish
+                Thread.sleep(RELOAD_DEBOUNCE_MILLIS);
+                WatchKey next;
+                while ((next = service.poll()) != null) {
+                    next.pollEvents();
+                    next.reset();
+                }
+                swap(getEnvironment());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            log.debug("Config watcher stopped");
+        }
+    }
+
+    private static boolean isRelevant(WatchKey key) {
+        boolean relevant = false;
+        String environmentFile = getEnvironment() + ".properties";
+        for (WatchEvent<?> event : key.pollEvents()) {
+            Object context = event.context();
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW || context == null) {
+                relevant = true;
+                continue;
+            }
+            String fileName = context.toString();
+            relevant |= fileName.equals(environmentFile) || fileName.equals("default.properties");
+        }
+        return relevant;
     }
 }
\ No newline at end of file
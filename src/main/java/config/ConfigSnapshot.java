@@ -0,0 +1,189 @@
+package config;
+
+import lombok.Getter;
+import lombok.experimental.Accessors;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * {@link EnvironmentConfig} resolved once into plain final fields.
+ * <p>
+ * The Owner proxy parses and converts a property on every call; a snapshot reads a field. Snapshots
+ * never change: {@link ConfigManager} swaps in a new one when the configuration is reloaded, so a
+ * caller holding a snapshot sees one consistent set of values.
+ */
+@Getter
+@Accessors(fluent = true)
+public final class ConfigSnapshot implements EnvironmentConfig {
+
+    // Owner's Config is Serializable
+    private static final long serialVersionUID = 1L;
+
+    private final String environment;
+    private final boolean configReloadEnabled;
+    private final String baseUrl;
+    private final String authUsername;
+    private final String authPassword;
+    private final List<String> authUsers;
+    private final String authPoolStrategy;
+    private final int connectionTimeout;
+    private final int readTimeout;
+    private final int maxRetryAttempts;
+    private final int retryDelaySeconds;
+    private final long retryBackoffBaseMillis;
+    private final int retryDeadlineSeconds;
+    private final int retryBudgetPercent;
+    private final int retryBudgetBurst;
+    private final int httpPoolMaxTotal;
+    private final int httpPoolMaxPerRoute;
+    private final int httpPoolKeepAliveSeconds;
+    private final int httpPoolIdleTimeoutSeconds;
+    private final int httpPoolEvictionIntervalSeconds;
+    private final boolean httpPoolStaleCheckEnabled;
+    private final long httpPoolLeaseTimeoutMillis;
+    private final int parallelThreadCount;
+    private final boolean executionVirtualThreads;
+    private final int executionVirtualParallelism;
+    private final int bulkConcurrency;
+    private final long dataSeed;
+    private final int dataShardIndex;
+    private final int dataShardCount;
+    private final int dataParallelMaxRows;
+    private final String shardHistoryDir;
+    private final List<String> shardEnvironments;
+    private final boolean shardPlanOnly;
+    private final boolean cleanupEnabled;
+    private final int cleanupTimeoutSeconds;
+    private final boolean bookingCacheEnabled;
+    private final int bookingCacheMaxEntries;
+    private final long bookingCacheTtlMillis;
+    private final boolean metricsEnabled;
+    private final boolean metricsJmxEnabled;
+    private final String metricsPrometheusFile;
+    private final String allureCaptureMode;
+    private final int allureCaptureBufferSize;
+    private final double allureCaptureSampleRate;
+    private final int allureCaptureMaxBodyChars;
+    private final String recordingMode;
+    private final String recordingFile;
+    private final long slaP50Millis;
+    private final long slaP95Millis;
+    private final long slaP99Millis;
+    private final double slaErrorRatePercent;
+    private final int slaMinSamples;
+    private final boolean stubEnabled;
+    private final String stubLatencyDistribution;
+    private final long stubLatencyMeanMillis;
+    private final long stubLatencyMaxMillis;
+    private final double stubErrorRate;
+    private final int stubRetryAfterSeconds;
+    private final double stubThrottleRatePerSecond;
+    private final boolean stubEtagEnabled;
+    private final String databaseUrl;
+    private final String databaseUsername;
+    private final String databasePassword;
+    private final boolean sslVerificationEnabled;
+    private final int tokenExpiryBufferMinutes;
+    private final int tokenLifetimeMinutes;
+    private final List<String> maskedFields;
+    private final int logBodyMaxChars;
+    private final boolean jsonBlackbirdEnabled;
+    private final int schemaValidationCacheSize;
+    private final boolean schemaWarmUpEnabled;
+    private final int testDataCacheMaxMb;
+    private final int testDataStreamThresholdMb;
+    private final int loadDurationSeconds;
+    private final double loadRatePerSecond;
+    private final int loadRampUpSeconds;
+    private final int loadWarmUpSeconds;
+    private final List<String> loadOperations;
+    private final int loadMaxInFlight;
+
+    ConfigSnapshot(String environment, EnvironmentConfig source) {
+        this.environment = environment;
+        this.configReloadEnabled = source.configReloadEnabled();
+        this.baseUrl = source.baseUrl();
+        this.authUsername = source.authUsername();
+        this.authPassword = source.authPassword();
+        this.authUsers = copyOf(source.authUsers());
+        this.authPoolStrategy = source.authPoolStrategy();
+        this.connectionTimeout = source.connectionTimeout();
+        this.readTimeout = source.readTimeout();
+        this.maxRetryAttempts = source.maxRetryAttempts();
+        this.retryDelaySeconds = source.retryDelaySeconds();
+        this.retryBackoffBaseMillis = source.retryBackoffBaseMillis();
+        this.retryDeadlineSeconds = source.retryDeadlineSeconds();
+        this.retryBudgetPercent = source.retryBudgetPercent();
+        this.retryBudgetBurst = source.retryBudgetBurst();
+        this.httpPoolMaxTotal = source.httpPoolMaxTotal();
+        this.httpPoolMaxPerRoute = source.httpPoolMaxPerRoute();
+        this.httpPoolKeepAliveSeconds = source.httpPoolKeepAliveSeconds();
+        this.httpPoolIdleTimeoutSeconds = source.httpPoolIdleTimeoutSeconds();
+        this.httpPoolEvictionIntervalSeconds = source.httpPoolEvictionIntervalSeconds();
+        this.httpPoolStaleCheckEnabled = source.httpPoolStaleCheckEnabled();
+        this.httpPoolLeaseTimeoutMillis = source.httpPoolLeaseTimeoutMillis();
+        this.parallelThreadCount = source.parallelThreadCount();
+        this.executionVirtualThreads = source.executionVirtualThreads();
+        this.executionVirtualParallelism = source.executionVirtualParallelism();
+        this.bulkConcurrency = source.bulkConcurrency();
+        this.dataSeed = source.dataSeed();
+        this.dataShardIndex = source.dataShardIndex();
+        this.dataShardCount = source.dataShardCount();
+        this.dataParallelMaxRows = source.dataParallelMaxRows();
+        this.shardHistoryDir = source.shardHistoryDir();
+        this.shardEnvironments = copyOf(source.shardEnvironments());
+        this.shardPlanOnly = source.shardPlanOnly();
+        this.cleanupEnabled = source.cleanupEnabled();
+        this.cleanupTimeoutSeconds = source.cleanupTimeoutSeconds();
+        this.bookingCacheEnabled = source.bookingCacheEnabled();
+        this.bookingCacheMaxEntries = source.bookingCacheMaxEntries();
+        this.bookingCacheTtlMillis = source.bookingCacheTtlMillis();
+        this.metricsEnabled = source.metricsEnabled();
+        this.metricsJmxEnabled = source.metricsJmxEnabled();
+        this.metricsPrometheusFile = source.metricsPrometheusFile();
+        this.allureCaptureMode = source.allureCaptureMode();
+        this.allureCaptureBufferSize = source.allureCaptureBufferSize();
+        this.allureCaptureSampleRate = source.allureCaptureSampleRate();
+        this.allureCaptureMaxBodyChars = source.allureCaptureMaxBodyChars();
+        this.recordingMode = source.recordingMode();
+        this.recordingFile = source.recordingFile();
+        this.slaP50Millis = source.slaP50Millis();
+        this.slaP95Millis = source.slaP95Millis();
+        this.slaP99Millis = source.slaP99Millis();
+        this.slaErrorRatePercent = source.slaErrorRatePercent();
+        this.slaMinSamples = source.slaMinSamples();
+        this.stubEnabled = source.stubEnabled();
+        this.stubLatencyDistribution = source.stubLatencyDistribution();
+        this.stubLatencyMeanMillis = source.stubLatencyMeanMillis();
+        this.stubLatencyMaxMillis = source.stubLatencyMaxMillis();
+        this.stubErrorRate = source.stubErrorRate();
+        this.stubRetryAfterSeconds = source.stubRetryAfterSeconds();
+        this.stubThrottleRatePerSecond = source.stubThrottleRatePerSecond();
+        this.stubEtagEnabled = source.stubEtagEnabled();
+        this.databaseUrl = source.databaseUrl();
+        this.databaseUsername = source.databaseUsername();
+        this.databasePassword = source.databasePassword();
+        this.sslVerificationEnabled = source.sslVerificationEnabled();
+        this.tokenExpiryBufferMinutes = source.tokenExpiryBufferMinutes();
+        this.tokenLifetimeMinutes = source.tokenLifetimeMinutes();
+        this.maskedFields = copyOf(source.maskedFields());
+        this.logBodyMaxChars = source.logBodyMaxChars();
+        this.jsonBlackbirdEnabled = source.jsonBlackbirdEnabled();
+        this.schemaValidationCacheSize = source.schemaValidationCacheSize();
+        this.schemaWarmUpEnabled = source.schemaWarmUpEnabled();
+        this.testDataCacheMaxMb = source.testDataCacheMaxMb();
+        this.testDataStreamThresholdMb = source.testDataStreamThresholdMb();
+        this.loadDurationSeconds = source.loadDurationSeconds();
+        this.loadRatePerSecond = source.loadRatePerSecond();
+        this.loadRampUpSeconds = source.loadRampUpSeconds();
+        this.loadWarmUpSeconds = source.loadWarmUpSeconds();
+        this.loadOperations = copyOf(source.loadOperations());
+        this.loadMaxInFlight = source.loadMaxInFlight();
+    }
+
+    private static List<String> copyOf(List<String> values) {
+        return values == null ? Collections.emptyList() : Collections.unmodifiableList(new ArrayList<>(values));
+    }
+}
\ No newline at end of file
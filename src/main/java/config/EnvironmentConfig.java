@@ -2,12 +2,20 @@ package config;
 
 import org.aeonbits.owner.Config;
 
+import java.util.List;
+
 @Config.Sources({
+    "file:${config.dir}/${environment}.properties",
     "classpath:environments/${environment}.properties",
     "classpath:environments/default.properties"
 })
 public interface EnvironmentConfig extends Config {
     
+    // Reload the environment files when they change (see ConfigManager)
+    @Key("config.reload.enabled")
+    @DefaultValue("false")
+    boolean configReloadEnabled();
+    
     @Key("base.url")
     String baseUrl();
     
@@ -17,6 +25,15 @@ public interface EnvironmentConfig extends Config {
     @Key("auth.password")
     String authPassword();
     
+    // Additional identities for the token pool, as username:password pairs
+    @Key("auth.users")
+    @DefaultValue("")
+    List<String> authUsers();
+    
+    @Key("auth.pool.strategy")
+    @DefaultValue("round_robin")
+    String authPoolStrategy();
+    
     @Key("timeout.connection")
     @DefaultValue("30000")
     int connectionTimeout();
@@ -33,10 +50,211 @@ public interface EnvironmentConfig extends Config {
     @DefaultValue("2")
     int retryDelaySeconds();
     
+    @Key("retry.backoff.base.millis")
+    @DefaultValue("200")
+    long retryBackoffBaseMillis();
+    
+    @Key("retry.deadline.seconds")
+    @DefaultValue("90")
+    int retryDeadlineSeconds();
+    
+    @Key("retry.budget.percent")
+    @DefaultValue("20")
+    int retryBudgetPercent();
+    
+    @Key("retry.budget.burst")
+    @DefaultValue("10")
+    int retryBudgetBurst();
+    
+    @Key("http.pool.max.total")
+    @DefaultValue("50")
+    int httpPoolMaxTotal();
+    
+    @Key("http.pool.max.per.route")
+    @DefaultValue("20")
+    int httpPoolMaxPerRoute();
+    
+    @Key("http.pool.keepalive.seconds")
+    @DefaultValue("30")
+    int httpPoolKeepAliveSeconds();
+    
+    @Key("http.pool.idle.timeout.seconds")
+    @DefaultValue("30")
+    int httpPoolIdleTimeoutSeconds();
+    
+    @Key("http.pool.eviction.interval.seconds")
+    @DefaultValue("5")
+    int httpPoolEvictionIntervalSeconds();
+    
+    @Key("http.pool.stale.check.enabled")
+    @DefaultValue("true")
+    boolean httpPoolStaleCheckEnabled();
+    
+    @Key("http.pool.lease.timeout.millis")
+    @DefaultValue("10000")
+    long httpPoolLeaseTimeoutMillis();
+    
     @Key("parallel.thread.count")
     @DefaultValue("5")
     int parallelThreadCount();
     
+    // Virtual-thread execution of blocking workflows (java21 profile)
+    @Key("execution.virtual.threads")
+    @DefaultValue("false")
+    boolean executionVirtualThreads();
+    
+    @Key("execution.virtual.parallelism")
+    @DefaultValue("1000")
+    int executionVirtualParallelism();
+    
+    @Key("bulk.concurrency")
+    @DefaultValue("16")
+    int bulkConcurrency();
+    
+    @Key("data.seed")
+    @DefaultValue("0")
+    long dataSeed();
+    
+    @Key("data.shard.index")
+    @DefaultValue("0")
+    int dataShardIndex();
+    
+    @Key("data.shard.count")
+    @DefaultValue("1")
+    int dataShardCount();
+    
+    @Key("data.parallel.max.rows")
+    @DefaultValue("10000")
+    int dataParallelMaxRows();
+    
+    // Suite sharding across JVMs (see ShardRunner)
+    @Key("shard.history.dir")
+    @DefaultValue("target/allure-results")
+    String shardHistoryDir();
+    
+    @Key("shard.environments")
+    @DefaultValue("")
+    List<String> shardEnvironments();
+    
+    // Only log the shard commands instead of starting them
+    @Key("shard.plan.only")
+    @DefaultValue("false")
+    boolean shardPlanOnly();
+    
+    @Key("cleanup.enabled")
+    @DefaultValue("true")
+    boolean cleanupEnabled();
+    
+    @Key("cleanup.timeout.seconds")
+    @DefaultValue("120")
+    int cleanupTimeoutSeconds();
+    
+    // Client-side cache for BookingService.getBooking (revalidated with ETag / Last-Modified)
+    @Key("booking.cache.enabled")
+    @DefaultValue("false")
+    boolean bookingCacheEnabled();
+    
+    @Key("booking.cache.max.entries")
+    @DefaultValue("1000")
+    int bookingCacheMaxEntries();
+    
+    @Key("booking.cache.ttl.millis")
+    @DefaultValue("2000")
+    long bookingCacheTtlMillis();
+    
+    // Per-endpoint request metrics (JMX and Prometheus text export)
+    @Key("metrics.enabled")
+    @DefaultValue("true")
+    boolean metricsEnabled();
+    
+    @Key("metrics.jmx.enabled")
+    @DefaultValue("true")
+    boolean metricsJmxEnabled();
+    
+    @Key("metrics.prometheus.file")
+    @DefaultValue("target/metrics/requests.prom")
+    String metricsPrometheusFile();
+    
+    // Allure HTTP capture: always | failures | off
+    @Key("allure.capture.mode")
+    @DefaultValue("failures")
+    String allureCaptureMode();
+    
+    @Key("allure.capture.buffer.size")
+    @DefaultValue("20")
+    int allureCaptureBufferSize();
+    
+    @Key("allure.capture.sample.rate")
+    @DefaultValue("0.0")
+    double allureCaptureSampleRate();
+    
+    @Key("allure.capture.max.body.chars")
+    @DefaultValue("65536")
+    int allureCaptureMaxBodyChars();
+    
+    // HTTP record and replay: off | record | replay
+    @Key("recording.mode")
+    @DefaultValue("off")
+    String recordingMode();
+    
+    @Key("recording.file")
+    @DefaultValue("target/recordings/exchanges.rip")
+    String recordingFile();
+    
+    // Latency SLOs asserted by PerformanceAssertions (0 = not checked)
+    @Key("sla.p50.millis")
+    @DefaultValue("0")
+    long slaP50Millis();
+    
+    @Key("sla.p95.millis")
+    @DefaultValue("1500")
+    long slaP95Millis();
+    
+    @Key("sla.p99.millis")
+    @DefaultValue("3000")
+    long slaP99Millis();
+    
+    @Key("sla.error.rate.percent")
+    @DefaultValue("1.0")
+    double slaErrorRatePercent();
+    
+    @Key("sla.min.samples")
+    @DefaultValue("20")
+    int slaMinSamples();
+    
+    // Embedded booking stub (see environments/local.properties)
+    @Key("stub.enabled")
+    @DefaultValue("false")
+    boolean stubEnabled();
+    
+    @Key("stub.latency.distribution")
+    @DefaultValue("none")
+    String stubLatencyDistribution();
+    
+    @Key("stub.latency.mean.millis")
+    @DefaultValue("0")
+    long stubLatencyMeanMillis();
+    
+    @Key("stub.latency.max.millis")
+    @DefaultValue("5000")
+    long stubLatencyMaxMillis();
+    
+    @Key("stub.error.rate")
+    @DefaultValue("0")
+    double stubErrorRate();
+    
+    @Key("stub.error.retry.after.seconds")
+    @DefaultValue("0")
+    int stubRetryAfterSeconds();
+    
+    @Key("stub.throttle.rate.per.second")
+    @DefaultValue("0")
+    double stubThrottleRatePerSecond();
+    
+    @Key("stub.etag.enabled")
+    @DefaultValue("true")
+    boolean stubEtagEnabled();
+    
     @Key("database.url")
     String databaseUrl();
     
@@ -55,4 +273,65 @@ public interface EnvironmentConfig extends Config {
     @Key("token.expiry.buffer.minutes")
     @DefaultValue("5")
     int tokenExpiryBufferMinutes();
+    
+    @Key("token.lifetime.minutes")
+    @DefaultValue("60")
+    int tokenLifetimeMinutes();
+    
+    // Secure logging configuration
+    @Key("logging.mask.fields")
+    @DefaultValue("password,token,authorization,secret")
+    List<String> maskedFields();
+    
+    @Key("logging.body.max.chars")
+    @DefaultValue("4096")
+    int logBodyMaxChars();
+    
+    // JSON serialization configuration
+    @Key("json.blackbird.enabled")
+    @DefaultValue("false")
+    boolean jsonBlackbirdEnabled();
+    
+    // JSON schema validation configuration
+    @Key("schema.validation.cache.size")
+    @DefaultValue("10000")
+    int schemaValidationCacheSize();
+    
+    @Key("schema.warmup.enabled")
+    @DefaultValue("true")
+    boolean schemaWarmUpEnabled();
+    
+    // Test data cache configuration
+    @Key("testdata.cache.max.mb")
+    @DefaultValue("64")
+    int testDataCacheMaxMb();
+    
+    @Key("testdata.stream.threshold.mb")
+    @DefaultValue("8")
+    int testDataStreamThresholdMb();
+    
+    // Load generation configuration
+    @Key("load.duration.seconds")
+    @DefaultValue("60")
+    int loadDurationSeconds();
+    
+    @Key("load.rate.per.second")
+    @DefaultValue("10")
+    double loadRatePerSecond();
+    
+    @Key("load.rampup.seconds")
+    @DefaultValue("10")
+    int loadRampUpSeconds();
+    
+    @Key("load.warmup.seconds")
+    @DefaultValue("10")
+    int loadWarmUpSeconds();
+    
+    @Key("load.operations")
+    @DefaultValue("create,get,update,partial_update,delete")
+    List<String> loadOperations();
+    
+    @Key("load.max.in.flight")
+    @DefaultValue("1000")
+    int loadMaxInFlight();
 }
\ No newline at end of file
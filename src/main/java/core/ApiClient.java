@@ -0,0 +1,129 @@
+package core;
+
+import config.ConfigManager;
+import io.restassured.RestAssured;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.builder.ResponseSpecBuilder;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.config.SSLConfig;
+import io.restassured.filter.log.RequestLoggingFilter;
+import io.restassured.filter.log.ResponseLoggingFilter;
+import io.restassured.http.ContentType;
+import io.restassured.specification.RequestSpecification;
+import io.restassured.specification.ResponseSpecification;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import metrics.RequestMetricsFilter;
+import org.hamcrest.Matchers;
+import recording.RecordReplayFilter;
+import recording.RecordingMode;
+import reporting.AllureCaptureFilter;
+import utils.SecurityLoggingFilter;
+
+import java.nio.file.Paths;
+
+/**
+ * Pre-built REST Assured specifications for one target.
+ * <p>
+ * Each client owns its request and response specifications, filter chain and HTTP client, and
+ * never touches the {@code RestAssured} static defaults, so clients with different base URLs or
+ * timeouts can be used side by side from any thread. Clients are immutable; build another one
+ * from different {@link ApiClientSettings} to change anything.
+ * <pre>
+ * ApiClient tenant = new ApiClient(ApiClientSettings.fromConfig().toBuilder().baseUrl(url).build());
+ * BookingService bookings = new BookingService(tenant);
+ * </pre>
+ */
+@Slf4j
+@Getter
+public class ApiClient {
+
+    private final ApiClientSettings settings;
+    private final RequestSpecification requestSpec;
+    private final ResponseSpecification responseSpec;
+
+    public ApiClient(ApiClientSettings settings) {
+        this.settings = settings;
+        this.requestSpec = buildRequestSpec(settings, httpClientConfig(settings));
+        this.responseSpec = buildResponseSpec(settings);
+        log.info("API client configured for base URL: {} (SSL verification: {})",
+                settings.getBaseUrl(), settings.isSslVerification());
+    }
+
+    /**
+     * Client for the configured environment, shared by services created without one
+     */
+    public static ApiClient defaultClient() {
+        return DefaultHolder.CLIENT;
+    }
+
+    /**
+     * Client for the configured environment with masked logging
+     */
+    public static ApiClient secureClient() {
+        return SecureHolder.CLIENT;
+    }
+
+    /**
+     * New request starting from this client's specification, whose response must arrive within the read timeout
+     */
+    public RequestSpecification request() {
+        return RestAssured.given().spec(requestSpec).response().spec(responseSpec).request();
+    }
+
+    private static HttpClientConfig httpClientConfig(ApiClientSettings settings) {
+        if (settings.getConnectionTimeoutMillis() == ConfigManager.getConfig().connectionTimeout()
+                && settings.getReadTimeoutMillis() == ConfigManager.getConfig().readTimeout()
+                && settings.isSslVerification() == ConfigManager.getConfig().sslVerificationEnabled()) {
+            // Default timeouts and SSL verification share the default client, which follows config reloads
+            return HttpClientFactory.httpClientConfig();
+        }
+        return HttpClientFactory.httpClientConfig(HttpClientFactory.newHttpClient(
+                settings.getConnectionTimeoutMillis(), settings.getReadTimeoutMillis(), settings.isSslVerification()));
+    }
+
+    private static RequestSpecification buildRequestSpec(ApiClientSettings settings, HttpClientConfig httpClientConfig) {
+        RequestSpecBuilder builder = new RequestSpecBuilder()
+                .setConfig(RestAssuredConfig.config()
+                        .httpClient(httpClientConfig)
+                        .sslConfig(settings.isSslVerification()
+                                ? SSLConfig.sslConfig()
+                                : SSLConfig.sslConfig().relaxedHTTPSValidation()))
+                .setBaseUri(settings.getBaseUrl())
+                .setContentType(ContentType.JSON)
+                .addHeader("Accept", "application/json");
+        if (settings.getUserAgent() != null) {
+            builder.addHeader("User-Agent", settings.getUserAgent());
+        }
+        if (settings.isSecureLogging()) {
+            builder.addFilter(new SecurityLoggingFilter());
+        } else {
+            builder.addFilter(new RequestLoggingFilter())
+                    .addFilter(new ResponseLoggingFilter());
+        }
+        builder.addFilter(new AllureCaptureFilter())
+                .addFilter(new RequestMetricsFilter());
+        if (settings.getRecordingMode() != RecordingMode.OFF) {
+            builder.addFilter(RecordReplayFilter.forFile(settings.getRecordingMode(), Paths.get(settings.getRecordingFile())));
+        }
+        return builder.build();
+    }
+
+    private static ResponseSpecification buildResponseSpec(ApiClientSettings settings) {
+        ResponseSpecBuilder builder = new ResponseSpecBuilder();
+        // Replayed responses are read from the recording and have no response time to check
+        if (settings.getRecordingMode() != RecordingMode.REPLAY) {
+            builder.expectResponseTime(Matchers.lessThan((long) settings.getReadTimeoutMillis()));
+        }
+        return builder.build();
+    }
+
+    private static class DefaultHolder {
+        private static final ApiClient CLIENT = new ApiClient(ApiClientSettings.fromConfig());
+    }
+
+    private static class SecureHolder {
+        private static final ApiClient CLIENT = new ApiClient(ApiClientSettings.secureFromConfig());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,49 @@
+package core;
+
+import config.ConfigManager;
+import config.EnvironmentConfig;
+import lombok.Builder;
+import lombok.Data;
+import recording.RecordingMode;
+
+/**
+ * How an {@link ApiClient} reaches its target.
+ * {@code secureLogging} logs through {@code SecurityLoggingFilter}, masking credentials and
+ * sensitive body fields, instead of REST Assured's full request and response logging.
+ * {@code recordingMode} records exchanges to, or replays them from, {@code recordingFile}.
+ */
+@Data
+@Builder(toBuilder = true)
+public class ApiClientSettings {
+    private String baseUrl;
+    private int connectionTimeoutMillis;
+    private int readTimeoutMillis;
+    private boolean sslVerification;
+    private boolean secureLogging;
+    private String userAgent;
+    @Builder.Default
+    private RecordingMode recordingMode = RecordingMode.OFF;
+    private String recordingFile;
+
+    public static ApiClientSettings fromConfig() {
+        EnvironmentConfig config = ConfigManager.getConfig();
+        return ApiClientSettings.builder()
+                .baseUrl(config.baseUrl())
+                .connectionTimeoutMillis(config.connectionTimeout())
+                .readTimeoutMillis(config.readTimeout())
+                .sslVerification(config.sslVerificationEnabled())
+                .recordingMode(RecordingMode.fromConfig(config.recordingMode()))
+                .recordingFile(config.recordingFile())
+                .build();
+    }
+
+    /**
+     * Masked logging, a framework User-Agent and the configured SSL verification
+     */
+    public static ApiClientSettings secureFromConfig() {
+        return fromConfig().toBuilder()
+                .secureLogging(true)
+                .userAgent("API-Test-Framework/2.0")
+                .build();
+    }
+}
\ No newline at end of file
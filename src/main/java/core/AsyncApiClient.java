@@ -0,0 +1,62 @@
+package core;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Non-blocking HTTP client used by the async service layer.
+ * Requests are multiplexed by the JDK client, so in-flight calls do not hold a thread.
+ * One instance exists per base URL and timeouts, so async calls reach the same target as the
+ * {@link ApiClient} they were created for.
+ */
+@Slf4j
+public class AsyncApiClient {
+
+    private static final Map<String, AsyncApiClient> clients = new ConcurrentHashMap<>();
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final Duration requestTimeout;
+
+    private AsyncApiClient(ApiClientSettings settings) {
+        this.baseUrl = settings.getBaseUrl();
+        this.requestTimeout = Duration.ofMillis(settings.getReadTimeoutMillis());
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(settings.getConnectionTimeoutMillis()))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+        log.info("Async HTTP client configured for base URL: {}", baseUrl);
+    }
+
+    /**
+     * Client for the target and timeouts of the given settings, shared by all callers with the same ones
+     */
+    public static AsyncApiClient forSettings(ApiClientSettings settings) {
+        String key = settings.getBaseUrl() + "|" + settings.getConnectionTimeoutMillis() + "|" + settings.getReadTimeoutMillis();
+        return clients.computeIfAbsent(key, ignored -> new AsyncApiClient(settings));
+    }
+
+    public HttpClient getHttpClient() {
+        return httpClient;
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    /**
+     * Creates a request builder for the given path with the default JSON headers and read timeout
+     */
+    public HttpRequest.Builder newRequest(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(requestTimeout)
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,104 @@
+package core;
+
+import config.ConfigManager;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Threads for blocking workflows.
+ * <p>
+ * With {@code execution.virtual.threads} enabled on Java 21 or later, every task gets its own
+ * virtual thread, so thousands of blocking service calls can be in flight from one JVM. Otherwise
+ * tasks run on a bounded pool of daemon platform threads. Virtual threads are looked up
+ * reflectively, so the default build keeps targeting Java 11 (see the {@code java21} profile).
+ * The setting can also be passed as a system property.
+ */
+@Slf4j
+public class ExecutionThreads {
+
+    private static final Method ofVirtual;
+    private static final Method builderName;
+    private static final Method builderFactory;
+    private static final Method newThreadPerTaskExecutor;
+    private static final boolean virtual;
+
+    static {
+        Method ofVirtualMethod = null;
+        Method nameMethod = null;
+        Method factoryMethod = null;
+        Method perTaskMethod = null;
+        boolean requested = ConfigManager.getConfig().executionVirtualThreads();
+        if (requested) {
+            try {
+                Class<?> builder = Class.forName("java.lang.Thread$Builder");
+                ofVirtualMethod = Thread.class.getMethod("ofVirtual");
+                nameMethod = builder.getMethod("name", String.class, long.class);
+                factoryMethod = builder.getMethod("factory");
+                perTaskMethod = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            } catch (ReflectiveOperationException e) {
+                log.warn("Virtual threads requested but not available on Java {}; using platform threads",
+                        System.getProperty("java.specification.version"));
+                ofVirtualMethod = null;
+            }
+        }
+        ofVirtual = ofVirtualMethod;
+        builderName = nameMethod;
+        builderFactory = factoryMethod;
+        newThreadPerTaskExecutor = perTaskMethod;
+        virtual = ofVirtual != null;
+        log.info("Blocking workflows run on {} threads", virtual ? "virtual" : "platform");
+    }
+
+    public static boolean isVirtual() {
+        return virtual;
+    }
+
+    /**
+     * Number of blocking workflows to run at once: {@code execution.virtual.parallelism} on virtual
+     * threads, {@code parallel.thread.count} on platform threads
+     */
+    public static int parallelism() {
+        return virtual
+                ? ConfigManager.getConfig().executionVirtualParallelism()
+                : ConfigManager.getConfig().parallelThreadCount();
+    }
+
+    /**
+     * Thread factory naming threads {@code prefix-0}, {@code prefix-1}, ...
+     */
+    public static ThreadFactory threadFactory(String prefix) {
+        if (virtual) {
+            try {
+                Object builder = builderName.invoke(ofVirtual.invoke(null), prefix + "-", 0L);
+                return (ThreadFactory) builderFactory.invoke(builder);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Could not create a virtual thread factory", e);
+            }
+        }
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + counter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Executor starting one virtual thread per task, or a pool of {@code platformThreads} daemon threads
+     */
+    public static ExecutorService newExecutor(String prefix, int platformThreads) {
+        if (virtual) {
+            try {
+                return (ExecutorService) newThreadPerTaskExecutor.invoke(null, threadFactory(prefix));
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Could not create a virtual thread executor", e);
+            }
+        }
+        return Executors.newFixedThreadPool(Math.max(1, platformThreads), threadFactory(prefix));
+    }
+}
\ No newline at end of file
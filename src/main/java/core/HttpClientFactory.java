@@ -0,0 +1,222 @@
+package core;
+
+import config.ConfigManager;
+import config.EnvironmentConfig;
+import io.restassured.config.HttpClientConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.http.HeaderElement;
+import org.apache.http.HeaderElementIterator;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.params.ClientPNames;
+import org.apache.http.conn.ClientConnectionRequest;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.ManagedClientConnection;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.impl.conn.SchemeRegistryFactory;
+import org.apache.http.message.BasicHeaderElementIterator;
+import org.apache.http.params.CoreConnectionPNames;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.protocol.HTTP;
+import org.apache.http.protocol.HttpContext;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pooled HTTP clients for the REST Assured specifications.
+ * <p>
+ * Clients that verify certificates lease connections from one pool, and clients with relaxed
+ * HTTPS validation from another: REST Assured installs its trust-all socket factory in the scheme
+ * registry of the pool, so sharing it would turn verification off for every client. Each
+ * {@link ApiClient} may get its own client on top of its pool so its timeouts can differ from the
+ * default client's. The pool limits apply to each pool.
+ * <p>
+ * Pool size, keep-alive TTL, idle eviction and stale checking come from {@code http.pool.*}.
+ * A daemon thread closes expired and idle connections in the background, and the time threads
+ * spend waiting to lease a connection is tracked so an undersized pool is visible in
+ * {@link #getPoolStats()}.
+ */
+@Slf4j
+// REST Assured 5 needs the legacy AbstractHttpClient API, so it is confined to this class
+@SuppressWarnings("deprecation")
+public class HttpClientFactory {
+
+    private static final EnvironmentConfig config = ConfigManager.getConfig();
+    private static final Map<Boolean, MeasuredConnectionManager> connectionManagers = new ConcurrentHashMap<>();
+    private static final DefaultHttpClient httpClient = createHttpClient();
+    private static final ScheduledExecutorService evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "http-pool-evictor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    static {
+        long interval = config.httpPoolEvictionIntervalSeconds();
+        evictor.scheduleWithFixedDelay(HttpClientFactory::evictConnections, interval, interval, TimeUnit.SECONDS);
+        ConfigManager.addReloadListener(HttpClientFactory::applyTimeouts);
+        log.info("HTTP connection pool configured: max total {}, max per route {}, keep-alive {}s, idle eviction {}s",
+                config.httpPoolMaxTotal(), config.httpPoolMaxPerRoute(),
+                config.httpPoolKeepAliveSeconds(), config.httpPoolIdleTimeoutSeconds());
+    }
+
+    private static MeasuredConnectionManager createConnectionManager() {
+        MeasuredConnectionManager manager = new MeasuredConnectionManager(config.httpPoolKeepAliveSeconds());
+        manager.setMaxTotal(config.httpPoolMaxTotal());
+        manager.setDefaultMaxPerRoute(config.httpPoolMaxPerRoute());
+        return manager;
+    }
+
+    private static DefaultHttpClient createHttpClient() {
+        return newHttpClient(config.connectionTimeout(), config.readTimeout(), config.sslVerificationEnabled());
+    }
+
+    /**
+     * New client with its own timeouts, sharing the connection pool with every client of the same
+     * SSL verification mode
+     */
+    public static DefaultHttpClient newHttpClient(int connectionTimeoutMillis, int readTimeoutMillis, boolean sslVerification) {
+        DefaultHttpClient client = new DefaultHttpClient(
+                connectionManagers.computeIfAbsent(sslVerification, ignored -> createConnectionManager()));
+        client.getParams()
+                .setIntParameter(CoreConnectionPNames.CONNECTION_TIMEOUT, connectionTimeoutMillis)
+                .setIntParameter(CoreConnectionPNames.SO_TIMEOUT, readTimeoutMillis)
+                .setBooleanParameter(CoreConnectionPNames.STALE_CONNECTION_CHECK, config.httpPoolStaleCheckEnabled())
+                .setLongParameter(ClientPNames.CONN_MANAGER_TIMEOUT, config.httpPoolLeaseTimeoutMillis());
+        client.setKeepAliveStrategy(keepAliveStrategy(TimeUnit.SECONDS.toMillis(config.httpPoolKeepAliveSeconds())));
+        return client;
+    }
+
+    /**
+     * REST Assured configuration that reuses the shared pooled client for every request.
+     * Timeouts are set on the client itself, so a config reload changes them for all requests.
+     * Only for requests with the configured SSL verification ({@code ssl.verification.enabled}).
+     */
+    public static HttpClientConfig httpClientConfig() {
+        return httpClientConfig(httpClient);
+    }
+
+    /**
+     * REST Assured configuration that reuses the given client for every request
+     */
+    public static HttpClientConfig httpClientConfig(DefaultHttpClient client) {
+        return HttpClientConfig.httpClientConfig()
+                .httpClientFactory(() -> client)
+                .reuseHttpClientInstance();
+    }
+
+    private static void applyTimeouts(EnvironmentConfig reloaded) {
+        httpClient.getParams()
+                .setIntParameter(CoreConnectionPNames.CONNECTION_TIMEOUT, reloaded.connectionTimeout())
+                .setIntParameter(CoreConnectionPNames.SO_TIMEOUT, reloaded.readTimeout());
+        log.info("HTTP timeouts now connect {} ms, read {} ms", reloaded.connectionTimeout(), reloaded.readTimeout());
+    }
+
+    public static DefaultHttpClient getHttpClient() {
+        return httpClient;
+    }
+
+    /**
+     * Statistics summed over the pools of both SSL verification modes
+     */
+    public static HttpPoolStats getPoolStats() {
+        int leased = 0;
+        int available = 0;
+        int pending = 0;
+        int max = 0;
+        long leases = 0;
+        long leaseWaitNanos = 0;
+        long maxLeaseWaitNanos = 0;
+        for (MeasuredConnectionManager connectionManager : connectionManagers.values()) {
+            PoolStats stats = connectionManager.getTotalStats();
+            leased += stats.getLeased();
+            available += stats.getAvailable();
+            pending += stats.getPending();
+            max += stats.getMax();
+            leases += connectionManager.leases.sum();
+            leaseWaitNanos += connectionManager.leaseWaitNanos.sum();
+            maxLeaseWaitNanos = Math.max(maxLeaseWaitNanos, connectionManager.maxLeaseWaitNanos.get());
+        }
+        double totalWaitMillis = leaseWaitNanos / 1_000_000.0;
+        return new HttpPoolStats(leased, available, pending, max,
+                leases, leases == 0 ? 0 : totalWaitMillis / leases, maxLeaseWaitNanos / 1_000_000.0);
+    }
+
+    private static void evictConnections() {
+        try {
+            for (MeasuredConnectionManager connectionManager : connectionManagers.values()) {
+                connectionManager.closeExpiredConnections();
+                connectionManager.closeIdleConnections(config.httpPoolIdleTimeoutSeconds(), TimeUnit.SECONDS);
+            }
+            log.debug("HTTP pool after eviction: {}", getPoolStats());
+        } catch (RuntimeException e) {
+            log.warn("Idle connection eviction failed", e);
+        }
+    }
+
+    /**
+     * Keeps connections alive for as long as the server allows, but never beyond the configured TTL
+     */
+    private static ConnectionKeepAliveStrategy keepAliveStrategy(long maxKeepAliveMillis) {
+        return (HttpResponse response, HttpContext context) -> {
+            HeaderElementIterator elements = new BasicHeaderElementIterator(response.headerIterator(HTTP.CONN_KEEP_ALIVE));
+            while (elements.hasNext()) {
+                HeaderElement element = elements.nextElement();
+                if ("timeout".equalsIgnoreCase(element.getName()) && element.getValue() != null) {
+                    try {
+                        return Math.min(maxKeepAliveMillis, Long.parseLong(element.getValue()) * 1000);
+                    } catch (NumberFormatException ignored) {
+                        // Fall back to the configured TTL
+                    }
+                }
+            }
+            return maxKeepAliveMillis;
+        };
+    }
+
+    /**
+     * Pooling connection manager that records how long each lease waited for a free connection
+     */
+    private static class MeasuredConnectionManager extends PoolingClientConnectionManager {
+
+        private final LongAdder leases = new LongAdder();
+        private final LongAdder leaseWaitNanos = new LongAdder();
+        private final AtomicLong maxLeaseWaitNanos = new AtomicLong();
+
+        private MeasuredConnectionManager(long timeToLiveSeconds) {
+            super(SchemeRegistryFactory.createDefault(), timeToLiveSeconds, TimeUnit.SECONDS);
+        }
+
+        @Override
+        public ClientConnectionRequest requestConnection(HttpRoute route, Object state) {
+            ClientConnectionRequest request = super.requestConnection(route, state);
+            return new ClientConnectionRequest() {
+                @Override
+                public ManagedClientConnection getConnection(long timeout, TimeUnit unit)
+                        throws InterruptedException, ConnectionPoolTimeoutException {
+                    long start = System.nanoTime();
+                    try {
+                        return request.getConnection(timeout, unit);
+                    } finally {
+                        long waited = System.nanoTime() - start;
+                        leases.increment();
+                        leaseWaitNanos.add(waited);
+                        maxLeaseWaitNanos.accumulateAndGet(waited, Math::max);
+                    }
+                }
+
+                @Override
+                public void abortRequest() {
+                    request.abortRequest();
+                }
+            };
+        }
+    }
+}
\ No newline at end of file
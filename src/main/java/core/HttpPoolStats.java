@@ -0,0 +1,24 @@
+package core;
+
+import lombok.Value;
+
+/**
+ * Point-in-time view of the shared connection pool
+ */
+@Value
+public class HttpPoolStats {
+
+    int leased;
+    int available;
+    int pending;
+    int max;
+    long leases;
+    double averageLeaseWaitMillis;
+    double maxLeaseWaitMillis;
+
+    @Override
+    public String toString() {
+        return String.format("leased=%d available=%d pending=%d max=%d leases=%d leaseWait(avg=%.2fms, max=%.2fms)",
+                leased, available, pending, max, leases, averageLeaseWaitMillis, maxLeaseWaitMillis);
+    }
+}
\ No newline at end of file
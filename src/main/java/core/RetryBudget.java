@@ -0,0 +1,58 @@
+package core;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket that limits retries to a share of the traffic across the whole run.
+ * <p>
+ * Every new operation deposits {@code percent / 100} of a token and every retry withdraws a whole
+ * one, so when most calls fail the retry volume converges to that percentage instead of
+ * multiplying the load. The bucket starts full and never holds more than {@code burst} tokens,
+ * which lets isolated failures retry freely.
+ */
+@Slf4j
+public class RetryBudget {
+
+    private static final long SCALE = 1000;
+
+    private final AtomicLong balance;
+    private final long deposit;
+    private final long capacity;
+
+    public RetryBudget(int percent, int burst) {
+        if (percent < 0 || burst < 0) {
+            throw new IllegalArgumentException("Retry budget percent and burst must not be negative");
+        }
+        this.deposit = percent * SCALE / 100;
+        this.capacity = burst * SCALE;
+        this.balance = new AtomicLong(capacity);
+    }
+
+    /**
+     * Records a new (non-retry) operation
+     */
+    public void onRequest() {
+        balance.accumulateAndGet(deposit, (current, amount) -> Math.min(capacity, current + amount));
+    }
+
+    /**
+     * Whether a retry token is available, without taking it
+     */
+    public boolean hasRetry() {
+        return balance.get() >= SCALE;
+    }
+
+    /**
+     * Takes one token for a retry that is about to run; concurrent retries admitted by
+     * {@link #hasRetry()} may empty the bucket but never overdraw it
+     */
+    public void withdrawRetry() {
+        balance.accumulateAndGet(SCALE, (current, amount) -> Math.max(0, current - amount));
+    }
+
+    public double availableRetries() {
+        return balance.get() / (double) SCALE;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,112 @@
+package core;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.restassured.response.Response;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.net.ssl.SSLHandshakeException;
+import java.io.IOException;
+import java.net.UnknownHostException;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Decides which failures are worth retrying.
+ * <p>
+ * Transient transport problems (connection reset or refused, timeouts) and throttling or gateway
+ * statuses are retryable. Configuration and programming errors (unknown host, TLS handshake,
+ * malformed JSON, illegal arguments or state) fail immediately, as do assertion errors from
+ * response validation. Other runtime exceptions are treated as transient.
+ */
+@Slf4j
+public class RetryClassifier {
+
+    private static final String RETRY_AFTER = "Retry-After";
+
+    public static boolean isRetryable(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof CompletionException || cause instanceof ExecutionException) {
+                continue;
+            }
+            if (cause instanceof RetryableStatusException) {
+                return true;
+            }
+            if (cause instanceof UnknownHostException
+                    || cause instanceof SSLHandshakeException
+                    || cause instanceof JsonProcessingException
+                    || cause instanceof IllegalArgumentException
+                    || cause instanceof IllegalStateException
+                    || cause instanceof Error) {
+                return false;
+            }
+            if (cause instanceof IOException) {
+                // Connection reset/refused, socket and request timeouts, no response
+                return true;
+            }
+            if (cause.getCause() == null) {
+                return cause instanceof RuntimeException;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the Retry-After hint carried by the failure, or null when there is none
+     */
+    public static Duration retryAfterOf(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof RetryableStatusException) {
+                return ((RetryableStatusException) cause).getRetryAfter();
+            }
+        }
+        return null;
+    }
+
+    public static boolean isRetryableStatus(int statusCode) {
+        return statusCode == 429 || statusCode == 502 || statusCode == 503 || statusCode == 504;
+    }
+
+    /**
+     * Throws {@link RetryableStatusException} when the response asks the client to come back later
+     */
+    public static void throwIfRetryable(Response response) {
+        if (isRetryableStatus(response.getStatusCode())) {
+            throw new RetryableStatusException(response.getStatusCode(), parseRetryAfter(response.getHeader(RETRY_AFTER)));
+        }
+    }
+
+    public static void throwIfRetryable(HttpResponse<?> response) {
+        if (isRetryableStatus(response.statusCode())) {
+            throw new RetryableStatusException(response.statusCode(),
+                    parseRetryAfter(response.headers().firstValue(RETRY_AFTER).orElse(null)));
+        }
+    }
+
+    /**
+     * Parses a Retry-After header given either as delay seconds or as an HTTP date
+     */
+    public static Duration parseRetryAfter(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String trimmed = value.trim();
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(trimmed)));
+        } catch (NumberFormatException ignored) {
+            // Not delay seconds, try the HTTP date form
+        }
+        try {
+            Duration delay = Duration.between(ZonedDateTime.now(),
+                    ZonedDateTime.parse(trimmed, DateTimeFormatter.RFC_1123_DATE_TIME));
+            return delay.isNegative() ? Duration.ZERO : delay;
+        } catch (DateTimeParseException e) {
+            log.debug("Ignoring unparseable Retry-After header: {}", value);
+            return null;
+        }
+    }
+}
\ No newline at end of file
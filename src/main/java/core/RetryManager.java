@@ -2,30 +2,66 @@ package core;
 
 import config.ConfigManager;
 import dev.failsafe.Failsafe;
+import dev.failsafe.ExecutionContext;
+import dev.failsafe.FailsafeExecutor;
 import dev.failsafe.RetryPolicy;
+import dev.failsafe.Timeout;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Supplier;
 
+/**
+ * Shared retry policy for service calls.
+ * <p>
+ * Only failures that {@link RetryClassifier} considers transient are retried. Delays grow
+ * exponentially from {@code retry.backoff.base.millis} up to {@code retry.delay.seconds} with full
+ * jitter, and a server Retry-After hint is used when it asks for longer. Retries draw from a
+ * run-wide {@link RetryBudget}, and all attempts of one operation share the
+ * {@code retry.deadline.seconds} deadline.
+ */
 @Slf4j
 public class RetryManager {
     
+    private static final long baseDelayMillis = ConfigManager.getConfig().retryBackoffBaseMillis();
+    private static final long maxDelayMillis = Duration.ofSeconds(ConfigManager.getConfig().retryDelaySeconds()).toMillis();
+    private static final Duration deadline = Duration.ofSeconds(ConfigManager.getConfig().retryDeadlineSeconds());
+    private static final RetryBudget retryBudget = new RetryBudget(
+            ConfigManager.getConfig().retryBudgetPercent(), ConfigManager.getConfig().retryBudgetBurst());
+    
     private static final RetryPolicy<Object> retryPolicy = RetryPolicy.builder()
-            .handle(Exception.class)
-            .withDelay(Duration.ofSeconds(ConfigManager.getConfig().retryDelaySeconds()))
+            .handleIf((result, failure) -> failure != null && RetryClassifier.isRetryable(failure))
+            .abortIf((result, failure) -> failure != null && RetryClassifier.isRetryable(failure) && !retryBudget.hasRetry())
+            .withDelayFn(context -> backoff(context.getAttemptCount(), context.getLastException()))
             .withMaxRetries(ConfigManager.getConfig().maxRetryAttempts())
-            .onRetry(event -> log.warn("Retry attempt {} for operation", event.getAttemptCount()))
+            .withMaxDuration(deadline)
+            .onRetry(event -> {
+                // Taken only for retries that actually run, not ones stopped by the deadline
+                retryBudget.withdrawRetry();
+                log.warn("Retry attempt {} for operation after: {}",
+                        event.getAttemptCount(), event.getLastException().toString());
+            })
+            .onAbort(event -> log.warn("Retry budget exhausted, not retrying: {}", String.valueOf(event.getException())))
             .onFailure(event -> log.error("Operation failed after {} attempts", event.getAttemptCount()))
             .build();
     
+    private static final Timeout<Object> deadlinePolicy = Timeout.of(deadline);
+    private static final FailsafeExecutor<Object> executor = Failsafe.with(deadlinePolicy, retryPolicy);
+    
+    // Set while an attempt runs, so request metrics can count retries per endpoint
+    private static final ThreadLocal<Boolean> retryAttempt = ThreadLocal.withInitial(() -> Boolean.FALSE);
+    
     /**
      * Execute operation with retry policy for operations that return a value
      * @param operation Supplier that returns a value
      * @return Result of the operation
      */
     public static <T> T executeWithRetry(Supplier<T> operation) {
-        return Failsafe.with(retryPolicy).get(() -> operation.get());
+        retryBudget.onRequest();
+        return executor.get(context -> attempt(context, operation));
     }
     
     /**
@@ -33,7 +69,21 @@ public class RetryManager {
      * @param operation Runnable operation to execute
      */
     public static void executeWithRetry(Runnable operation) {
-        Failsafe.with(retryPolicy).run(() -> operation.run());
+        retryBudget.onRequest();
+        executor.run(context -> attempt(context, () -> {
+            operation.run();
+            return null;
+        }));
+    }
+    
+    /**
+     * Execute asynchronous operation with retry policy without blocking the calling thread
+     * @param operation Supplier that starts the operation and returns its completion stage
+     * @return Future completed with the result of the first successful attempt
+     */
+    public static <T> CompletableFuture<T> executeWithRetryAsync(Supplier<? extends CompletionStage<T>> operation) {
+        retryBudget.onRequest();
+        return executor.getStageAsync(context -> attempt(context, operation));
     }
     
     /**
@@ -61,4 +111,45 @@ public class RetryManager {
                 .onFailure(event -> log.error("Custom retry failed after {} attempts", event.getAttemptCount()))
                 .build();
     }
+    
+    /**
+     * Whether the operation running on this thread is a retry of an earlier failed attempt.
+     * For async operations this holds while the supplier starts the request.
+     */
+    public static boolean isRetryAttempt() {
+        return retryAttempt.get();
+    }
+    
+    public static RetryBudget getRetryBudget() {
+        return retryBudget;
+    }
+    
+    /**
+     * Full-jitter exponential backoff: a random delay up to base * 2^(attempt - 1), capped at the
+     * configured maximum, but never shorter than the server's Retry-After
+     * @param attempt Number of attempts made so far
+     * @param failure Failure of the last attempt
+     * @return Delay before the next attempt
+     */
+    static Duration backoff(int attempt, Throwable failure) {
+        int exponent = Math.min(Math.max(attempt - 1, 0), 30);
+        long ceiling = Math.min(maxDelayMillis, baseDelayMillis << exponent);
+        long delayMillis = ThreadLocalRandom.current().nextLong(ceiling + 1);
+        
+        Duration retryAfter = RetryClassifier.retryAfterOf(failure);
+        if (retryAfter != null && retryAfter.toMillis() > delayMillis) {
+            return retryAfter;
+        }
+        return Duration.ofMillis(delayMillis);
+    }
+    
+    private static <T> T attempt(ExecutionContext<?> context, Supplier<T> operation) {
+        Boolean previous = retryAttempt.get();
+        retryAttempt.set(context.isRetry());
+        try {
+            return operation.get();
+        } finally {
+            retryAttempt.set(previous);
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,25 @@
+package core;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Raised for responses whose status means "try again later" (429, 502, 503, 504).
+ * Carries the server's Retry-After hint, if any, so the backoff can honour it.
+ */
+@Getter
+public class RetryableStatusException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int statusCode;
+    private final Duration retryAfter;
+
+    public RetryableStatusException(int statusCode, Duration retryAfter) {
+        super("Retryable response status " + statusCode
+                + (retryAfter != null ? " (Retry-After " + retryAfter.toMillis() + "ms)" : ""));
+        this.statusCode = statusCode;
+        this.retryAfter = retryAfter;
+    }
+}
\ No newline at end of file
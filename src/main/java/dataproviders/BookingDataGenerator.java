@@ -0,0 +1,163 @@
+package dataproviders;
+
+import config.ConfigManager;
+import lombok.extern.slf4j.Slf4j;
+import models.booking.BookingDates;
+import models.booking.BookingRequest;
+import models.booking.PartialBookingRequest;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Seeded, thread-safe generator of booking test data.
+ * <p>
+ * Every value is derived from a hash of the seed and the item index, so {@code booking(n)} returns
+ * the same booking for the same seed on any thread, run or shard, and no lock or shared random
+ * state is involved. Names come from fixed dictionaries and dates from strings precomputed
+ * relative to a fixed base date, so generating a booking allocates little more than the model
+ * objects themselves. The seed comes from {@code data.seed} (system property or environment file); 0 picks a
+ * random seed and logs it.
+ */
+@Slf4j
+public class BookingDataGenerator {
+
+    private static final String[] FIRST_NAMES = {
+            "James", "Mary", "John", "Patricia", "Robert", "Jennifer", "Michael", "Linda",
+            "William", "Elizabeth", "David", "Barbara", "Richard", "Susan", "Joseph", "Jessica",
+            "Thomas", "Sarah", "Charles", "Karen", "Daniel", "Nancy", "Matthew", "Lisa",
+            "Anthony", "Betty", "Mark", "Margaret", "Donald", "Sandra", "Steven", "Ashley",
+            "Paul", "Kimberly", "Andrew", "Emily", "Joshua", "Donna", "Kenneth", "Michelle",
+            "Kevin", "Carol", "Brian", "Amanda", "George", "Melissa", "Edward", "Deborah",
+            "Ronald", "Stephanie", "Timothy", "Rebecca", "Jason", "Laura", "Jeffrey", "Sharon",
+            "Ryan", "Cynthia", "Jacob", "Kathleen", "Gary", "Amy", "Nicholas", "Shirley"
+    };
+    private static final String[] LAST_NAMES = {
+            "Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis",
+            "Rodriguez", "Martinez", "Hernandez", "Lopez", "Gonzalez", "Wilson", "Anderson", "Thomas",
+            "Taylor", "Moore", "Jackson", "Martin", "Lee", "Perez", "Thompson", "White",
+            "Harris", "Sanchez", "Clark", "Ramirez", "Lewis", "Robinson", "Walker", "Young",
+            "Allen", "King", "Wright", "Scott", "Torres", "Nguyen", "Hill", "Flores",
+            "Green", "Adams", "Nelson", "Baker", "Hall", "Rivera", "Campbell", "Mitchell",
+            "Carter", "Roberts", "Gomez", "Phillips", "Evans", "Turner", "Diaz", "Parker",
+            "Cruz", "Edwards", "Collins", "Reyes", "Stewart", "Morris", "Morales", "Murphy"
+    };
+    private static final String[] ADDITIONAL_NEEDS = {
+            "Breakfast", "Lunch", "Dinner", "Late checkout", "Early checkin", "Parking",
+            "Airport transfer", "Extra bed", "Sea view", "Quiet room", "Crib", "Gym access"
+    };
+
+    private static final LocalDate BASE_DATE = LocalDate.of(2025, 1, 1);
+    private static final int CHECKIN_DAYS = 730;
+    private static final int MAX_NIGHTS = 14;
+    private static final String[] DATES = new String[CHECKIN_DAYS + MAX_NIGHTS + 1];
+
+    static {
+        for (int day = 0; day < DATES.length; day++) {
+            DATES[day] = BASE_DATE.plusDays(day).format(DateTimeFormatter.ISO_LOCAL_DATE);
+        }
+    }
+
+    private static final BookingDataGenerator defaultGenerator = new BookingDataGenerator(resolveSeed());
+
+    private final long seed;
+    private final AtomicLong sequence = new AtomicLong();
+
+    public BookingDataGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    public static BookingDataGenerator defaultGenerator() {
+        return defaultGenerator;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Next booking in this generator's sequence
+     */
+    public BookingRequest nextBooking() {
+        return booking(sequence.getAndIncrement());
+    }
+
+    public PartialBookingRequest nextPartialBooking() {
+        return partialBooking(sequence.getAndIncrement());
+    }
+
+    public long nextIndex() {
+        return sequence.getAndIncrement();
+    }
+
+    /**
+     * The booking at the given position of the dataset; identical for the same seed and index
+     */
+    public BookingRequest booking(long index) {
+        long hash = mix(seed + index * 0x9E3779B97F4A7C15L);
+        long second = mix(hash);
+        return BookingRequest.builder()
+                .firstname(pick(FIRST_NAMES, hash))
+                .lastname(pick(LAST_NAMES, hash >>> 16))
+                .totalprice(100 + (int) Long.remainderUnsigned(hash >>> 32, 1900))
+                .depositpaid((second & 1) == 0)
+                .bookingdates(dates(second >>> 1, false))
+                .additionalneeds(pick(ADDITIONAL_NEEDS, second >>> 24))
+                .build();
+    }
+
+    public PartialBookingRequest partialBooking(long index) {
+        long hash = mix(~seed + index * 0x9E3779B97F4A7C15L);
+        return PartialBookingRequest.builder()
+                .firstname(pick(FIRST_NAMES, hash))
+                .lastname(pick(LAST_NAMES, hash >>> 16))
+                .build();
+    }
+
+    public BookingDates bookingDates(long index) {
+        return dates(mix(seed ^ index), false);
+    }
+
+    /**
+     * Dates with checkout before checkin
+     */
+    public BookingDates invalidBookingDates(long index) {
+        return dates(mix(seed ^ index), true);
+    }
+
+    private static BookingDates dates(long hash, boolean reversed) {
+        int checkin = (int) Long.remainderUnsigned(hash, CHECKIN_DAYS);
+        int checkout = checkin + 1 + (int) Long.remainderUnsigned(hash >>> 32, MAX_NIGHTS);
+        return BookingDates.builder()
+                .checkin(DATES[reversed ? checkout : checkin])
+                .checkout(DATES[reversed ? checkin : checkout])
+                .build();
+    }
+
+    private static String pick(String[] values, long hash) {
+        return values[(int) Long.remainderUnsigned(hash, values.length)];
+    }
+
+    /**
+     * SplitMix64 finalizer: a fast, well-distributed 64-bit hash
+     */
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+
+    private static long resolveSeed() {
+        // -Ddata.seed overrides the files, so a single run or shard can be replayed without editing them
+        long seed = ConfigManager.getConfig().dataSeed();
+        if (seed == 0) {
+            seed = ThreadLocalRandom.current().nextLong();
+            log.info("Generated test data seed {} (set data.seed to reproduce)", seed);
+        } else {
+            log.info("Using test data seed {}", seed);
+        }
+        return seed;
+    }
+}
\ No newline at end of file
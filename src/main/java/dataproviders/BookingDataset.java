@@ -0,0 +1,17 @@
+package dataproviders;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Names the JSONL or CSV file that {@link BookingDatasetProvider} streams into a test method:
+ * a file path, or a resource under {@code testdata/} on the classpath
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface BookingDataset {
+
+    String value();
+}
\ No newline at end of file
@@ -0,0 +1,59 @@
+package dataproviders;
+
+import config.ConfigManager;
+import org.testng.annotations.DataProvider;
+
+import java.lang.reflect.Method;
+import java.util.Iterator;
+
+/**
+ * Data providers that stream the {@link BookingDataset} of the test method, one booking per invocation.
+ * <pre>
+ * &#64;BookingDataset("bookings.jsonl")
+ * &#64;Test(dataProvider = BookingDatasetProvider.PARALLEL, dataProviderClass = BookingDatasetProvider.class)
+ * public void testCreateBooking(BookingRequest booking) { ... }
+ * </pre>
+ * Rows are split between JVMs by {@code data.shard.index} and {@code data.shard.count}. The parallel
+ * provider runs rows on the suite's {@code data-provider-thread-count} threads
+ * ({@code -Ddataprovider.thread.count} with Maven).
+ * <p>
+ * Only the sequential provider streams in constant memory. TestNG reads every row of a parallel
+ * data provider before running the first one, so the parallel provider holds the whole shard and
+ * fails once it has more than {@code data.parallel.max.rows} rows; run larger datasets sequentially,
+ * over more shards, or through {@link services.BulkExecutor} with a bounded window.
+ */
+public class BookingDatasetProvider {
+
+    public static final String SEQUENTIAL = "bookingDataset";
+    public static final String PARALLEL = "bookingDatasetParallel";
+
+    @DataProvider(name = SEQUENTIAL)
+    public static Iterator<Object[]> bookingDataset(Method method) {
+        return rows(method, Long.MAX_VALUE);
+    }
+
+    @DataProvider(name = PARALLEL, parallel = true)
+    public static Iterator<Object[]> bookingDatasetParallel(Method method) {
+        return rows(method, maxParallelRows());
+    }
+
+    public static int shardIndex() {
+        return ConfigManager.getConfig().dataShardIndex();
+    }
+
+    public static int shardCount() {
+        return ConfigManager.getConfig().dataShardCount();
+    }
+
+    public static int maxParallelRows() {
+        return ConfigManager.getConfig().dataParallelMaxRows();
+    }
+
+    private static Iterator<Object[]> rows(Method method, long maxRows) {
+        BookingDataset dataset = method.getAnnotation(BookingDataset.class);
+        if (dataset == null) {
+            throw new IllegalStateException(method.getName() + " needs a @BookingDataset annotation");
+        }
+        return BookingRowIterator.open(dataset.value(), shardIndex(), shardCount(), maxRows);
+    }
+}
\ No newline at end of file
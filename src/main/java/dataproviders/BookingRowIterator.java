@@ -0,0 +1,225 @@
+package dataproviders;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import lombok.extern.slf4j.Slf4j;
+import models.booking.BookingDates;
+import models.booking.BookingRequest;
+import utils.JsonCodec;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Streams {@link BookingRequest} rows from a JSONL or CSV file, one line at a time.
+ * <p>
+ * Only the current line is held in memory, so datasets of any size can back a data provider.
+ * With {@code shardCount > 1} only rows whose zero-based index satisfies
+ * {@code index % shardCount == shardIndex} are returned; the others are read past without being
+ * parsed, which lets several JVMs split one file between them. CSV files need a header row naming
+ * the columns {@code firstname, lastname, totalprice, depositpaid, checkin, checkout, additionalneeds}
+ * in any order; quoted fields may contain commas and doubled quotes but not line breaks.
+ * The reader is closed once the last row is returned. Instances are not thread-safe: TestNG pulls
+ * rows from a single thread, even for parallel data providers.
+ */
+@Slf4j
+public class BookingRowIterator implements Iterator<Object[]>, AutoCloseable {
+
+    private static final ObjectReader bookingReader = JsonCodec.readerFor(BookingRequest.class);
+
+    private final String source;
+    private final BufferedReader reader;
+    private final boolean csv;
+    private final int shardIndex;
+    private final int shardCount;
+    private final long maxRows;
+    private Map<String, Integer> columns;
+    private long rowIndex;
+    private long lineNumber;
+    private long returned;
+    private BookingRequest next;
+    private boolean closed;
+
+    private BookingRowIterator(String source, InputStream inputStream, int shardIndex, int shardCount, long maxRows) {
+        if (shardCount < 1 || shardIndex < 0 || shardIndex >= shardCount) {
+            throw new IllegalArgumentException("Invalid shard " + shardIndex + " of " + shardCount);
+        }
+        if (maxRows < 1) {
+            throw new IllegalArgumentException("Invalid row limit " + maxRows);
+        }
+        this.source = source;
+        this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        this.csv = source.toLowerCase().endsWith(".csv");
+        this.shardIndex = shardIndex;
+        this.shardCount = shardCount;
+        this.maxRows = maxRows;
+    }
+
+    /**
+     * Opens every row of a file path, or of a resource under {@code testdata/} on the classpath
+     */
+    public static BookingRowIterator open(String source) {
+        return open(source, 0, 1);
+    }
+
+    public static BookingRowIterator open(String source, int shardIndex, int shardCount) {
+        return open(source, shardIndex, shardCount, Long.MAX_VALUE);
+    }
+
+    /**
+     * Opens the rows of a shard, failing with an {@link IllegalStateException} if it has more than
+     * {@code maxRows} of them
+     */
+    public static BookingRowIterator open(String source, int shardIndex, int shardCount, long maxRows) {
+        try {
+            Path path = Paths.get(source);
+            InputStream inputStream = Files.isRegularFile(path)
+                    ? Files.newInputStream(path)
+                    : BookingRowIterator.class.getClassLoader().getResourceAsStream("testdata/" + source);
+            if (inputStream == null) {
+                throw new RuntimeException("Booking dataset not found: " + source);
+            }
+            log.info("Streaming booking dataset {} (shard {} of {})", source, shardIndex, shardCount);
+            return new BookingRowIterator(source, inputStream, shardIndex, shardCount, maxRows);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open booking dataset " + source, e);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !closed) {
+            next = readNext();
+        }
+        return next != null;
+    }
+
+    @Override
+    public Object[] next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        BookingRequest booking = next;
+        next = null;
+        return new Object[]{booking};
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            reader.close();
+        } catch (IOException e) {
+            log.debug("Closing booking dataset {} failed", source, e);
+        }
+    }
+
+    private BookingRequest readNext() {
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (csv && columns == null) {
+                    columns = header(line);
+                    continue;
+                }
+                if (rowIndex++ % shardCount != shardIndex) {
+                    continue;
+                }
+                if (returned++ == maxRows) {
+                    close();
+                    throw new IllegalStateException("Booking dataset " + source + " has more than " + maxRows
+                            + " rows in shard " + shardIndex + " of " + shardCount);
+                }
+                return csv ? fromCsv(line) : bookingReader.readValue(line);
+            }
+            close();
+            return null;
+        } catch (IOException e) {
+            close();
+            throw new UncheckedIOException("Failed to read line " + lineNumber + " of " + source, e);
+        }
+    }
+
+    private Map<String, Integer> header(String line) {
+        List<String> names = splitCsv(line);
+        Map<String, Integer> header = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            header.put(names.get(i).trim().toLowerCase(), i);
+        }
+        return header;
+    }
+
+    private BookingRequest fromCsv(String line) {
+        List<String> values = splitCsv(line);
+        try {
+            return BookingRequest.builder()
+                    .firstname(column(values, "firstname"))
+                    .lastname(column(values, "lastname"))
+                    .totalprice(Integer.parseInt(column(values, "totalprice").trim()))
+                    .depositpaid(Boolean.parseBoolean(column(values, "depositpaid").trim()))
+                    .bookingdates(BookingDates.builder()
+                            .checkin(column(values, "checkin"))
+                            .checkout(column(values, "checkout"))
+                            .build())
+                    .additionalneeds(column(values, "additionalneeds"))
+                    .build();
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid booking on line " + lineNumber + " of " + source, e);
+        }
+    }
+
+    private String column(List<String> values, String name) {
+        Integer index = columns.get(name);
+        if (index == null) {
+            throw new IllegalArgumentException("Missing column " + name);
+        }
+        return index < values.size() ? values.get(index) : "";
+    }
+
+    private static List<String> splitCsv(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    value.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        values.add(value.toString());
+        return values;
+    }
+}
\ No newline at end of file
@@ -1,21 +1,16 @@
 package dataproviders;
 
-import com.github.javafaker.Faker;
 import lombok.extern.slf4j.Slf4j;
 import models.booking.BookingDates;
 import models.booking.BookingRequest;
 
-import java.text.SimpleDateFormat;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ThreadLocalRandom;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 @Slf4j
 public class SecureTestDataManager {
     
-    private static final Faker faker = new Faker();
-    private static final SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd");
+    private static final BookingDataGenerator generator = BookingDataGenerator.defaultGenerator();
     private static final AtomicInteger bookingCounter = new AtomicInteger(1);
     private static final ConcurrentHashMap<String, Object> testDataCache = new ConcurrentHashMap<>();
     
@@ -26,14 +21,9 @@ public class SecureTestDataManager {
         String threadId = Thread.currentThread().getName();
         int uniqueId = bookingCounter.getAndIncrement();
         
-        BookingRequest booking = BookingRequest.builder()
-                .firstname(faker.name().firstName() + "_" + uniqueId)
-                .lastname(faker.name().lastName() + "_" + threadId)
-                .totalprice(ThreadLocalRandom.current().nextInt(100, 2000))
-                .depositpaid(ThreadLocalRandom.current().nextBoolean())
-                .bookingdates(createValidBookingDates())
-                .additionalneeds(faker.lorem().word())
-                .build();
+        BookingRequest booking = generator.booking(uniqueId);
+        booking.setFirstname(booking.getFirstname() + "_" + uniqueId);
+        booking.setLastname(booking.getLastname() + "_" + threadId);
         
         // Cache for cleanup
         String key = threadId + "_" + uniqueId;
@@ -47,14 +37,13 @@ public class SecureTestDataManager {
      * Creates booking with international characters
      */
     public static BookingRequest createInternationalBookingRequest() {
-        return BookingRequest.builder()
-                .firstname("José_" + bookingCounter.getAndIncrement())
-                .lastname("Müller_" + Thread.currentThread().getName())
-                .totalprice(faker.number().numberBetween(100, 2000))
-                .depositpaid(true)
-                .bookingdates(createValidBookingDates())
-                .additionalneeds("Café ☕")
-                .build();
+        int uniqueId = bookingCounter.getAndIncrement();
+        BookingRequest booking = generator.booking(uniqueId);
+        booking.setFirstname("José_" + uniqueId);
+        booking.setLastname("Müller_" + Thread.currentThread().getName());
+        booking.setDepositpaid(true);
+        booking.setAdditionalneeds("Café ☕");
+        return booking;
     }
     
     /**
@@ -72,10 +61,7 @@ public class SecureTestDataManager {
     }
     
     private static BookingDates createValidBookingDates() {
-        return BookingDates.builder()
-                .checkin(dateFormat.format(faker.date().past(10, TimeUnit.DAYS)))
-                .checkout(dateFormat.format(faker.date().future(5, TimeUnit.DAYS)))
-                .build();
+        return generator.bookingDates(generator.nextIndex());
     }
     
     /**
@@ -0,0 +1,215 @@
+package metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Request metrics for one method and templated path.
+ * <p>
+ * Every counter is a striped {@link LongAdder}, so concurrent threads recording the same endpoint
+ * do not contend on a single cache line. Latencies are counted in fixed buckets that map directly
+ * onto a Prometheus histogram; percentiles are estimated from those buckets.
+ */
+public class EndpointMetrics implements EndpointMetricsMXBean {
+
+    /** Status recorded when the request failed before a response arrived */
+    public static final int TRANSPORT_ERROR = 0;
+
+    /** Upper bucket bounds in microseconds; one extra bucket holds everything slower */
+    static final long[] BUCKET_BOUNDS_MICROS = {
+            1_000, 2_500, 5_000, 10_000, 25_000, 50_000, 100_000, 250_000,
+            500_000, 1_000_000, 2_500_000, 5_000_000, 10_000_000
+    };
+
+    private final String method;
+    private final String path;
+    private final LongAdder[] buckets = new LongAdder[BUCKET_BOUNDS_MICROS.length + 1];
+    private final LongAdder latencySumMicros = new LongAdder();
+    private final LongAccumulator latencyMaxMicros = new LongAccumulator(Math::max, 0);
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder requestBytes = new LongAdder();
+    private final LongAdder responseBytes = new LongAdder();
+    private final Map<Integer, LongAdder> statusCounts = new ConcurrentHashMap<>();
+
+    public EndpointMetrics(String method, String path) {
+        this.method = method;
+        this.path = path;
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records one exchange
+     * @param status HTTP status code, or {@link #TRANSPORT_ERROR} when no response was received
+     * @param latencyNanos Time from sending the request to receiving the response
+     * @param sentBytes Size of the request body
+     * @param receivedBytes Size of the response body
+     * @param retry Whether the exchange was a retry of an earlier failed attempt
+     */
+    public void record(int status, long latencyNanos, long sentBytes, long receivedBytes, boolean retry) {
+        long latencyMicros = TimeUnit.NANOSECONDS.toMicros(latencyNanos);
+        buckets[bucketIndex(latencyMicros)].increment();
+        latencySumMicros.add(latencyMicros);
+        latencyMaxMicros.accumulate(latencyMicros);
+
+        LongAdder statusCount = statusCounts.get(status);
+        if (statusCount == null) {
+            statusCount = statusCounts.computeIfAbsent(status, key -> new LongAdder());
+        }
+        statusCount.increment();
+
+        if (status == TRANSPORT_ERROR || status >= 400) {
+            errors.increment();
+        }
+        if (retry) {
+            retries.increment();
+        }
+        requestBytes.add(sentBytes);
+        responseBytes.add(receivedBytes);
+    }
+
+    @Override
+    public String getMethod() {
+        return method;
+    }
+
+    @Override
+    public String getPath() {
+        return path;
+    }
+
+    @Override
+    public long getRequestCount() {
+        long count = 0;
+        for (LongAdder bucket : buckets) {
+            count += bucket.sum();
+        }
+        return count;
+    }
+
+    @Override
+    public long getErrorCount() {
+        return errors.sum();
+    }
+
+    @Override
+    public long getRetryCount() {
+        return retries.sum();
+    }
+
+    @Override
+    public long getRequestBytes() {
+        return requestBytes.sum();
+    }
+
+    @Override
+    public long getResponseBytes() {
+        return responseBytes.sum();
+    }
+
+    @Override
+    public double getMeanMillis() {
+        long count = getRequestCount();
+        return count == 0 ? 0 : latencySumMicros.sum() / 1000.0 / count;
+    }
+
+    @Override
+    public double getMaxMillis() {
+        return latencyMaxMicros.get() / 1000.0;
+    }
+
+    @Override
+    public double getP50Millis() {
+        return percentileMillis(50);
+    }
+
+    @Override
+    public double getP95Millis() {
+        return percentileMillis(95);
+    }
+
+    @Override
+    public double getP99Millis() {
+        return percentileMillis(99);
+    }
+
+    @Override
+    public Map<String, Long> getStatusCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        statusCounts.forEach((status, count) -> counts.put(statusLabel(status), count.sum()));
+        return counts;
+    }
+
+    /**
+     * Estimates a percentile by interpolating linearly inside the bucket that contains it.
+     * Values in the overflow bucket are reported as the observed maximum.
+     */
+    public double percentileMillis(double percentile) {
+        long[] counts = bucketCounts();
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        double rank = Math.max(1, Math.ceil(percentile / 100.0 * total));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0 && seen + counts[i] >= rank) {
+                if (i == BUCKET_BOUNDS_MICROS.length) {
+                    return getMaxMillis();
+                }
+                long lower = i == 0 ? 0 : BUCKET_BOUNDS_MICROS[i - 1];
+                long upper = Math.min(BUCKET_BOUNDS_MICROS[i], Math.max(lower, latencyMaxMicros.get()));
+                return (lower + (upper - lower) * ((rank - seen) / counts[i])) / 1000.0;
+            }
+            seen += counts[i];
+        }
+        return getMaxMillis();
+    }
+
+    long[] bucketCounts() {
+        long[] counts = new long[buckets.length];
+        for (int i = 0; i < buckets.length; i++) {
+            counts[i] = buckets[i].sum();
+        }
+        return counts;
+    }
+
+    long getLatencySumMicros() {
+        return latencySumMicros.sum();
+    }
+
+    static String statusLabel(int status) {
+        return status == TRANSPORT_ERROR ? "error" : String.valueOf(status);
+    }
+
+    private static int bucketIndex(long latencyMicros) {
+        int low = 0;
+        int high = BUCKET_BOUNDS_MICROS.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (latencyMicros <= BUCKET_BOUNDS_MICROS[mid]) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s %s: %d requests, %d errors, %d retries, p50 %.1fms, p95 %.1fms, p99 %.1fms, max %.1fms",
+                method, path, getRequestCount(), getErrorCount(), getRetryCount(),
+                getP50Millis(), getP95Millis(), getP99Millis(), getMaxMillis());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,35 @@
+package metrics;
+
+import java.util.Map;
+
+/**
+ * JMX view of the request metrics for one method and templated path
+ */
+public interface EndpointMetricsMXBean {
+
+    String getMethod();
+
+    String getPath();
+
+    long getRequestCount();
+
+    long getErrorCount();
+
+    long getRetryCount();
+
+    long getRequestBytes();
+
+    long getResponseBytes();
+
+    double getMeanMillis();
+
+    double getMaxMillis();
+
+    double getP50Millis();
+
+    double getP95Millis();
+
+    double getP99Millis();
+
+    Map<String, Long> getStatusCounts();
+}
\ No newline at end of file
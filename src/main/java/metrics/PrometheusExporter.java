@@ -0,0 +1,101 @@
+package metrics;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Renders request metrics in the Prometheus text exposition format.
+ * <p>
+ * Files are written to a temporary sibling and moved into place, so a textfile collector or a
+ * diff between runs never sees a partially written file.
+ */
+public class PrometheusExporter {
+
+    private static final String PREFIX = "api_client_";
+
+    public static void write(Collection<EndpointMetrics> endpoints, Path file) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temporary = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try (Writer writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+            writer.write(format(endpoints));
+        }
+        try {
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    public static String format(Collection<EndpointMetrics> endpoints) {
+        StringBuilder out = new StringBuilder();
+
+        header(out, "requests_total", "counter", "Requests by method, templated path and status");
+        for (EndpointMetrics metrics : endpoints) {
+            for (Map.Entry<String, Long> status : metrics.getStatusCounts().entrySet()) {
+                sample(out, "requests_total", labels(metrics) + ",status=\"" + status.getKey() + "\"", status.getValue());
+            }
+        }
+
+        header(out, "request_duration_seconds", "histogram", "Request latency by method and templated path");
+        for (EndpointMetrics metrics : endpoints) {
+            long[] counts = metrics.bucketCounts();
+            long cumulative = 0;
+            for (int i = 0; i < counts.length; i++) {
+                cumulative += counts[i];
+                String bound = i < EndpointMetrics.BUCKET_BOUNDS_MICROS.length
+                        ? seconds(EndpointMetrics.BUCKET_BOUNDS_MICROS[i])
+                        : "+Inf";
+                sample(out, "request_duration_seconds_bucket", labels(metrics) + ",le=\"" + bound + "\"", cumulative);
+            }
+            out.append(PREFIX).append("request_duration_seconds_sum{").append(labels(metrics)).append("} ")
+                    .append(seconds(metrics.getLatencySumMicros())).append('\n');
+            sample(out, "request_duration_seconds_count", labels(metrics), cumulative);
+        }
+
+        header(out, "retries_total", "counter", "Requests that were retries of a failed attempt");
+        for (EndpointMetrics metrics : endpoints) {
+            sample(out, "retries_total", labels(metrics), metrics.getRetryCount());
+        }
+
+        header(out, "request_bytes_total", "counter", "Request body bytes sent");
+        for (EndpointMetrics metrics : endpoints) {
+            sample(out, "request_bytes_total", labels(metrics), metrics.getRequestBytes());
+        }
+
+        header(out, "response_bytes_total", "counter", "Response body bytes received");
+        for (EndpointMetrics metrics : endpoints) {
+            sample(out, "response_bytes_total", labels(metrics), metrics.getResponseBytes());
+        }
+
+        return out.toString();
+    }
+
+    private static void header(StringBuilder out, String name, String type, String help) {
+        out.append("# HELP ").append(PREFIX).append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(PREFIX).append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void sample(StringBuilder out, String name, String labels, long value) {
+        out.append(PREFIX).append(name).append('{').append(labels).append("} ").append(value).append('\n');
+    }
+
+    private static String labels(EndpointMetrics metrics) {
+        return "method=\"" + escape(metrics.getMethod()) + "\",path=\"" + escape(metrics.getPath()) + "\"";
+    }
+
+    private static String seconds(long micros) {
+        return String.format(Locale.ROOT, "%.6f", micros / 1_000_000.0).replaceAll("0+$", "").replaceAll("\\.$", ".0");
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,16 @@
+package metrics;
+
+/**
+ * Receives every exchange recorded by {@link RequestMetrics}, with the path already templated
+ */
+@FunctionalInterface
+public interface RequestListener {
+
+    /**
+     * @param method HTTP method
+     * @param path Templated path, e.g. {@code /booking/{id}}
+     * @param status HTTP status code, or {@link EndpointMetrics#TRANSPORT_ERROR} when no response was received
+     * @param latencyNanos Time from sending the request to receiving the response
+     */
+    void onExchange(String method, String path, int status, long latencyNanos);
+}
\ No newline at end of file
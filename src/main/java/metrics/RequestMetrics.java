@@ -0,0 +1,213 @@
+package metrics;
+
+import config.ConfigManager;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Pattern;
+
+/**
+ * Run-wide registry of per-endpoint request metrics.
+ * <p>
+ * Endpoints are keyed by HTTP method and templated path, so {@code /booking/42} and
+ * {@code /booking/43} are both counted under {@code /booking/{id}}. Each endpoint is registered
+ * as an MXBean ({@code metrics.jmx.enabled}) and the whole registry is written in the Prometheus
+ * text format to {@code metrics.prometheus.file} by {@link #exportPrometheus()}. Registered
+ * {@link RequestListener}s see every exchange, even when {@code metrics.enabled} is off.
+ */
+@Slf4j
+public class RequestMetrics {
+
+    static final String JMX_DOMAIN = "api.client";
+
+    private static final Pattern ID_SEGMENT = Pattern.compile(
+            "/(\\d+|[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12})(?=/|$)");
+
+    private static final boolean enabled = ConfigManager.getConfig().metricsEnabled();
+    private static final boolean jmxEnabled = ConfigManager.getConfig().metricsJmxEnabled();
+    private static final Map<String, EndpointMetrics> endpoints = new ConcurrentHashMap<>();
+    private static final List<RequestListener> listeners = new CopyOnWriteArrayList<>();
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Whether exchanges need to be measured at all: metrics are enabled or a listener is registered
+     */
+    public static boolean isRecording() {
+        return enabled || !listeners.isEmpty();
+    }
+
+    public static void addListener(RequestListener listener) {
+        listeners.add(listener);
+    }
+
+    public static void removeListener(RequestListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Records one exchange against the endpoint of the given method and raw path or URI
+     */
+    public static void record(String method, String uri, int status, long latencyNanos,
+                              long requestBytes, long responseBytes, boolean retry) {
+        if (!isRecording()) {
+            return;
+        }
+        String path = templatePath(uri);
+        if (enabled) {
+            endpointForPath(method, path).record(status, latencyNanos, requestBytes, responseBytes, retry);
+        }
+        for (RequestListener listener : listeners) {
+            listener.onExchange(method, path, status, latencyNanos);
+        }
+    }
+
+    /**
+     * Records an exchange made with the JDK client; a null response counts as a transport error
+     */
+    public static void record(HttpRequest request, HttpResponse<String> response, long latencyNanos, boolean retry) {
+        if (!isRecording()) {
+            return;
+        }
+        long requestBytes = request.bodyPublisher()
+                .map(HttpRequest.BodyPublisher::contentLength)
+                .filter(length -> length > 0)
+                .orElse(0L);
+        if (response == null) {
+            record(request.method(), request.uri().getPath(), EndpointMetrics.TRANSPORT_ERROR,
+                    latencyNanos, requestBytes, 0, retry);
+            return;
+        }
+        long responseBytes = response.headers().firstValueAsLong("Content-Length")
+                .orElse(response.body() == null ? 0 : response.body().length());
+        record(request.method(), request.uri().getPath(), response.statusCode(),
+                latencyNanos, requestBytes, responseBytes, retry);
+    }
+
+    /**
+     * Returns the metrics for the endpoint, creating and registering them on first use
+     */
+    public static EndpointMetrics endpoint(String method, String uri) {
+        return endpointForPath(method, templatePath(uri));
+    }
+
+    private static EndpointMetrics endpointForPath(String method, String path) {
+        String key = method + " " + path;
+        EndpointMetrics metrics = endpoints.get(key);
+        if (metrics != null) {
+            return metrics;
+        }
+
+        EndpointMetrics created = new EndpointMetrics(method, path);
+        metrics = endpoints.putIfAbsent(key, created);
+        if (metrics != null) {
+            return metrics;
+        }
+        if (jmxEnabled) {
+            registerMBean(created);
+        }
+        return created;
+    }
+
+    /**
+     * Endpoints in method and path order
+     */
+    public static List<EndpointMetrics> getEndpoints() {
+        List<EndpointMetrics> snapshot = new ArrayList<>(endpoints.values());
+        snapshot.sort(Comparator.comparing(EndpointMetrics::getPath).thenComparing(EndpointMetrics::getMethod));
+        return snapshot;
+    }
+
+    /**
+     * Strips scheme, host and query and replaces numeric or UUID path segments with {@code {id}}
+     */
+    public static String templatePath(String uri) {
+        String path = uri;
+        int scheme = path.indexOf("://");
+        if (scheme >= 0) {
+            int pathStart = path.indexOf('/', scheme + 3);
+            path = pathStart < 0 ? "/" : path.substring(pathStart);
+        }
+        int query = path.indexOf('?');
+        if (query >= 0) {
+            path = path.substring(0, query);
+        }
+        return ID_SEGMENT.matcher(path).replaceAll("/{id}");
+    }
+
+    /**
+     * Writes every endpoint to {@code metrics.prometheus.file}
+     * @return The file written, or null when metrics are disabled or nothing was recorded
+     */
+    public static Path exportPrometheus() {
+        if (!enabled || endpoints.isEmpty()) {
+            return null;
+        }
+        Path file = Paths.get(ConfigManager.getConfig().metricsPrometheusFile());
+        try {
+            PrometheusExporter.write(getEndpoints(), file);
+            log.info("Request metrics for {} endpoints written to {}", endpoints.size(), file);
+            return file;
+        } catch (IOException e) {
+            log.warn("Could not write request metrics to {}", file, e);
+            return null;
+        }
+    }
+
+    public static void logSummary() {
+        getEndpoints().forEach(metrics -> log.info("Request metrics: {}", metrics));
+    }
+
+    public static void reset() {
+        if (jmxEnabled) {
+            endpoints.values().forEach(RequestMetrics::unregisterMBean);
+        }
+        endpoints.clear();
+    }
+
+    static ObjectName objectName(EndpointMetrics metrics) throws JMException {
+        return new ObjectName(JMX_DOMAIN + ":type=RequestMetrics,method=" + metrics.getMethod()
+                + ",path=" + ObjectName.quote(metrics.getPath()));
+    }
+
+    private static void registerMBean(EndpointMetrics metrics) {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            ObjectName name = objectName(metrics);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+            server.registerMBean(metrics, name);
+        } catch (JMException e) {
+            log.warn("Could not register request metrics MBean for {} {}", metrics.getMethod(), metrics.getPath(), e);
+        }
+    }
+
+    private static void unregisterMBean(EndpointMetrics metrics) {
+        try {
+            ObjectName name = objectName(metrics);
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+        } catch (JMException e) {
+            log.debug("Could not unregister request metrics MBean", e);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,65 @@
+package metrics;
+
+import core.RetryManager;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Records every REST Assured exchange in {@link RequestMetrics}.
+ * <p>
+ * Added after the logging and reporting filters, so the measured latency covers the HTTP
+ * exchange itself (or its replay from a recording) and not the filters in front of it.
+ */
+public class RequestMetricsFilter implements Filter {
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        if (!RequestMetrics.isRecording()) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+
+        boolean retry = RetryManager.isRetryAttempt();
+        long start = System.nanoTime();
+        Response response;
+        try {
+            response = ctx.next(requestSpec, responseSpec);
+        } catch (RuntimeException e) {
+            RequestMetrics.record(requestSpec.getMethod(), requestSpec.getURI(), EndpointMetrics.TRANSPORT_ERROR,
+                    System.nanoTime() - start, requestBytes(requestSpec), 0, retry);
+            throw e;
+        }
+        RequestMetrics.record(requestSpec.getMethod(), requestSpec.getURI(), response.getStatusCode(),
+                System.nanoTime() - start, requestBytes(requestSpec), responseBytes(response), retry);
+        return response;
+    }
+
+    private static long requestBytes(FilterableRequestSpecification requestSpec) {
+        Object body = requestSpec.getBody();
+        if (body == null) {
+            return 0;
+        }
+        if (body instanceof byte[]) {
+            return ((byte[]) body).length;
+        }
+        return body.toString().getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private static long responseBytes(Response response) {
+        String contentLength = response.getHeader("Content-Length");
+        if (contentLength != null) {
+            try {
+                return Long.parseLong(contentLength.trim());
+            } catch (NumberFormatException ignored) {
+                // Fall back to the buffered body
+            }
+        }
+        return response.getBody().asByteArray().length;
+    }
+}
\ No newline at end of file
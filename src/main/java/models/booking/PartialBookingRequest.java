@@ -2,9 +2,11 @@ package models.booking;
 
 import lombok.Builder;
 import lombok.Data;
+import lombok.extern.jackson.Jacksonized;
 
 @Data
 @Builder
+@Jacksonized
 public class PartialBookingRequest {
     private String firstname;
     private String lastname;
@@ -0,0 +1,19 @@
+package performance;
+
+/**
+ * Booking API operations that the load engine can drive
+ */
+public enum BookingOperation {
+    CREATE,
+    GET,
+    UPDATE,
+    PARTIAL_UPDATE,
+    DELETE;
+
+    /**
+     * Parses an operation name from configuration, e.g. "partial_update" or "PARTIAL-UPDATE"
+     */
+    public static BookingOperation fromConfig(String name) {
+        return valueOf(name.trim().toUpperCase().replace('-', '_'));
+    }
+}
\ No newline at end of file
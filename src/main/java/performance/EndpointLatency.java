@@ -0,0 +1,41 @@
+package performance;
+
+import lombok.Value;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Latencies (microseconds) and error count of one endpoint over a recorder's scope
+ */
+@Value
+public class EndpointLatency {
+
+    String method;
+    String path;
+    Histogram histogram;
+    long errors;
+
+    public long getRequests() {
+        return histogram.getTotalCount();
+    }
+
+    /**
+     * Errors as a percentage of all requests. Transport failures, 5xx and 429 responses count as
+     * errors; other 4xx responses are usually what a negative test expects and do not.
+     */
+    public double errorRatePercent() {
+        long requests = getRequests();
+        return requests == 0 ? 0 : errors * 100.0 / requests;
+    }
+
+    public double percentileMillis(double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    public double maxMillis() {
+        return histogram.getMaxValue() / 1000.0;
+    }
+
+    public String getName() {
+        return method + " " + path;
+    }
+}
\ No newline at end of file
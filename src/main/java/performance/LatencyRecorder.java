@@ -0,0 +1,159 @@
+package performance;
+
+import metrics.EndpointMetrics;
+import metrics.RequestListener;
+import metrics.RequestMetrics;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects per-endpoint latencies of every request made while it is open, from any thread.
+ * <p>
+ * Open one around a test, or in {@code @BeforeClass} and close it in {@code @AfterClass} for a
+ * class-wide view. {@link #sliding(Duration)} keeps only the most recent window: it is split into
+ * slices that are recycled as time moves on, so the reported window is between
+ * {@code window - window / slices} and {@code window} long.
+ */
+public class LatencyRecorder implements RequestListener, AutoCloseable {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(10);
+    private static final int WINDOW_SLICES = 10;
+
+    private final long originNanos = System.nanoTime();
+    private final long sliceNanos;
+    private final AtomicReferenceArray<Slice> slices;
+
+    private LatencyRecorder(long sliceNanos, int sliceCount) {
+        this.sliceNanos = sliceNanos;
+        this.slices = new AtomicReferenceArray<>(sliceCount);
+    }
+
+    /**
+     * Records every request until closed
+     */
+    public static LatencyRecorder start() {
+        return register(new LatencyRecorder(Long.MAX_VALUE, 1));
+    }
+
+    /**
+     * Records every request until closed, reporting only those in the most recent window
+     */
+    public static LatencyRecorder sliding(Duration window) {
+        if (window.isNegative() || window.isZero()) {
+            throw new IllegalArgumentException("Latency window must be positive");
+        }
+        return register(new LatencyRecorder(Math.max(1, window.toNanos() / WINDOW_SLICES), WINDOW_SLICES));
+    }
+
+    private static LatencyRecorder register(LatencyRecorder recorder) {
+        RequestMetrics.addListener(recorder);
+        return recorder;
+    }
+
+    @Override
+    public void onExchange(String method, String path, int status, long latencyNanos) {
+        currentSlice().endpoint(method, path).record(status, latencyNanos);
+    }
+
+    /**
+     * Latencies per endpoint ({@code METHOD /path}) within the recorder's scope
+     */
+    public Map<String, EndpointLatency> snapshot() {
+        long currentEpoch = epoch();
+        Map<String, Histogram> histograms = new TreeMap<>();
+        Map<String, Long> errors = new TreeMap<>();
+        Map<String, String[]> names = new TreeMap<>();
+
+        for (int i = 0; i < slices.length(); i++) {
+            Slice slice = slices.get(i);
+            if (slice == null || slice.epoch <= currentEpoch - slices.length()) {
+                continue;
+            }
+            slice.endpoints.forEach((key, endpoint) -> {
+                histograms.computeIfAbsent(key, ignored -> new Histogram(HIGHEST_TRACKABLE_MICROS, 3))
+                        .add(endpoint.histogram);
+                errors.merge(key, endpoint.errors.sum(), Long::sum);
+                names.putIfAbsent(key, new String[]{endpoint.method, endpoint.path});
+            });
+        }
+
+        Map<String, EndpointLatency> snapshot = new TreeMap<>();
+        histograms.forEach((key, histogram) -> snapshot.put(key,
+                new EndpointLatency(names.get(key)[0], names.get(key)[1], histogram, errors.get(key))));
+        return snapshot;
+    }
+
+    /**
+     * Forgets everything recorded so far
+     */
+    public void reset() {
+        for (int i = 0; i < slices.length(); i++) {
+            slices.set(i, null);
+        }
+    }
+
+    @Override
+    public void close() {
+        RequestMetrics.removeListener(this);
+    }
+
+    private long epoch() {
+        return (System.nanoTime() - originNanos) / sliceNanos;
+    }
+
+    private Slice currentSlice() {
+        long epoch = epoch();
+        int index = (int) (epoch % slices.length());
+        Slice slice = slices.get(index);
+        if (slice == null || slice.epoch != epoch) {
+            Slice fresh = new Slice(epoch);
+            slice = slices.compareAndSet(index, slice, fresh) ? fresh : slices.get(index);
+        }
+        return slice;
+    }
+
+    private static class Slice {
+
+        private final long epoch;
+        private final Map<String, SliceEndpoint> endpoints = new ConcurrentHashMap<>();
+
+        private Slice(long epoch) {
+            this.epoch = epoch;
+        }
+
+        private SliceEndpoint endpoint(String method, String path) {
+            String key = method + " " + path;
+            SliceEndpoint endpoint = endpoints.get(key);
+            return endpoint != null ? endpoint : endpoints.computeIfAbsent(key, ignored -> new SliceEndpoint(method, path));
+        }
+    }
+
+    private static class SliceEndpoint {
+
+        private final String method;
+        private final String path;
+        private final Histogram histogram = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        private final LongAdder errors = new LongAdder();
+
+        private SliceEndpoint(String method, String path) {
+            this.method = method;
+            this.path = path;
+        }
+
+        private void record(int status, long latencyNanos) {
+            long latencyMicros = TimeUnit.NANOSECONDS.toMicros(latencyNanos);
+            histogram.recordValue(Math.min(Math.max(latencyMicros, 0), HIGHEST_TRACKABLE_MICROS));
+            if (status == EndpointMetrics.TRANSPORT_ERROR || status >= 500 || status == 429) {
+                errors.increment();
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,64 @@
+package performance;
+
+import config.ConfigManager;
+import config.EnvironmentConfig;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Shape of an open-model load run.
+ * The run lasts {@code durationSeconds} in total; the arrival rate ramps linearly from zero to
+ * {@code ratePerSecond} over the first {@code rampUpSeconds}, and samples whose intended start falls
+ * inside the first {@code warmUpSeconds} are executed but not recorded.
+ */
+@Data
+@Builder
+public class LoadProfile {
+    private int durationSeconds;
+    private double ratePerSecond;
+    private int rampUpSeconds;
+    private int warmUpSeconds;
+    private int maxInFlight;
+    private List<BookingOperation> operations;
+
+    public static LoadProfile fromConfig() {
+        EnvironmentConfig config = ConfigManager.getConfig();
+        return LoadProfile.builder()
+                .durationSeconds(config.loadDurationSeconds())
+                .ratePerSecond(config.loadRatePerSecond())
+                .rampUpSeconds(config.loadRampUpSeconds())
+                .warmUpSeconds(config.loadWarmUpSeconds())
+                .maxInFlight(config.loadMaxInFlight())
+                .operations(config.loadOperations().stream()
+                        .map(BookingOperation::fromConfig)
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    /**
+     * Offset from the start of the run, in nanoseconds, at which the given arrival is due.
+     * Computed from the arrival index rather than accumulated, so scheduling never drifts.
+     */
+    public long intendedOffsetNanos(long arrivalIndex) {
+        return offsetNanosAt(arrivalIndex / ratePerSecond);
+    }
+
+    /**
+     * Offset at which the given amount of load is due, measured in seconds at the full target rate.
+     * The ramp-up holds only half of its length in full-rate seconds, since the rate grows linearly
+     * from zero, so a target rate changed mid-ramp still ramps instead of jumping to full rate.
+     */
+    public long offsetNanosAt(double fullRateSeconds) {
+        double rampUp = rampUpSeconds;
+        double seconds;
+        if (fullRateSeconds < rampUp / 2) {
+            seconds = Math.sqrt(2 * rampUp * fullRateSeconds);
+        } else {
+            seconds = fullRateSeconds + rampUp / 2;
+        }
+        return Math.round(seconds * 1_000_000_000L);
+    }
+}
\ No newline at end of file
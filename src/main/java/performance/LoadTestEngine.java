@@ -0,0 +1,222 @@
+package performance;
+
+import config.ConfigManager;
+import config.ConfigSnapshot;
+import dataproviders.BookingDataProvider;
+import lombok.extern.slf4j.Slf4j;
+import metrics.RequestMetrics;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import services.BookingService;
+import stub.BookingStubServer;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Open-model load generator for {@link BookingService}.
+ * <p>
+ * Arrivals are dispatched at their scheduled time regardless of how many requests are still
+ * outstanding, and latency is measured from the scheduled (intended) start rather than from the
+ * moment a worker picked the request up. A stalled server therefore shows up in the percentiles
+ * instead of silently lowering the request rate (coordinated omission).
+ * <p>
+ * Run from the command line with the test classpath so the environment properties resolve:
+ * {@code mvn test-compile exec:java -Dexec.mainClass=performance.LoadTestEngine -Dexec.classpathScope=test -Denvironment=dev}
+ * With {@code -Dconfig.reload.enabled=true}, editing {@code load.rate.per.second} in the environment
+ * file changes the rate of the running load.
+ */
+@Slf4j
+public class LoadTestEngine {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(10);
+
+    private final LoadProfile profile;
+    private final BookingService bookingService;
+    private final Map<BookingOperation, Histogram> latencies = new EnumMap<>(BookingOperation.class);
+    private final Map<BookingOperation, LongAdder> errors = new EnumMap<>(BookingOperation.class);
+    private final ConcurrentLinkedDeque<Integer> bookingIds = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder dropped = new LongAdder();
+    private volatile double ratePerSecond;
+
+    public LoadTestEngine(LoadProfile profile) {
+        this(profile, new BookingService());
+    }
+
+    public LoadTestEngine(LoadProfile profile, BookingService bookingService) {
+        if (profile.getRatePerSecond() <= 0) {
+            throw new IllegalArgumentException("Load rate must be positive");
+        }
+        if (profile.getOperations() == null || profile.getOperations().isEmpty()) {
+            throw new IllegalArgumentException("At least one load operation must be configured");
+        }
+        this.profile = profile;
+        this.bookingService = bookingService;
+        this.ratePerSecond = profile.getRatePerSecond();
+        for (BookingOperation operation : BookingOperation.values()) {
+            latencies.put(operation, new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3));
+            errors.put(operation, new LongAdder());
+        }
+    }
+
+    /**
+     * Changes the arrival rate of a running load run from the next arrival on
+     */
+    public void setRatePerSecond(double ratePerSecond) {
+        if (ratePerSecond <= 0) {
+            throw new IllegalArgumentException("Load rate must be positive");
+        }
+        this.ratePerSecond = ratePerSecond;
+    }
+
+    public LoadTestReport run() {
+        log.info("Starting load run: {} req/s for {}s (ramp-up {}s, warm-up {}s), operations {}",
+                profile.getRatePerSecond(), profile.getDurationSeconds(), profile.getRampUpSeconds(),
+                profile.getWarmUpSeconds(), profile.getOperations());
+
+        ExecutorService workers = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "load-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        List<BookingOperation> operations = profile.getOperations();
+        long durationNanos = TimeUnit.SECONDS.toNanos(profile.getDurationSeconds());
+        long warmUpNanos = TimeUnit.SECONDS.toNanos(profile.getWarmUpSeconds());
+        long runStart = System.nanoTime();
+        double rate = ratePerSecond;
+        long rebaseArrival = 0;
+        double rebaseFullRateSeconds = 0;
+
+        for (long arrival = 0; ; arrival++) {
+            double currentRate = ratePerSecond;
+            if (currentRate != rate) {
+                // Arrivals so far used up this much load; the rest follows the ramp at the new rate
+                rebaseFullRateSeconds += (arrival - rebaseArrival) / rate;
+                rebaseArrival = arrival;
+                rate = currentRate;
+                log.info("Load rate changed to {} req/s", rate);
+            }
+            long offset = profile.offsetNanosAt(rebaseFullRateSeconds + (arrival - rebaseArrival) / rate);
+            if (offset >= durationNanos) {
+                break;
+            }
+            long intendedStart = runStart + offset;
+            long wait = intendedStart - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            if (inFlight.get() >= profile.getMaxInFlight()) {
+                dropped.increment();
+                continue;
+            }
+
+            BookingOperation operation = operations.get((int) (arrival % operations.size()));
+            boolean recorded = offset >= warmUpNanos;
+            inFlight.incrementAndGet();
+            workers.execute(() -> {
+                try {
+                    execute(operation, intendedStart, recorded);
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            });
+        }
+
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(1, TimeUnit.MINUTES)) {
+                log.warn("{} load requests still in flight after the run ended", inFlight.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        double measuredSeconds = Math.max(0, profile.getDurationSeconds() - profile.getWarmUpSeconds());
+        LoadTestReport report = new LoadTestReport(measuredSeconds, dropped.sum());
+        for (BookingOperation operation : BookingOperation.values()) {
+            Histogram histogram = latencies.get(operation);
+            long errorCount = errors.get(operation).sum();
+            if (histogram.getTotalCount() > 0 || errorCount > 0) {
+                report.addOperation(operation, histogram.copy(), errorCount);
+            }
+        }
+
+        log.info("Load run finished:\n{}", report.format());
+        return report;
+    }
+
+    private void execute(BookingOperation operation, long intendedStart, boolean recorded) {
+        BookingOperation executed = operation;
+        try {
+            executed = perform(operation);
+            if (recorded) {
+                long latencyMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedStart);
+                latencies.get(executed).recordValue(Math.min(latencyMicros, HIGHEST_TRACKABLE_MICROS));
+            }
+        } catch (Throwable e) {
+            log.debug("Load operation {} failed", executed, e);
+            if (recorded) {
+                errors.get(executed).increment();
+            }
+        }
+    }
+
+    /**
+     * Performs the operation and returns what was actually executed.
+     * Operations that need an existing booking fall back to CREATE until one is available.
+     */
+    private BookingOperation perform(BookingOperation operation) {
+        Integer bookingId = operation == BookingOperation.DELETE ? bookingIds.pollFirst() : bookingIds.peekLast();
+        if (operation != BookingOperation.CREATE && bookingId == null) {
+            operation = BookingOperation.CREATE;
+        }
+
+        switch (operation) {
+            case CREATE:
+                bookingIds.addLast(bookingService.createBooking(
+                        BookingDataProvider.createValidBookingRequest()).getBookingid());
+                break;
+            case GET:
+                bookingService.getBooking(bookingId);
+                break;
+            case UPDATE:
+                bookingService.updateBooking(bookingId, BookingDataProvider.createValidBookingRequest());
+                break;
+            case PARTIAL_UPDATE:
+                bookingService.partialUpdateBooking(bookingId, BookingDataProvider.createPartialBookingRequest());
+                break;
+            case DELETE:
+                bookingService.deleteBooking(bookingId);
+                break;
+            default:
+                throw new IllegalStateException("Unsupported operation: " + operation);
+        }
+        return operation;
+    }
+
+    public static void main(String[] args) {
+        BookingStubServer.startIfEnabled();
+        LoadTestEngine engine = new LoadTestEngine(LoadProfile.fromConfig());
+        Consumer<ConfigSnapshot> rateUpdater = reloaded -> engine.setRatePerSecond(reloaded.loadRatePerSecond());
+        ConfigManager.addReloadListener(rateUpdater);
+        try {
+            engine.run();
+            RequestMetrics.exportPrometheus();
+        } finally {
+            ConfigManager.removeReloadListener(rateUpdater);
+            BookingStubServer.stopDefault();
+        }
+    }
+}
\ No newline at end of file
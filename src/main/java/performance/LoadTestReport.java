@@ -0,0 +1,57 @@
+package performance;
+
+import lombok.Data;
+import org.HdrHistogram.Histogram;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Result of a load run: one latency histogram (microseconds) and error count per operation
+ */
+@Data
+public class LoadTestReport {
+
+    private final Map<BookingOperation, Histogram> latencies = new EnumMap<>(BookingOperation.class);
+    private final Map<BookingOperation, Long> errors = new EnumMap<>(BookingOperation.class);
+    private final double measuredSeconds;
+    private final long dropped;
+
+    public void addOperation(BookingOperation operation, Histogram histogram, long errorCount) {
+        latencies.put(operation, histogram);
+        errors.put(operation, errorCount);
+    }
+
+    public double throughput(BookingOperation operation) {
+        Histogram histogram = latencies.get(operation);
+        return histogram == null || measuredSeconds <= 0 ? 0 : histogram.getTotalCount() / measuredSeconds;
+    }
+
+    /**
+     * Formats the report as a fixed-width table with latencies in milliseconds
+     */
+    public String format() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("Measured window: %.1fs, dropped arrivals: %d%n", measuredSeconds, dropped));
+        report.append(String.format("%-15s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+                "Operation", "Count", "Errors", "Req/s", "p50", "p95", "p99", "p99.9", "Max"));
+
+        latencies.forEach((operation, histogram) -> report.append(String.format(
+                "%-15s %9d %7d %9.2f %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                operation,
+                histogram.getTotalCount(),
+                errors.getOrDefault(operation, 0L),
+                throughput(operation),
+                millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(95)),
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue()))));
+
+        return report.toString();
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,128 @@
+package performance;
+
+import io.qameta.allure.Allure;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Asserts latency percentiles and error rates aggregated by a {@link LatencyRecorder}, instead of
+ * checking the time of each response on its own.
+ * <pre>
+ * try (LatencyRecorder recorder = LatencyRecorder.start()) {
+ *     ids.forEach(bookingService::getBooking);
+ *     PerformanceAssertions.assertSla(recorder);
+ * }
+ * </pre>
+ * On failure the per-endpoint summary and percentile distribution are attached to the Allure report.
+ */
+@Slf4j
+public class PerformanceAssertions {
+
+    private static final double[] SUMMARY_PERCENTILES = {50.0, 95.0, 99.0};
+
+    /**
+     * Asserts every recorded endpoint against the SLA of the current environment
+     */
+    public static void assertSla(LatencyRecorder recorder) {
+        assertSla(recorder, Sla.fromConfig());
+    }
+
+    /**
+     * Asserts every recorded endpoint against the given SLA
+     */
+    public static void assertSla(LatencyRecorder recorder, Sla sla) {
+        Map<String, EndpointLatency> snapshot = recorder.snapshot();
+        if (snapshot.isEmpty()) {
+            throw new AssertionError("No requests were recorded to assert the latency SLA against");
+        }
+        check(snapshot.values(), sla);
+    }
+
+    /**
+     * Asserts one endpoint, identified by method and templated path ({@code /booking/{id}})
+     */
+    public static void assertSla(LatencyRecorder recorder, String method, String path, Sla sla) {
+        EndpointLatency latency = recorder.snapshot().get(method + " " + path);
+        if (latency == null) {
+            throw new AssertionError("No requests were recorded for " + method + " " + path);
+        }
+        check(Collections.singletonList(latency), sla);
+    }
+
+    /**
+     * Per-endpoint count, errors and latency percentiles as a text table
+     */
+    public static String summary(Collection<EndpointLatency> latencies) {
+        StringBuilder summary = new StringBuilder(String.format("%-40s %8s %7s %9s %9s %9s %9s%n",
+                "endpoint", "count", "errors", "p50 ms", "p95 ms", "p99 ms", "max ms"));
+        for (EndpointLatency latency : latencies) {
+            summary.append(String.format("%-40s %8d %6.2f%%", latency.getName(), latency.getRequests(),
+                    latency.errorRatePercent()));
+            for (double percentile : SUMMARY_PERCENTILES) {
+                summary.append(String.format(" %9.1f", latency.percentileMillis(percentile)));
+            }
+            summary.append(String.format(" %9.1f%n", latency.maxMillis()));
+        }
+        return summary.toString();
+    }
+
+    private static void check(Collection<EndpointLatency> latencies, Sla sla) {
+        List<String> violations = new ArrayList<>();
+        for (EndpointLatency latency : latencies) {
+            if (latency.errorRatePercent() > sla.getMaxErrorRatePercent()) {
+                violations.add(String.format("%s error rate %.2f%% exceeds %.2f%%", latency.getName(),
+                        latency.errorRatePercent(), sla.getMaxErrorRatePercent()));
+            }
+            if (latency.getRequests() < sla.getMinSamples()) {
+                log.debug("Skipping percentile checks for {}: {} requests, {} needed",
+                        latency.getName(), latency.getRequests(), sla.getMinSamples());
+                continue;
+            }
+            checkPercentile(violations, latency, 50.0, sla.getP50Millis());
+            checkPercentile(violations, latency, 95.0, sla.getP95Millis());
+            checkPercentile(violations, latency, 99.0, sla.getP99Millis());
+        }
+
+        String summary = summary(latencies);
+        if (violations.isEmpty()) {
+            log.info("Latency SLA met:\n{}", summary);
+            return;
+        }
+
+        String report = String.join("\n", violations) + "\n\n" + summary + "\n" + distributions(latencies);
+        Allure.addAttachment("Latency SLA", "text/plain", report, ".txt");
+        throw new AssertionError("Latency SLA violated:\n" + String.join("\n", violations) + "\n\n" + summary);
+    }
+
+    private static void checkPercentile(List<String> violations, EndpointLatency latency, double percentile,
+                                        long limitMillis) {
+        if (limitMillis <= 0) {
+            return;
+        }
+        double actual = latency.percentileMillis(percentile);
+        if (actual > limitMillis) {
+            violations.add(String.format("%s p%.0f %.1f ms exceeds %d ms", latency.getName(), percentile,
+                    actual, limitMillis));
+        }
+    }
+
+    private static String distributions(Collection<EndpointLatency> latencies) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (PrintStream stream = new PrintStream(out, true, StandardCharsets.UTF_8)) {
+            for (EndpointLatency latency : latencies) {
+                stream.println(latency.getName() + " (milliseconds)");
+                latency.getHistogram().outputPercentileDistribution(stream, 1000.0);
+                stream.println();
+            }
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
\ No newline at end of file
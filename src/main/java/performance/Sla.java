@@ -0,0 +1,32 @@
+package performance;
+
+import config.ConfigManager;
+import config.EnvironmentConfig;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Latency and error-rate objectives for one endpoint.
+ * Percentile limits of 0 are not checked, and endpoints with fewer than {@code minSamples}
+ * requests are only checked for errors, since a p99 of a handful of calls is just their maximum.
+ */
+@Data
+@Builder
+public class Sla {
+    private long p50Millis;
+    private long p95Millis;
+    private long p99Millis;
+    private double maxErrorRatePercent;
+    private int minSamples;
+
+    public static Sla fromConfig() {
+        EnvironmentConfig config = ConfigManager.getConfig();
+        return Sla.builder()
+                .p50Millis(config.slaP50Millis())
+                .p95Millis(config.slaP95Millis())
+                .p99Millis(config.slaP99Millis())
+                .maxErrorRatePercent(config.slaErrorRatePercent())
+                .minSamples(config.slaMinSamples())
+                .build();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,257 @@
+package recording;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Append-only file of recorded HTTP exchanges, memory-mapped for writing and reading.
+ * <p>
+ * After an 8-byte header ({@code RIPX} and a format version) the file is a sequence of records,
+ * each an {@code int} length followed by the key, status code, status line, headers and body; a zero
+ * length marks the end. The mapping grows by doubling and the file is trimmed to its content on
+ * {@link #close()}. Opening an existing file rebuilds an in-memory index of record offsets by key
+ * ({@code METHOD path bodyHash}).
+ * <p>
+ * The same request may be recorded several times, for example a GET before and after an update.
+ * {@link #next(String)} returns them in recorded order and keeps returning the last one once
+ * they are used up, so a replayed workflow sees the responses it saw when it was recorded.
+ */
+@Slf4j
+public class ExchangeStore implements AutoCloseable {
+
+    private static final int MAGIC = 0x52495058;
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 8;
+
+    private final Path file;
+    private final FileChannel channel;
+    private final Map<String, List<Integer>> index = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> cursors = new ConcurrentHashMap<>();
+    private MappedByteBuffer buffer;
+    private int position;
+    private boolean closed;
+
+    private ExchangeStore(Path file, FileChannel channel, long initialBytes) throws IOException {
+        this.file = file;
+        this.channel = channel;
+        map(Math.max(channel.size(), Math.max(initialBytes, HEADER_BYTES + 4)));
+        if (buffer.getInt(0) == 0) {
+            buffer.putInt(0, MAGIC).putInt(4, VERSION);
+        } else if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IOException("Not an exchange recording: " + file);
+        }
+        position = HEADER_BYTES;
+        int length;
+        while (position + 4 <= buffer.capacity() && (length = buffer.getInt(position)) > 0) {
+            index.computeIfAbsent(readKey(position), ignored -> new ArrayList<>()).add(position);
+            position += 4 + length;
+        }
+    }
+
+    /**
+     * Opens a recording, creating it when missing
+     */
+    public static ExchangeStore open(Path file, long initialBytes) {
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            FileChannel channel = FileChannel.open(file,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            ExchangeStore store = new ExchangeStore(file, channel, initialBytes);
+            log.info("Opened exchange recording {} ({} exchanges)", file, store.size());
+            return store;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open exchange recording " + file, e);
+        }
+    }
+
+    /**
+     * Lookup key of a request: method, target URI (scheme, host and port, path and query), and a hash of the body
+     */
+    public static String key(String method, String target, byte[] body) {
+        return method.toUpperCase() + " " + target + " " + hash(body);
+    }
+
+    public synchronized void append(String key, RecordedExchange exchange) {
+        ensureOpen();
+        byte[] record = encode(key, exchange);
+        ensureCapacity(4 + record.length + 4);
+        int offset = position;
+        ByteBuffer target = buffer.duplicate();
+        target.position(offset + 4);
+        target.put(record);
+        // The length is written last, so a record only becomes visible once it is complete
+        buffer.putInt(offset, record.length);
+        position += 4 + record.length;
+        index.computeIfAbsent(key, ignored -> new ArrayList<>()).add(offset);
+    }
+
+    /**
+     * Next recorded exchange for the key, or {@code null} if it was never recorded
+     */
+    public synchronized RecordedExchange next(String key) {
+        ensureOpen();
+        List<Integer> offsets = index.get(key);
+        if (offsets == null || offsets.isEmpty()) {
+            return null;
+        }
+        int replay = cursors.computeIfAbsent(key, ignored -> new AtomicInteger()).getAndIncrement();
+        return decode(offsets.get(Math.min(replay, offsets.size() - 1)));
+    }
+
+    /**
+     * Starts every key over from its first recorded exchange
+     */
+    public void rewind() {
+        cursors.clear();
+    }
+
+    public synchronized int size() {
+        return index.values().stream().mapToInt(List::size).sum();
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            buffer.force();
+            buffer = null;
+            // Keep the end marker so the file can be appended to when reopened
+            channel.truncate(position + 4L);
+            channel.close();
+        } catch (IOException e) {
+            log.warn("Failed to close exchange recording {}", file, e);
+        }
+    }
+
+    private void map(long bytes) throws IOException {
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, bytes);
+    }
+
+    private void ensureCapacity(int bytes) {
+        if (position + (long) bytes <= buffer.capacity()) {
+            return;
+        }
+        long capacity = buffer.capacity();
+        while (capacity < position + (long) bytes) {
+            capacity *= 2;
+        }
+        if (capacity > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Exchange recording " + file + " is full");
+        }
+        try {
+            buffer.force();
+            map(capacity);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to grow exchange recording " + file, e);
+        }
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("Exchange recording " + file + " is closed");
+        }
+    }
+
+    private String readKey(int offset) {
+        ByteBuffer record = record(offset);
+        return readString(record);
+    }
+
+    private RecordedExchange decode(int offset) {
+        ByteBuffer record = record(offset);
+        readString(record);
+        int statusCode = record.getInt();
+        String statusLine = readString(record);
+        int headerCount = record.getInt();
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (int i = 0; i < headerCount; i++) {
+            headers.put(readString(record), readString(record));
+        }
+        byte[] body = new byte[record.getInt()];
+        record.get(body);
+        return new RecordedExchange(statusCode, statusLine, headers, body);
+    }
+
+    private ByteBuffer record(int offset) {
+        ByteBuffer record = buffer.duplicate();
+        record.limit(offset + 4 + buffer.getInt(offset));
+        record.position(offset + 4);
+        return record;
+    }
+
+    private static byte[] encode(String key, RecordedExchange exchange) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(256 + exchange.getBody().length);
+            DataOutputStream out = new DataOutputStream(bytes);
+            writeString(out, key);
+            out.writeInt(exchange.getStatusCode());
+            writeString(out, exchange.getStatusLine());
+            out.writeInt(exchange.getHeaders().size());
+            for (Map.Entry<String, String> header : exchange.getHeaders().entrySet()) {
+                writeString(out, header.getKey());
+                writeString(out, header.getValue());
+            }
+            out.writeInt(exchange.getBody().length);
+            out.write(exchange.getBody());
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = (value == null ? "" : value).getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer record) {
+        byte[] bytes = new byte[record.getInt()];
+        record.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static String hash(byte[] body) {
+        if (body == null || body.length == 0) {
+            return "-";
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            StringBuilder hex = new StringBuilder();
+            for (int i = 0; i < 8; i++) {
+                hex.append(String.format("%02x", digest[i]));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
\ No newline at end of file
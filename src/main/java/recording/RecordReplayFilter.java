@@ -0,0 +1,123 @@
+package recording;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records exchanges to an {@link ExchangeStore}, or serves responses from it without touching
+ * the network.
+ * <p>
+ * Requests are matched on method, scheme, host and port, path with query and a hash of the body, so
+ * clients of different targets can share a file, and generated data must be the same as when it was
+ * recorded: replay with the {@code data.seed} the recording run logged.
+ * Added at the end of the filter chain, so logging, Allure capture and metrics see replayed
+ * responses like real ones. Clients using the same file share one store, which is closed when
+ * the JVM exits.
+ */
+@Slf4j
+public class RecordReplayFilter implements Filter {
+
+    private static final long INITIAL_BYTES = 1024L * 1024L;
+    private static final Map<Path, ExchangeStore> stores = new ConcurrentHashMap<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> stores.values().forEach(ExchangeStore::close),
+                "exchange-store-close"));
+    }
+
+    private final RecordingMode mode;
+    private final ExchangeStore store;
+
+    public RecordReplayFilter(RecordingMode mode, ExchangeStore store) {
+        if (mode == RecordingMode.OFF) {
+            throw new IllegalArgumentException("Recording mode OFF needs no filter");
+        }
+        this.mode = mode;
+        this.store = store;
+    }
+
+    /**
+     * Filter on the shared store of the given file
+     */
+    public static RecordReplayFilter forFile(RecordingMode mode, Path file) {
+        ExchangeStore store = stores.computeIfAbsent(file.toAbsolutePath().normalize(),
+                path -> ExchangeStore.open(path, INITIAL_BYTES));
+        log.info("{} HTTP exchanges using {}", mode == RecordingMode.RECORD ? "Recording" : "Replaying", store.getFile());
+        return new RecordReplayFilter(mode, store);
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        String key = ExchangeStore.key(requestSpec.getMethod(), targetOf(requestSpec.getURI()),
+                bodyBytes(requestSpec.getBody()));
+        if (mode == RecordingMode.REPLAY) {
+            RecordedExchange recorded = store.next(key);
+            if (recorded == null) {
+                throw new IllegalStateException("No recorded exchange for " + key + " in " + store.getFile());
+            }
+            return toResponse(recorded);
+        }
+
+        Response response = ctx.next(requestSpec, responseSpec);
+        store.append(key, new RecordedExchange(response.getStatusCode(), response.getStatusLine(),
+                toMap(response.getHeaders()), response.getBody().asByteArray()));
+        return response;
+    }
+
+    private static Response toResponse(RecordedExchange recorded) {
+        List<Header> headers = new ArrayList<>();
+        recorded.getHeaders().forEach((name, value) -> headers.add(new Header(name, value)));
+        Headers responseHeaders = new Headers(headers);
+        ResponseBuilder builder = new ResponseBuilder()
+                .setStatusCode(recorded.getStatusCode())
+                .setStatusLine(recorded.getStatusLine())
+                .setHeaders(responseHeaders)
+                .setBody(recorded.getBody());
+        // Header lookups ignore case; servers differ in how they spell Content-Type
+        String contentType = responseHeaders.getValue("Content-Type");
+        if (contentType != null) {
+            builder.setContentType(contentType);
+        }
+        return builder.build();
+    }
+
+    private static String targetOf(String uri) {
+        URI parsed = URI.create(uri);
+        String target = parsed.getScheme().toLowerCase() + "://" + parsed.getRawAuthority().toLowerCase() + parsed.getRawPath();
+        return parsed.getRawQuery() == null ? target : target + "?" + parsed.getRawQuery();
+    }
+
+    private static byte[] bodyBytes(Object body) {
+        if (body == null) {
+            return null;
+        }
+        if (body instanceof byte[]) {
+            return (byte[]) body;
+        }
+        return body.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static Map<String, String> toMap(Headers headers) {
+        Map<String, String> map = new LinkedHashMap<>();
+        headers.forEach(header -> map.merge(header.getName(), header.getValue(), (a, b) -> a + ", " + b));
+        return map;
+    }
+}
\ No newline at end of file
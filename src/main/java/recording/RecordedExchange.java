@@ -0,0 +1,17 @@
+package recording;
+
+import lombok.Value;
+
+import java.util.Map;
+
+/**
+ * Response half of a recorded HTTP exchange
+ */
+@Value
+public class RecordedExchange {
+
+    int statusCode;
+    String statusLine;
+    Map<String, String> headers;
+    byte[] body;
+}
\ No newline at end of file
@@ -0,0 +1,17 @@
+package recording;
+
+/**
+ * What {@link RecordReplayFilter} does with HTTP exchanges
+ */
+public enum RecordingMode {
+    /** Requests go to the target and nothing is recorded */
+    OFF,
+    /** Requests go to the target and every exchange is appended to the recording */
+    RECORD,
+    /** Responses are served from the recording; nothing reaches the target */
+    REPLAY;
+
+    public static RecordingMode fromConfig(String name) {
+        return valueOf(name.trim().toUpperCase());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,67 @@
+package reporting;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Replaces {@code AllureRestAssured}: hands every exchange to {@link HttpCapture}, which attaches
+ * it right away or buffers it until the test outcome is known. Request bodies serialized to
+ * {@code byte[]} are shown as text.
+ */
+public class AllureCaptureFilter implements Filter {
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        if (HttpCapture.getMode() == CaptureMode.OFF) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+
+        HttpExchange.HttpExchangeBuilder exchange = HttpExchange.builder()
+                .method(requestSpec.getMethod())
+                .url(requestSpec.getURI())
+                .requestHeaders(toMap(requestSpec.getHeaders()))
+                .requestBody(HttpCapture.truncate(bodyText(requestSpec.getBody())))
+                .requestContentType(requestSpec.getContentType());
+        Response response;
+        try {
+            response = ctx.next(requestSpec, responseSpec);
+        } catch (RuntimeException e) {
+            HttpCapture.capture(exchange.failure(e.toString()).build());
+            throw e;
+        }
+        HttpCapture.capture(exchange
+                .statusCode(response.getStatusCode())
+                .statusLine(response.getStatusLine())
+                .responseHeaders(toMap(response.getHeaders()))
+                .responseBody(HttpCapture.truncate(response.getBody().asString()))
+                .responseContentType(response.getContentType())
+                .build());
+        return response;
+    }
+
+    private static String bodyText(Object body) {
+        if (body == null) {
+            return null;
+        }
+        if (body instanceof byte[]) {
+            return new String((byte[]) body, StandardCharsets.UTF_8);
+        }
+        return body.toString();
+    }
+
+    private static Map<String, String> toMap(Headers headers) {
+        Map<String, String> map = new LinkedHashMap<>();
+        headers.forEach(header -> map.merge(header.getName(), header.getValue(), (a, b) -> a + ", " + b));
+        return map;
+    }
+}
\ No newline at end of file
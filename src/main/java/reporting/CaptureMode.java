@@ -0,0 +1,17 @@
+package reporting;
+
+/**
+ * When HTTP exchanges are written to the Allure report
+ */
+public enum CaptureMode {
+    /** Every exchange is attached as it happens */
+    ALWAYS,
+    /** Exchanges are buffered per thread and attached only for failed or sampled tests */
+    FAILURES,
+    /** Nothing is attached */
+    OFF;
+
+    public static CaptureMode fromConfig(String name) {
+        return valueOf(name.trim().toUpperCase());
+    }
+}
\ No newline at end of file
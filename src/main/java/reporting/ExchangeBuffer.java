@@ -0,0 +1,40 @@
+package reporting;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The last {@code capacity} exchanges of one thread, oldest overwritten first
+ */
+class ExchangeBuffer {
+
+    private final HttpExchange[] exchanges;
+    private long written;
+
+    ExchangeBuffer(int capacity) {
+        this.exchanges = new HttpExchange[Math.max(1, capacity)];
+    }
+
+    void add(HttpExchange exchange) {
+        exchanges[(int) (written++ % exchanges.length)] = exchange;
+    }
+
+    /**
+     * Buffered exchanges, oldest first
+     */
+    List<HttpExchange> drain() {
+        int size = (int) Math.min(written, exchanges.length);
+        List<HttpExchange> drained = new ArrayList<>(size);
+        for (long i = written - size; i < written; i++) {
+            int index = (int) (i % exchanges.length);
+            drained.add(exchanges[index]);
+            exchanges[index] = null;
+        }
+        written = 0;
+        return drained;
+    }
+
+    long dropped() {
+        return Math.max(0, written - exchanges.length);
+    }
+}
\ No newline at end of file
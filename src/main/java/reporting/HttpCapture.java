@@ -0,0 +1,131 @@
+package reporting;
+
+import config.ConfigManager;
+import io.qameta.allure.attachment.DefaultAttachmentProcessor;
+import io.qameta.allure.attachment.FreemarkerAttachmentRenderer;
+import io.qameta.allure.attachment.http.HttpRequestAttachment;
+import io.qameta.allure.attachment.http.HttpResponseAttachment;
+import io.restassured.internal.support.Prettifier;
+import io.restassured.parsing.Parser;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Decides which HTTP exchanges end up in the Allure report.
+ * <p>
+ * In {@code failures} mode every thread keeps its last {@code allure.capture.buffer.size}
+ * exchanges in memory, and {@link #flush(boolean)} at the end of a test writes them only if the
+ * test failed, or for a random {@code allure.capture.sample.rate} fraction of passing tests.
+ * Exchanges made on other threads (bulk and async helpers) are buffered on those threads and are
+ * not attached to the test.
+ */
+@Slf4j
+public class HttpCapture {
+
+    private static final CaptureMode mode = CaptureMode.fromConfig(ConfigManager.getConfig().allureCaptureMode());
+    private static final int bufferSize = ConfigManager.getConfig().allureCaptureBufferSize();
+    private static final double sampleRate = ConfigManager.getConfig().allureCaptureSampleRate();
+    private static final int maxBodyChars = ConfigManager.getConfig().allureCaptureMaxBodyChars();
+    private static final ThreadLocal<ExchangeBuffer> buffers = ThreadLocal.withInitial(() -> new ExchangeBuffer(bufferSize));
+
+    public static CaptureMode getMode() {
+        return mode;
+    }
+
+    /**
+     * Handles one finished exchange according to the capture mode
+     */
+    public static void capture(HttpExchange exchange) {
+        switch (mode) {
+            case ALWAYS:
+                attach(exchange);
+                break;
+            case FAILURES:
+                buffers.get().add(exchange);
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Attaches the exchanges buffered on this thread if the test failed or was sampled, then clears them
+     *
+     * @return number of exchanges attached
+     */
+    public static int flush(boolean failed) {
+        if (mode != CaptureMode.FAILURES) {
+            return 0;
+        }
+        ExchangeBuffer buffer = buffers.get();
+        long dropped = buffer.dropped();
+        List<HttpExchange> exchanges = buffer.drain();
+        if (exchanges.isEmpty() || !(failed || ThreadLocalRandom.current().nextDouble() < sampleRate)) {
+            return 0;
+        }
+        if (dropped > 0) {
+            log.info("{} earlier HTTP exchanges were not kept for the report (allure.capture.buffer.size={})",
+                    dropped, bufferSize);
+        }
+        exchanges.forEach(HttpCapture::attach);
+        return exchanges.size();
+    }
+
+    /**
+     * Drops the exchanges buffered on this thread
+     */
+    public static void clear() {
+        if (mode == CaptureMode.FAILURES) {
+            buffers.get().drain();
+        }
+    }
+
+    /**
+     * Cuts a body down to {@code allure.capture.max.body.chars}
+     */
+    static String truncate(String body) {
+        if (body == null || body.length() <= maxBodyChars) {
+            return body;
+        }
+        return body.substring(0, maxBodyChars) + "\n... [" + (body.length() - maxBodyChars) + " more characters]";
+    }
+
+    private static void attach(HttpExchange exchange) {
+        DefaultAttachmentProcessor processor = new DefaultAttachmentProcessor();
+        HttpRequestAttachment.Builder request = HttpRequestAttachment.Builder.create("Request", exchange.getUrl())
+                .setMethod(exchange.getMethod())
+                .setHeaders(exchange.getRequestHeaders());
+        if (exchange.getRequestBody() != null) {
+            request.setBody(prettify(exchange.getRequestBody(), exchange.getRequestContentType()));
+        }
+        processor.addAttachment(request.build(), new FreemarkerAttachmentRenderer("http-request.ftl"));
+
+        if (exchange.getFailure() != null) {
+            processor.addAttachment(HttpResponseAttachment.Builder.create("No response")
+                    .setUrl(exchange.getUrl())
+                    .setBody(exchange.getFailure())
+                    .build(), new FreemarkerAttachmentRenderer("http-response.ftl"));
+            return;
+        }
+        processor.addAttachment(HttpResponseAttachment.Builder.create(exchange.getStatusLine())
+                .setUrl(exchange.getUrl())
+                .setResponseCode(exchange.getStatusCode())
+                .setHeaders(exchange.getResponseHeaders())
+                .setBody(prettify(exchange.getResponseBody(), exchange.getResponseContentType()))
+                .build(), new FreemarkerAttachmentRenderer("http-response.ftl"));
+    }
+
+    private static String prettify(String body, String contentType) {
+        Parser parser = contentType == null || body == null || body.isEmpty() ? null : Parser.fromContentType(contentType);
+        if (parser == null) {
+            return body;
+        }
+        try {
+            return new Prettifier().prettify(body, parser);
+        } catch (RuntimeException e) {
+            return body;
+        }
+    }
+}
\ No newline at end of file
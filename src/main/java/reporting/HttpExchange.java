@@ -0,0 +1,25 @@
+package reporting;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.Map;
+
+/**
+ * One captured request and its response; {@code statusCode} is 0 when no response arrived
+ */
+@Value
+@Builder
+public class HttpExchange {
+    String method;
+    String url;
+    Map<String, String> requestHeaders;
+    String requestBody;
+    String requestContentType;
+    int statusCode;
+    String statusLine;
+    Map<String, String> responseHeaders;
+    String responseBody;
+    String responseContentType;
+    String failure;
+}
\ No newline at end of file
@@ -0,0 +1,206 @@
+package services;
+
+import auth.TokenPool;
+import config.ConfigManager;
+import core.ApiClient;
+import core.AsyncApiClient;
+import core.RetryClassifier;
+import core.RetryManager;
+import lombok.extern.slf4j.Slf4j;
+import metrics.RequestMetrics;
+import models.booking.BookingRequest;
+import models.booking.BookingResponse;
+import models.booking.PartialBookingRequest;
+import recording.RecordingMode;
+import utils.JsonCodec;
+import utils.ResponseValidator;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Non-blocking counterpart of {@link BookingService}.
+ * Every operation returns immediately with a future; retries are scheduled rather than slept.
+ * Requests go to the target of the {@link ApiClient} the service was created for, authenticated
+ * with tokens from that same target. The JDK client bypasses the record and replay filter of the
+ * {@link ApiClient}, so a service for a replaying client fails every request instead of reaching
+ * the network.
+ */
+@Slf4j
+public class AsyncBookingService {
+
+    private static final String BOOKING_ENDPOINT = "/booking";
+
+    private final int bulkConcurrency = ConfigManager.getConfig().bulkConcurrency();
+    private final ApiClient apiClient;
+    private final AsyncApiClient asyncApiClient;
+    private final TokenPool tokenPool;
+    private final boolean replaying;
+
+    public AsyncBookingService() {
+        this(ApiClient.defaultClient());
+    }
+
+    public AsyncBookingService(ApiClient apiClient) {
+        this(apiClient, TokenPool.forClient(apiClient));
+    }
+
+    public AsyncBookingService(ApiClient apiClient, TokenPool tokenPool) {
+        this.apiClient = apiClient;
+        this.asyncApiClient = AsyncApiClient.forSettings(apiClient.getSettings());
+        this.tokenPool = tokenPool;
+        this.replaying = apiClient.getSettings().getRecordingMode() == RecordingMode.REPLAY;
+    }
+
+    public CompletableFuture<BookingResponse> createBooking(BookingRequest bookingRequest) {
+        log.info("Creating new booking asynchronously for: {} {}",
+                bookingRequest.getFirstname(), bookingRequest.getLastname());
+
+        return create(bookingRequest).thenApply(bookingResponse -> {
+            log.info("Booking created successfully with ID: {}", bookingResponse.getBookingid());
+            return bookingResponse;
+        });
+    }
+
+    /**
+     * Creates all bookings with at most {@code bulk.concurrency} requests in flight.
+     * A failed item is reported in the result without stopping the others.
+     */
+    public CompletableFuture<BulkResult<BookingRequest, BookingResponse>> createBookings(List<BookingRequest> bookingRequests) {
+        log.info("Creating {} bookings with concurrency {}", bookingRequests.size(), bulkConcurrency);
+        return BulkExecutor.execute(bookingRequests, this::create, bulkConcurrency);
+    }
+
+    public CompletableFuture<BookingRequest> getBooking(int bookingId) {
+        log.info("Retrieving booking asynchronously with ID: {}", bookingId);
+
+        return execute(() -> asyncApiClient.newRequest(BOOKING_ENDPOINT + "/" + bookingId)
+                        .GET()
+                        .build(),
+                response -> {
+                    ResponseValidator.validateStatusCode(response, 200);
+                    ResponseValidator.validateContentType(response, "application/json");
+
+                    log.info("Booking retrieved successfully: {}", response.body());
+                    return JsonCodec.read(response.body(), BookingRequest.class);
+                });
+    }
+
+    public CompletableFuture<BookingRequest> updateBooking(int bookingId, BookingRequest bookingRequest) {
+        log.info("Updating booking asynchronously with ID: {}", bookingId);
+
+        return authorized(token -> execute(() -> asyncApiClient.newRequest(BOOKING_ENDPOINT + "/" + bookingId)
+                        .header("Cookie", "token=" + token)
+                        .PUT(jsonBody(bookingRequest))
+                        .build(),
+                response -> {
+                    ResponseValidator.validateStatusCode(response, 200);
+                    ResponseValidator.validateContentType(response, "application/json");
+
+                    log.info("Booking updated successfully: {}", response.body());
+                    return JsonCodec.read(response.body(), BookingRequest.class);
+                }));
+    }
+
+    public CompletableFuture<BookingRequest> partialUpdateBooking(int bookingId, PartialBookingRequest partialRequest) {
+        log.info("Partially updating booking asynchronously with ID: {}", bookingId);
+
+        return authorized(token -> execute(() -> asyncApiClient.newRequest(BOOKING_ENDPOINT + "/" + bookingId)
+                        .header("Cookie", "token=" + token)
+                        .method("PATCH", jsonBody(partialRequest))
+                        .build(),
+                response -> {
+                    ResponseValidator.validateStatusCode(response, 200);
+                    ResponseValidator.validateContentType(response, "application/json");
+
+                    log.info("Booking partially updated successfully: {}", response.body());
+                    return JsonCodec.read(response.body(), BookingRequest.class);
+                }));
+    }
+
+    public CompletableFuture<Void> deleteBooking(int bookingId) {
+        log.info("Deleting booking asynchronously with ID: {}", bookingId);
+
+        return delete(bookingId).thenRun(() -> log.info("Booking deleted successfully"));
+    }
+
+    /**
+     * Deletes all bookings with at most {@code bulk.concurrency} requests in flight
+     */
+    public CompletableFuture<BulkResult<Integer, Void>> deleteBookings(Collection<Integer> bookingIds) {
+        log.info("Deleting {} bookings with concurrency {}", bookingIds.size(), bulkConcurrency);
+        return BulkExecutor.execute(new ArrayList<>(bookingIds), this::delete, bulkConcurrency);
+    }
+
+    private CompletableFuture<BookingResponse> create(BookingRequest bookingRequest) {
+        String cleanupScope = BookingCleanupRegistry.currentScope();
+        return execute(() -> asyncApiClient.newRequest(BOOKING_ENDPOINT)
+                        .POST(jsonBody(bookingRequest))
+                        .build(),
+                response -> {
+                    ResponseValidator.validateStatusCode(response, 200);
+                    ResponseValidator.validateContentType(response, "application/json");
+                    ResponseValidator.validateNotNull(response, "bookingid");
+
+                    log.debug("Created booking: {}", response.body());
+                    BookingResponse bookingResponse = JsonCodec.read(response.body(), BookingResponse.class);
+                    BookingCleanupRegistry.register(cleanupScope, apiClient, bookingResponse.getBookingid());
+                    return bookingResponse;
+                });
+    }
+
+    private CompletableFuture<Void> delete(int bookingId) {
+        return authorized(token -> execute(() -> asyncApiClient.newRequest(BOOKING_ENDPOINT + "/" + bookingId)
+                        .header("Cookie", "token=" + token)
+                        .DELETE()
+                        .build(),
+                response -> {
+                    ResponseValidator.validateStatusCode(response, 201);
+                    BookingCleanupRegistry.unregister(apiClient, bookingId);
+                    log.debug("Deleted booking: {}", bookingId);
+                    return null;
+                }));
+    }
+
+    private <T> CompletableFuture<T> execute(Supplier<HttpRequest> request,
+                                             Function<HttpResponse<String>, T> handler) {
+        if (replaying) {
+            return replayUnsupported();
+        }
+        return RetryManager.executeWithRetryAsync(() -> {
+            HttpRequest httpRequest = request.get();
+            boolean retry = RetryManager.isRetryAttempt();
+            long start = System.nanoTime();
+            return asyncApiClient.getHttpClient()
+                    .sendAsync(httpRequest, HttpResponse.BodyHandlers.ofString())
+                    .whenComplete((response, failure) ->
+                            RequestMetrics.record(httpRequest, response, System.nanoTime() - start, retry))
+                    .thenApply(response -> {
+                        RetryClassifier.throwIfRetryable(response);
+                        return handler.apply(response);
+                    });
+        });
+    }
+
+    private <T> CompletableFuture<T> authorized(Function<String, CompletableFuture<T>> operation) {
+        if (replaying) {
+            return replayUnsupported();
+        }
+        return tokenPool.withTokenAsync(operation);
+    }
+
+    private static <T> CompletableFuture<T> replayUnsupported() {
+        return CompletableFuture.failedFuture(
+                new UnsupportedOperationException("Async booking calls are not recorded and cannot be replayed"));
+    }
+
+    private static HttpRequest.BodyPublisher jsonBody(Object body) {
+        return HttpRequest.BodyPublishers.ofByteArray(JsonCodec.writeBytes(body));
+    }
+}
\ No newline at end of file
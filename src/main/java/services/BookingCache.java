@@ -0,0 +1,258 @@
+package services;
+
+import config.ConfigManager;
+import config.EnvironmentConfig;
+import lombok.extern.slf4j.Slf4j;
+import models.booking.BookingDates;
+import models.booking.BookingRequest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded LRU of bookings read by {@link BookingService#getBooking(int)}, keyed by booking ID.
+ * <p>
+ * Entries that came with an {@code ETag} or {@code Last-Modified} are revalidated with a
+ * conditional GET, so a 304 skips the body download and deserialization. Entries without
+ * either validator are trusted for {@code booking.cache.ttl.millis} and then fetched again.
+ * Writes through the owning service invalidate the entry; changes made by anyone else are only
+ * seen through revalidation or TTL expiry. Callers get copies, so they may modify what they read.
+ * <p>
+ * Every invalidation bumps the generation of its booking. A read captures the generation before
+ * its request and passes it to {@link #store}, which drops the result if the booking was
+ * invalidated in between, so a slow read cannot bring back what a write just invalidated.
+ * Generations are kept for the {@code maxEntries} most recently invalidated bookings; older ones
+ * fall back to a shared floor, which can only drop more reads, never keep a stale one.
+ */
+@Slf4j
+public class BookingCache {
+
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final Map<Integer, Entry> entries;
+    private final Map<Integer, Long> generations;
+    private final ReentrantLock entriesLock = new ReentrantLock();
+    private long lastGeneration;
+    private long forgottenGeneration;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder revalidations = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder droppedReads = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public BookingCache(int maxEntries, long ttlMillis) {
+        this.maxEntries = maxEntries;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        this.entries = new LinkedHashMap<Integer, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, BookingCache.Entry> eldest) {
+                if (size() > BookingCache.this.maxEntries) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+        this.generations = new LinkedHashMap<Integer, Long>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Long> eldest) {
+                if (size() > BookingCache.this.maxEntries) {
+                    forgottenGeneration = Math.max(forgottenGeneration, eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Whether services created without an explicit cache get one ({@code booking.cache.enabled})
+     */
+    public static boolean isEnabled() {
+        return ConfigManager.getConfig().bookingCacheEnabled();
+    }
+
+    public static BookingCache fromConfig() {
+        EnvironmentConfig config = ConfigManager.getConfig();
+        return new BookingCache(config.bookingCacheMaxEntries(), config.bookingCacheTtlMillis());
+    }
+
+    /**
+     * Cached booking that is still within its TTL and has no validators, counted as a hit
+     */
+    BookingRequest fresh(int bookingId) {
+        Entry entry = entry(bookingId);
+        if (entry == null || entry.hasValidators() || System.nanoTime() - entry.storedAtNanos > ttlNanos) {
+            return null;
+        }
+        hits.increment();
+        return copy(entry.booking);
+    }
+
+    /**
+     * Cached entry to revalidate, or null when there is none or it has no validators
+     */
+    Entry validated(int bookingId) {
+        Entry entry = entry(bookingId);
+        return entry != null && entry.hasValidators() ? entry : null;
+    }
+
+    /**
+     * The server confirmed the entry with 304
+     */
+    BookingRequest revalidated(Entry entry) {
+        revalidations.increment();
+        return copy(entry.booking);
+    }
+
+    /**
+     * Generation of a booking, to be captured before requesting it and passed to {@link #store}
+     */
+    public long generation(int bookingId) {
+        entriesLock.lock();
+        try {
+            return generations.getOrDefault(bookingId, forgottenGeneration);
+        } finally {
+            entriesLock.unlock();
+        }
+    }
+
+    /**
+     * Caches a booking read at the given generation, unless it has been invalidated since
+     */
+    public void store(int bookingId, long generation, BookingRequest booking, String etag, String lastModified) {
+        Entry entry = new Entry(copy(booking), etag, lastModified, System.nanoTime());
+        entriesLock.lock();
+        try {
+            if (generations.getOrDefault(bookingId, forgottenGeneration) != generation) {
+                log.debug("Dropping read of booking {} that was invalidated while in flight", bookingId);
+                droppedReads.increment();
+                return;
+            }
+            entries.put(bookingId, entry);
+            misses.increment();
+        } finally {
+            entriesLock.unlock();
+        }
+    }
+
+    public void invalidate(int bookingId) {
+        entriesLock.lock();
+        try {
+            entries.remove(bookingId);
+            generations.put(bookingId, ++lastGeneration);
+        } finally {
+            entriesLock.unlock();
+        }
+    }
+
+    public void clear() {
+        entriesLock.lock();
+        try {
+            entries.clear();
+            generations.clear();
+            forgottenGeneration = ++lastGeneration;
+        } finally {
+            entriesLock.unlock();
+        }
+    }
+
+    public int size() {
+        entriesLock.lock();
+        try {
+            return entries.size();
+        } finally {
+            entriesLock.unlock();
+        }
+    }
+
+    /**
+     * Reads served without a new body (TTL hits and 304 revalidations) over all reads
+     */
+    public double hitRatio() {
+        long served = hits.sum() + revalidations.sum();
+        long total = served + misses.sum() + droppedReads.sum();
+        return total == 0 ? 0 : (double) served / total;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getRevalidations() {
+        return revalidations.sum();
+    }
+
+    /**
+     * Reads that downloaded a body and cached it
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Reads that downloaded a body but were not cached, because the booking was invalidated meanwhile
+     */
+    public long getDroppedReads() {
+        return droppedReads.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    private Entry entry(int bookingId) {
+        entriesLock.lock();
+        try {
+            return entries.get(bookingId);
+        } finally {
+            entriesLock.unlock();
+        }
+    }
+
+    private static BookingRequest copy(BookingRequest booking) {
+        BookingDates dates = booking.getBookingdates();
+        return BookingRequest.builder()
+                .firstname(booking.getFirstname())
+                .lastname(booking.getLastname())
+                .totalprice(booking.getTotalprice())
+                .depositpaid(booking.isDepositpaid())
+                .bookingdates(dates == null ? null : BookingDates.builder()
+                        .checkin(dates.getCheckin())
+                        .checkout(dates.getCheckout())
+                        .build())
+                .additionalneeds(booking.getAdditionalneeds())
+                .build();
+    }
+
+    static class Entry {
+
+        private final BookingRequest booking;
+        private final String etag;
+        private final String lastModified;
+        private final long storedAtNanos;
+
+        private Entry(BookingRequest booking, String etag, String lastModified, long storedAtNanos) {
+            this.booking = booking;
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.storedAtNanos = storedAtNanos;
+        }
+
+        String getEtag() {
+            return etag;
+        }
+
+        String getLastModified() {
+            return lastModified;
+        }
+
+        private boolean hasValidators() {
+            return etag != null || lastModified != null;
+        }
+    }
+}
\ No newline at end of file
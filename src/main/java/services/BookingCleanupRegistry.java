@@ -0,0 +1,194 @@
+package services;
+
+import config.ConfigManager;
+import core.ApiClient;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import recording.RecordingMode;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Records every booking created during a run so it can be deleted afterwards.
+ * <p>
+ * Bookings are grouped by scope (the test class that created them, set per test method by the
+ * base test), and removed again when a test deletes them itself. Each booking is recorded with the
+ * {@link ApiClient} that created it, so bookings with the same ID on different targets stay apart
+ * and are deleted on their own target. {@link #cleanupScope(String)} starts a bulk delete of the
+ * remaining bookings in the background, bounded by {@code bulk.concurrency} per target, and {@link #awaitCleanup(Duration)} waits for every batch at suite
+ * end and reports the outcome. Disabled with {@code cleanup.enabled=false}.
+ * <p>
+ * Bookings returned by a replaying client exist on no server, so they are not recorded and
+ * cleanup never leaves the process during a replay.
+ */
+@Slf4j
+public class BookingCleanupRegistry {
+
+    public static final String SUITE_SCOPE = "suite";
+
+    private static final boolean enabled = ConfigManager.getConfig().cleanupEnabled();
+    private static final ThreadLocal<String> currentScope = new ThreadLocal<>();
+    private static final Map<BookingKey, Registration> registrations = new ConcurrentHashMap<>();
+    private static final Queue<CompletableFuture<BulkResult<Integer, Void>>> pendingBatches = new ConcurrentLinkedQueue<>();
+    private static final Map<String, AsyncBookingService> cleanupServices = new ConcurrentHashMap<>();
+    private static final AtomicLong cleanupStartNanos = new AtomicLong();
+    private static final AtomicLong cleanupEndNanos = new AtomicLong();
+
+    public static void setScope(String scope) {
+        currentScope.set(scope);
+    }
+
+    public static void clearScope() {
+        currentScope.remove();
+    }
+
+    /**
+     * Scope of the calling thread; bookings created outside a test method belong to the suite
+     */
+    public static String currentScope() {
+        String scope = currentScope.get();
+        return scope != null ? scope : SUITE_SCOPE;
+    }
+
+    public static void register(ApiClient apiClient, int bookingId) {
+        register(currentScope(), apiClient, bookingId);
+    }
+
+    public static void register(String scope, ApiClient apiClient, int bookingId) {
+        if (enabled && apiClient.getSettings().getRecordingMode() != RecordingMode.REPLAY) {
+            registrations.put(new BookingKey(targetOf(apiClient), bookingId), new Registration(scope, apiClient));
+        }
+    }
+
+    /**
+     * Forgets a booking that has already been deleted
+     */
+    public static void unregister(ApiClient apiClient, int bookingId) {
+        registrations.remove(new BookingKey(targetOf(apiClient), bookingId));
+    }
+
+    public static int getRegisteredCount() {
+        return registrations.size();
+    }
+
+    /**
+     * Starts deleting the bookings of a scope, each through the client that created it, without
+     * waiting for the result
+     */
+    public static CompletableFuture<BulkResult<Integer, Void>> cleanupScope(String scope) {
+        Map<String, List<Integer>> bookingIdsByTarget = new LinkedHashMap<>();
+        Map<String, ApiClient> clientsByTarget = new LinkedHashMap<>();
+        registrations.forEach((key, registration) -> {
+            if (registration.getScope().equals(scope) && registrations.remove(key, registration)) {
+                bookingIdsByTarget.computeIfAbsent(key.getTarget(), target -> new ArrayList<>()).add(key.getBookingId());
+                clientsByTarget.putIfAbsent(key.getTarget(), registration.getApiClient());
+            }
+        });
+        if (bookingIdsByTarget.isEmpty()) {
+            return CompletableFuture.completedFuture(new BulkResult<>(new ArrayList<>(), 0));
+        }
+
+        List<CompletableFuture<BulkResult<Integer, Void>>> targetBatches = new ArrayList<>();
+        bookingIdsByTarget.forEach((target, bookingIds) -> {
+            log.info("Cleaning up {} bookings created by {} on {}", bookingIds.size(), scope, target);
+            AsyncBookingService service = cleanupServices.computeIfAbsent(target,
+                    ignored -> new AsyncBookingService(clientsByTarget.get(target)));
+            targetBatches.add(service.deleteBookings(bookingIds));
+        });
+        cleanupStartNanos.compareAndSet(0, System.nanoTime());
+        CompletableFuture<BulkResult<Integer, Void>> batch = CompletableFuture
+                .allOf(targetBatches.toArray(new CompletableFuture<?>[0]))
+                .thenApply(ignored -> combine(targetBatches))
+                .whenComplete((result, failure) -> cleanupEndNanos.accumulateAndGet(System.nanoTime(), Math::max));
+        pendingBatches.add(batch);
+        return batch;
+    }
+
+    /**
+     * Cleans up every remaining scope, waits for all batches and reports the combined result
+     */
+    public static BulkResult<Integer, Void> awaitCleanup(Duration timeout) {
+        Set<String> scopes = new HashSet<>();
+        registrations.values().forEach(registration -> scopes.add(registration.getScope()));
+        scopes.forEach(BookingCleanupRegistry::cleanupScope);
+
+        List<CompletableFuture<BulkResult<Integer, Void>>> batches = new ArrayList<>();
+        CompletableFuture<BulkResult<Integer, Void>> batch;
+        while ((batch = pendingBatches.poll()) != null) {
+            batches.add(batch);
+        }
+        if (batches.isEmpty()) {
+            return new BulkResult<>(new ArrayList<>(), 0);
+        }
+
+        try {
+            CompletableFuture.allOf(batches.toArray(new CompletableFuture<?>[0]))
+                    .get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("Booking cleanup did not finish within {}s; reporting completed batches only", timeout.getSeconds());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            log.warn("Booking cleanup batch failed", e.getCause());
+        }
+
+        // Batches overlap, so elapsed time runs from the first submit to the last completion (or now, on timeout)
+        List<BulkItemResult<Integer, Void>> items = new ArrayList<>();
+        boolean allDone = true;
+        for (CompletableFuture<BulkResult<Integer, Void>> completed : batches) {
+            if (completed.isDone() && !completed.isCompletedExceptionally()) {
+                items.addAll(completed.join().getItems());
+            }
+            allDone &= completed.isDone();
+        }
+        long lastCompletionNanos = cleanupEndNanos.getAndSet(0);
+        long endNanos = allDone ? lastCompletionNanos : System.nanoTime();
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(endNanos - cleanupStartNanos.getAndSet(0));
+        BulkResult<Integer, Void> summary = new BulkResult<>(items, elapsedMillis);
+        log.info("Booking cleanup finished: {}", summary);
+        return summary;
+    }
+
+    /**
+     * Targets run their batches concurrently, so the combined batch took as long as the slowest
+     */
+    private static BulkResult<Integer, Void> combine(List<CompletableFuture<BulkResult<Integer, Void>>> batches) {
+        List<BulkItemResult<Integer, Void>> items = new ArrayList<>();
+        long elapsedMillis = 0;
+        for (CompletableFuture<BulkResult<Integer, Void>> batch : batches) {
+            items.addAll(batch.join().getItems());
+            elapsedMillis = Math.max(elapsedMillis, batch.join().getElapsedMillis());
+        }
+        return new BulkResult<>(items, elapsedMillis);
+    }
+
+    private static String targetOf(ApiClient apiClient) {
+        return apiClient.getSettings().getBaseUrl();
+    }
+
+    @Value
+    private static class BookingKey {
+        String target;
+        int bookingId;
+    }
+
+    @Value
+    private static class Registration {
+        String scope;
+        ApiClient apiClient;
+    }
+}
\ No newline at end of file
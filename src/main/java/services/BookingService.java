@@ -1,70 +1,149 @@
 package services;
 
-import auth.AuthenticationManager;
-import core.BaseApiClient;
+import auth.TokenLease;
+import auth.TokenPool;
+import core.ApiClient;
+import core.RetryClassifier;
 import core.RetryManager;
 import io.qameta.allure.Step;
 import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
 import lombok.extern.slf4j.Slf4j;
 import models.booking.BookingRequest;
 import models.booking.BookingResponse;
 import models.booking.PartialBookingRequest;
-import utils.JsonUtils;
+import utils.JsonCodec;
 import utils.ResponseValidator;
 
-import static io.restassured.RestAssured.given;
+import java.util.Collection;
+import java.util.List;
 
 @Slf4j
 public class BookingService {
     
     private static final String BOOKING_ENDPOINT = "/booking";
     
+    private final ApiClient apiClient;
+    private final TokenPool tokenPool;
+    private final BookingCache bookingCache;
+    private final AsyncBookingService asyncBookingService;
+    
+    public BookingService() {
+        this(ApiClient.defaultClient());
+    }
+    
+    /**
+     * Service sending every request through the given client, e.g. one per tenant or target,
+     * authenticated with tokens from that same target
+     */
+    public BookingService(ApiClient apiClient) {
+        this(apiClient, TokenPool.forClient(apiClient));
+    }
+    
+    public BookingService(ApiClient apiClient, TokenPool tokenPool) {
+        this(apiClient, tokenPool, BookingCache.isEnabled() ? BookingCache.fromConfig() : null);
+    }
+    
+    /**
+     * Service whose {@link #getBooking(int)} reads through the given cache ({@code null} for none)
+     */
+    public BookingService(ApiClient apiClient, TokenPool tokenPool, BookingCache bookingCache) {
+        this.apiClient = apiClient;
+        this.tokenPool = tokenPool;
+        this.bookingCache = bookingCache;
+        this.asyncBookingService = new AsyncBookingService(apiClient, tokenPool);
+    }
+    
+    public BookingCache getBookingCache() {
+        return bookingCache;
+    }
+    
     @Step("Create new booking")
     public BookingResponse createBooking(BookingRequest bookingRequest) {
         log.info("Creating new booking for: {} {}", 
                 bookingRequest.getFirstname(), bookingRequest.getLastname());
         
         return RetryManager.executeWithRetry(() -> {
-            Response response = given()
-                    .spec(BaseApiClient.getRequestSpec())
-                    .body(bookingRequest)
+            Response response = apiClient.request()
+                    .body(JsonCodec.writeBytes(bookingRequest))
                     .when()
                     .post(BOOKING_ENDPOINT)
                     .then()
                     .extract()
                     .response();
             
+            RetryClassifier.throwIfRetryable(response);
+            
             ResponseValidator.validateStatusCode(response, 200);
             ResponseValidator.validateContentType(response, "application/json");
             ResponseValidator.validateNotNull(response, "bookingid");
             
-            String responseBody = response.getBody().asString();
-            log.info("Booking created successfully with response: {}", responseBody);
+            BookingResponse bookingResponse = JsonCodec.read(response, BookingResponse.class);
+            BookingCleanupRegistry.register(apiClient, bookingResponse.getBookingid());
+            log.info("Booking created successfully with ID: {}", bookingResponse.getBookingid());
+            log.debug("Created booking: {}", bookingResponse);
             
-            return JsonUtils.fromJson(responseBody, BookingResponse.class);
+            return bookingResponse;
         });
     }
     
+    @Step("Create bookings in bulk")
+    public BulkResult<BookingRequest, BookingResponse> createBookings(List<BookingRequest> bookingRequests) {
+        return asyncBookingService.createBookings(bookingRequests).join();
+    }
+    
     @Step("Get booking by ID: {bookingId}")
     public BookingRequest getBooking(int bookingId) {
         log.info("Retrieving booking with ID: {}", bookingId);
         
+        if (bookingCache != null) {
+            BookingRequest cached = bookingCache.fresh(bookingId);
+            if (cached != null) {
+                log.debug("Booking {} served from cache", bookingId);
+                return cached;
+            }
+        }
+        
         return RetryManager.executeWithRetry(() -> {
-            Response response = given()
-                    .spec(BaseApiClient.getRequestSpec())
+            long generation = bookingCache != null ? bookingCache.generation(bookingId) : 0;
+            BookingCache.Entry cachedEntry = bookingCache != null ? bookingCache.validated(bookingId) : null;
+            RequestSpecification request = apiClient.request();
+            if (cachedEntry != null) {
+                if (cachedEntry.getEtag() != null) {
+                    request.header("If-None-Match", cachedEntry.getEtag());
+                }
+                if (cachedEntry.getLastModified() != null) {
+                    request.header("If-Modified-Since", cachedEntry.getLastModified());
+                }
+            }
+            Response response = request
                     .when()
                     .get(BOOKING_ENDPOINT + "/" + bookingId)
                     .then()
                     .extract()
                     .response();
             
+            RetryClassifier.throwIfRetryable(response);
+            
+            if (cachedEntry != null && response.getStatusCode() == 304) {
+                log.info("Booking {} not modified, served from cache", bookingId);
+                return bookingCache.revalidated(cachedEntry);
+            }
+            if (response.getStatusCode() != 200) {
+                invalidate(bookingId);
+            }
+            
             ResponseValidator.validateStatusCode(response, 200);
             ResponseValidator.validateContentType(response, "application/json");
             
-            String responseBody = response.getBody().asString();
-            log.info("Booking retrieved successfully: {}", responseBody);
+            BookingRequest booking = JsonCodec.read(response, BookingRequest.class);
+            if (bookingCache != null) {
+                bookingCache.store(bookingId, generation, booking, response.getHeader("ETag"), response.getHeader("Last-Modified"));
+            }
+            log.info("Booking retrieved successfully: {}", bookingId);
+            log.debug("Booking details: {}", booking);
             
-            return JsonUtils.fromJson(responseBody, BookingRequest.class);
+            return booking;
         });
     }
     
@@ -73,23 +152,30 @@ public class BookingService {
         log.info("Updating booking with ID: {}", bookingId);
         
         return RetryManager.executeWithRetry(() -> {
-            Response response = given()
-                    .spec(BaseApiClient.getRequestSpec())
-                    .header("Cookie", "token=" + AuthenticationManager.getAuthToken())
-                    .body(bookingRequest)
-                    .when()
-                    .put(BOOKING_ENDPOINT + "/" + bookingId)
-                    .then()
-                    .extract()
-                    .response();
+            Response response;
+            try (TokenLease lease = tokenPool.acquire()) {
+                response = apiClient.request()
+                        .header("Cookie", "token=" + lease.getToken())
+                        .body(JsonCodec.writeBytes(bookingRequest))
+                        .when()
+                        .put(BOOKING_ENDPOINT + "/" + bookingId)
+                        .then()
+                        .extract()
+                        .response();
+            }
+            // Whatever the outcome, the cached copy may no longer match the server
+            invalidate(bookingId);
+            
+            RetryClassifier.throwIfRetryable(response);
             
             ResponseValidator.validateStatusCode(response, 200);
             ResponseValidator.validateContentType(response, "application/json");
             
-            String responseBody = response.getBody().asString();
-            log.info("Booking updated successfully: {}", responseBody);
+            BookingRequest booking = JsonCodec.read(response, BookingRequest.class);
+            log.info("Booking updated successfully: {}", bookingId);
+            log.debug("Booking details: {}", booking);
             
-            return JsonUtils.fromJson(responseBody, BookingRequest.class);
+            return booking;
         });
     }
     
@@ -98,23 +184,30 @@ public class BookingService {
         log.info("Partially updating booking with ID: {}", bookingId);
         
         return RetryManager.executeWithRetry(() -> {
-            Response response = given()
-                    .spec(BaseApiClient.getRequestSpec())
-                    .header("Cookie", "token=" + AuthenticationManager.getAuthToken())
-                    .body(partialRequest)
-                    .when()
-                    .patch(BOOKING_ENDPOINT + "/" + bookingId)
-                    .then()
-                    .extract()
-                    .response();
+            Response response;
+            try (TokenLease lease = tokenPool.acquire()) {
+                response = apiClient.request()
+                        .header("Cookie", "token=" + lease.getToken())
+                        .body(JsonCodec.writeBytes(partialRequest))
+                        .when()
+                        .patch(BOOKING_ENDPOINT + "/" + bookingId)
+                        .then()
+                        .extract()
+                        .response();
+            }
+            // Whatever the outcome, the cached copy may no longer match the server
+            invalidate(bookingId);
+            
+            RetryClassifier.throwIfRetryable(response);
             
             ResponseValidator.validateStatusCode(response, 200);
             ResponseValidator.validateContentType(response, "application/json");
             
-            String responseBody = response.getBody().asString();
-            log.info("Booking partially updated successfully: {}", responseBody);
+            BookingRequest booking = JsonCodec.read(response, BookingRequest.class);
+            log.info("Booking partially updated successfully: {}", bookingId);
+            log.debug("Booking details: {}", booking);
             
-            return JsonUtils.fromJson(responseBody, BookingRequest.class);
+            return booking;
         });
     }
     
@@ -123,26 +216,44 @@ public class BookingService {
         log.info("Deleting booking with ID: {}", bookingId);
         
         RetryManager.executeWithRetry(() -> {
-            Response response = given()
-                    .spec(BaseApiClient.getRequestSpec())
-                    .header("Cookie", "token=" + AuthenticationManager.getAuthToken())
-                    .when()
-                    .delete(BOOKING_ENDPOINT + "/" + bookingId)
-                    .then()
-                    .extract()
-                    .response();
+            Response response;
+            try (TokenLease lease = tokenPool.acquire()) {
+                response = apiClient.request()
+                        .header("Cookie", "token=" + lease.getToken())
+                        .when()
+                        .delete(BOOKING_ENDPOINT + "/" + bookingId)
+                        .then()
+                        .extract()
+                        .response();
+            }
+            // Whatever the outcome, the cached copy may no longer match the server
+            invalidate(bookingId);
+            
+            RetryClassifier.throwIfRetryable(response);
             
             ResponseValidator.validateStatusCode(response, 201);
+            BookingCleanupRegistry.unregister(apiClient, bookingId);
             log.info("Booking deleted successfully");
         });
     }
     
+    @Step("Delete bookings in bulk")
+    public BulkResult<Integer, Void> deleteBookings(Collection<Integer> bookingIds) {
+        bookingIds.forEach(this::invalidate);
+        return asyncBookingService.deleteBookings(bookingIds).join();
+    }
+    
+    private void invalidate(int bookingId) {
+        if (bookingCache != null) {
+            bookingCache.invalidate(bookingId);
+        }
+    }
+    
     @Step("Verify booking is deleted: {bookingId}")
     public void verifyBookingDeleted(int bookingId) {
         log.info("Verifying booking with ID {} is deleted", bookingId);
         
-        Response response = given()
-                .spec(BaseApiClient.getRequestSpec())
+        Response response = apiClient.request()
                 .when()
                 .get(BOOKING_ENDPOINT + "/" + bookingId)
                 .then()
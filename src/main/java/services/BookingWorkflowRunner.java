@@ -0,0 +1,71 @@
+package services;
+
+import core.ExecutionThreads;
+import lombok.extern.slf4j.Slf4j;
+import models.booking.BookingRequest;
+import models.booking.BookingResponse;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
+
+/**
+ * Runs blocking {@link BookingService} workflows concurrently.
+ * <p>
+ * Each workflow runs on a thread from {@link ExecutionThreads}: its own virtual thread when
+ * {@code execution.virtual.threads} is enabled on Java 21, a pooled platform thread otherwise.
+ * At most {@link ExecutionThreads#parallelism()} workflows are in flight, and a failed workflow
+ * is reported in the result without stopping the others.
+ */
+@Slf4j
+public class BookingWorkflowRunner {
+
+    private final BookingService bookingService;
+    private final int parallelism;
+
+    public BookingWorkflowRunner() {
+        this(new BookingService(), ExecutionThreads.parallelism());
+    }
+
+    public BookingWorkflowRunner(BookingService bookingService, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Workflow parallelism must be at least 1");
+        }
+        this.bookingService = bookingService;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Runs the workflow once per item and waits for all of them
+     */
+    public <I, T> BulkResult<I, T> run(List<I> items, Function<I, T> workflow) {
+        log.info("Running {} workflows, {} at a time on {} threads", items.size(), parallelism,
+                ExecutionThreads.isVirtual() ? "virtual" : "platform");
+        ExecutorService executor = ExecutionThreads.newExecutor("booking-workflow", parallelism);
+        try {
+            return BulkExecutor.execute(items,
+                    item -> CompletableFuture.supplyAsync(() -> workflow.apply(item), executor),
+                    parallelism).join();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Creates, reads back, updates and deletes each booking.
+     * The result of each workflow is the booking as read back after the update.
+     */
+    public BulkResult<BookingRequest, BookingRequest> runLifecycles(List<BookingRequest> bookingRequests) {
+        return run(bookingRequests, bookingRequest -> {
+            BookingResponse created = bookingService.createBooking(bookingRequest);
+            int bookingId = created.getBookingid();
+            BookingRequest booking = bookingService.getBooking(bookingId);
+            booking.setAdditionalneeds("Late checkout");
+            bookingService.updateBooking(bookingId, booking);
+            BookingRequest updated = bookingService.getBooking(bookingId);
+            bookingService.deleteBooking(bookingId);
+            return updated;
+        });
+    }
+}
\ No newline at end of file
@@ -0,0 +1,98 @@
+package services;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * Runs an asynchronous operation over a list of items with at most {@code concurrency} calls
+ * in flight. Each completion starts the next pending item, so the window stays full without a
+ * thread per request, and a failed item is recorded rather than aborting the batch.
+ */
+@Slf4j
+public class BulkExecutor {
+
+    public static <I, T> CompletableFuture<BulkResult<I, T>> execute(List<I> items,
+                                                                     Function<I, CompletableFuture<T>> operation,
+                                                                     int concurrency) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("Bulk concurrency must be at least 1");
+        }
+        long start = System.nanoTime();
+        AtomicReferenceArray<BulkItemResult<I, T>> results = new AtomicReferenceArray<>(items.size());
+        AtomicInteger next = new AtomicInteger();
+
+        CompletableFuture<?>[] lanes = new CompletableFuture<?>[Math.min(concurrency, items.size())];
+        for (int lane = 0; lane < lanes.length; lane++) {
+            CompletableFuture<Void> laneDone = new CompletableFuture<>();
+            runLane(items, operation, results, next, laneDone);
+            lanes[lane] = laneDone;
+        }
+
+        return CompletableFuture.allOf(lanes).thenApply(ignored -> {
+            List<BulkItemResult<I, T>> ordered = new ArrayList<>(items.size());
+            for (int i = 0; i < items.size(); i++) {
+                ordered.add(results.get(i));
+            }
+            BulkResult<I, T> result = new BulkResult<>(ordered, (System.nanoTime() - start) / 1_000_000);
+            log.info("Bulk operation finished: {}", result);
+            return result;
+        });
+    }
+
+    /**
+     * Takes items from the shared index until none are left. Items that complete synchronously are
+     * handled in a loop; otherwise the lane continues from the completion callback.
+     */
+    private static <I, T> void runLane(List<I> items,
+                                       Function<I, CompletableFuture<T>> operation,
+                                       AtomicReferenceArray<BulkItemResult<I, T>> results,
+                                       AtomicInteger next,
+                                       CompletableFuture<Void> laneDone) {
+        while (true) {
+            int index = next.getAndIncrement();
+            if (index >= items.size()) {
+                laneDone.complete(null);
+                return;
+            }
+            I item = items.get(index);
+            CompletableFuture<T> call = start(operation, item);
+            if (call.isDone()) {
+                call.whenComplete((value, error) -> record(results, index, item, value, error));
+                continue;
+            }
+            call.whenComplete((value, error) -> {
+                record(results, index, item, value, error);
+                runLane(items, operation, results, next, laneDone);
+            });
+            return;
+        }
+    }
+
+    private static <I, T> void record(AtomicReferenceArray<BulkItemResult<I, T>> results,
+                                      int index, I item, T value, Throwable error) {
+        Throwable cause = unwrap(error);
+        results.set(index, new BulkItemResult<>(item, value, cause));
+        if (cause != null) {
+            log.debug("Bulk item {} failed: {}", index, cause.toString());
+        }
+    }
+
+    private static <I, T> CompletableFuture<T> start(Function<I, CompletableFuture<T>> operation, I item) {
+        try {
+            return operation.apply(item);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+}
\ No newline at end of file
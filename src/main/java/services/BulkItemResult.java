@@ -0,0 +1,18 @@
+package services;
+
+import lombok.Value;
+
+/**
+ * Outcome of one item in a bulk operation: either a result or the failure that ended it
+ */
+@Value
+public class BulkItemResult<I, T> {
+
+    I input;
+    T result;
+    Throwable error;
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
\ No newline at end of file
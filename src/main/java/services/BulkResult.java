@@ -0,0 +1,60 @@
+package services;
+
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Per-item results of a bulk operation, in input order, with aggregate throughput
+ */
+@Getter
+public class BulkResult<I, T> {
+
+    private final List<BulkItemResult<I, T>> items;
+    private final long elapsedMillis;
+
+    public BulkResult(List<BulkItemResult<I, T>> items, long elapsedMillis) {
+        this.items = Collections.unmodifiableList(items);
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public List<T> getResults() {
+        return items.stream()
+                .filter(BulkItemResult::isSuccess)
+                .map(BulkItemResult::getResult)
+                .collect(Collectors.toList());
+    }
+
+    public List<BulkItemResult<I, T>> getFailures() {
+        return items.stream()
+                .filter(item -> !item.isSuccess())
+                .collect(Collectors.toList());
+    }
+
+    public long getSuccessCount() {
+        return items.stream().filter(BulkItemResult::isSuccess).count();
+    }
+
+    public long getFailureCount() {
+        return items.size() - getSuccessCount();
+    }
+
+    public boolean isAllSucceeded() {
+        return getFailureCount() == 0;
+    }
+
+    /**
+     * Completed items per second over the whole batch
+     */
+    public double throughput() {
+        return elapsedMillis <= 0 ? 0 : items.size() * 1000.0 / elapsedMillis;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d items, %d succeeded, %d failed in %d ms (%.1f items/s)",
+                items.size(), getSuccessCount(), getFailureCount(), elapsedMillis, throughput());
+    }
+}
\ No newline at end of file
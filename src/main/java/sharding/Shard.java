@@ -0,0 +1,16 @@
+package sharding;
+
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Test classes assigned to one fork or machine, with their expected total duration
+ */
+@Value
+public class Shard {
+
+    int index;
+    List<String> classes;
+    long expectedMillis;
+}
\ No newline at end of file
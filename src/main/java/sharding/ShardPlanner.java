@@ -0,0 +1,59 @@
+package sharding;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Splits test classes into shards of near-equal expected duration.
+ * <p>
+ * Uses longest-processing-time-first: classes are taken from slowest to fastest and each goes to
+ * the shard with the least work so far, which keeps the slowest shard within 4/3 of the optimum.
+ * Classes without history are assumed to take the mean duration of the known ones. Ties are
+ * broken by class name and shard index, so the same history always gives the same plan.
+ */
+@Slf4j
+public class ShardPlanner {
+
+    private static final long UNKNOWN_HISTORY_MILLIS = 1000;
+
+    public static List<Shard> plan(Collection<String> testClasses, Map<String, Long> durations, int shardCount) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("Shard count must be at least 1");
+        }
+        long fallback = (long) durations.values().stream().mapToLong(Long::longValue).average()
+                .orElse(UNKNOWN_HISTORY_MILLIS);
+
+        List<String> ordered = new ArrayList<>(testClasses);
+        ordered.sort(Comparator.<String>comparingLong(testClass -> durations.getOrDefault(testClass, fallback))
+                .reversed()
+                .thenComparing(Comparator.naturalOrder()));
+
+        long[] loads = new long[shardCount];
+        List<List<String>> assigned = new ArrayList<>();
+        PriorityQueue<Integer> leastLoaded = new PriorityQueue<>(
+                Comparator.<Integer>comparingLong(shard -> loads[shard]).thenComparingInt(shard -> shard));
+        for (int shard = 0; shard < shardCount; shard++) {
+            assigned.add(new ArrayList<>());
+            leastLoaded.add(shard);
+        }
+        for (String testClass : ordered) {
+            int shard = leastLoaded.poll();
+            assigned.get(shard).add(testClass);
+            loads[shard] += durations.getOrDefault(testClass, fallback);
+            leastLoaded.add(shard);
+        }
+
+        List<Shard> shards = new ArrayList<>();
+        for (int shard = 0; shard < shardCount; shard++) {
+            shards.add(new Shard(shard, assigned.get(shard), loads[shard]));
+            log.info("Shard {}: {} classes, expected {} ms", shard, assigned.get(shard).size(), loads[shard]);
+        }
+        return shards;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,189 @@
+package sharding;
+
+import config.ConfigManager;
+import config.EnvironmentConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.testng.TestNG;
+import org.testng.xml.XmlSuite;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Splits a suite into duration-balanced shards and runs each in its own JVM.
+ * <p>
+ * Durations come from the Allure results of earlier runs ({@code shard.history.dir}) and classes
+ * are assigned by {@link ShardPlanner}. Shard {@code i} runs with the {@code i}-th entry of
+ * {@code shard.environments} (round robin, default the current environment) and data seed
+ * {@code data.seed + i}, both logged so a single shard can be rerun on its own. When the
+ * environment starts the embedded stub, each shard gets a copy of the environment file with its
+ * own free port, passed as {@code config.dir}. Runs all shards in parallel:
+ * <pre>
+ * mvn -Psharded test-compile exec:exec -Dsuite=regression -Dshards=4
+ * </pre>
+ * With {@code -Dshard.plan.only=true} only the shard suites are written and the command for each
+ * is printed, for spreading shards over CI machines.
+ */
+@Slf4j
+public class ShardRunner {
+
+    private static final Path SHARD_DIRECTORY = Paths.get("target", "shards");
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length < 2) {
+            throw new IllegalArgumentException("Usage: ShardRunner <suite.xml> <shards>");
+        }
+        Path suiteFile = Paths.get(args[0]);
+        int shardCount = Integer.parseInt(args[1]);
+        EnvironmentConfig config = ConfigManager.getConfig();
+
+        XmlSuite suite = ShardSuites.parse(suiteFile);
+        Map<String, Long> durations = TestDurations.fromAllureResults(
+                Paths.get(config.shardHistoryDir()));
+        List<Shard> shards = ShardPlanner.plan(ShardSuites.testClasses(suite), durations, shardCount);
+
+        List<String> environments = environments(config);
+        long baseSeed = config.dataSeed();
+        if (baseSeed == 0) {
+            baseSeed = ThreadLocalRandom.current().nextLong();
+        }
+
+        Files.createDirectories(SHARD_DIRECTORY);
+        List<ShardProcess> processes = new ArrayList<>();
+        for (Shard shard : shards) {
+            if (shard.getClasses().isEmpty()) {
+                continue;
+            }
+            Path shardSuite = SHARD_DIRECTORY.resolve("shard-" + shard.getIndex() + ".xml");
+            Files.write(shardSuite, ShardSuites.forShard(suite, shard, shardCount).toXml()
+                    .getBytes(StandardCharsets.UTF_8));
+            String environment = environments.get(shard.getIndex() % environments.size());
+            long seed = baseSeed + shard.getIndex();
+            List<String> properties = properties(shard, environment, seed);
+            log.info("Shard {} ({} ms expected): mvn test -Dsuite.file={} {}", shard.getIndex(),
+                    shard.getExpectedMillis(), shardSuite, String.join(" ", properties));
+
+            if (!config.shardPlanOnly()) {
+                processes.add(new ShardProcess(shard, start(shard, shardSuite, properties)));
+            }
+        }
+
+        int failed = 0;
+        for (ShardProcess process : processes) {
+            int status = process.process.waitFor();
+            long wallMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - process.startNanos);
+            log.info("Shard {} finished with status {} after {} ms ({} ms expected)",
+                    process.shard.getIndex(), status, wallMillis, process.shard.getExpectedMillis());
+            failed += status == 0 ? 0 : 1;
+        }
+        System.exit(failed == 0 ? 0 : 1);
+    }
+
+    private static List<String> environments(EnvironmentConfig config) {
+        List<String> environments = new ArrayList<>();
+        for (String environment : config.shardEnvironments()) {
+            if (!environment.trim().isEmpty()) {
+                environments.add(environment.trim());
+            }
+        }
+        if (environments.isEmpty()) {
+            environments.add(ConfigManager.getEnvironment());
+        }
+        return environments;
+    }
+
+    /**
+     * System properties that make a shard's JVM differ from the others
+     */
+    private static List<String> properties(Shard shard, String environment, long seed) throws IOException {
+        List<String> properties = new ArrayList<>();
+        properties.add("-Denvironment=" + environment);
+        properties.add("-Ddata.seed=" + seed);
+        String environmentFile = readEnvironmentFile(environment);
+        Properties values = new Properties();
+        values.load(new StringReader(environmentFile));
+        if (Boolean.parseBoolean(values.getProperty("stub.enabled", "false"))) {
+            // Every shard starts its own stub, so each needs its own port
+            Path configDir = SHARD_DIRECTORY.resolve("config-" + shard.getIndex());
+            Files.createDirectories(configDir);
+            String baseUrl = "http://127.0.0.1:" + freePort();
+            Files.write(configDir.resolve(environment + ".properties"),
+                    environmentFile.replaceAll("(?m)^base\\.url=.*$", "base.url=" + baseUrl)
+                            .getBytes(StandardCharsets.UTF_8));
+            properties.add("-Dconfig.dir=" + configDir.toAbsolutePath());
+        }
+        return properties;
+    }
+
+    private static Process start(Shard shard, Path shardSuite, List<String> properties) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        // Keep agents and settings of this JVM, such as the AspectJ weaver and the Allure results directory
+        command.addAll(ManagementFactory.getRuntimeMXBean().getInputArguments().stream()
+                .filter(argument -> !argument.startsWith("-Denvironment=") && !argument.startsWith("-Ddata.seed=")
+                        && !argument.startsWith("-Dconfig.dir="))
+                .collect(Collectors.toList()));
+        command.addAll(properties);
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(TestNG.class.getName());
+        command.add("-d");
+        command.add(SHARD_DIRECTORY.resolve("testng-" + shard.getIndex()).toString());
+        command.add(shardSuite.toString());
+
+        Path logFile = SHARD_DIRECTORY.resolve("shard-" + shard.getIndex() + ".log");
+        return new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(logFile.toFile())
+                .start();
+    }
+
+    private static String readEnvironmentFile(String environment) throws IOException {
+        String configDir = System.getProperty("config.dir");
+        if (configDir != null && Files.isRegularFile(Paths.get(configDir, environment + ".properties"))) {
+            return new String(Files.readAllBytes(Paths.get(configDir, environment + ".properties")), StandardCharsets.UTF_8);
+        }
+        try (InputStream resource = ShardRunner.class.getClassLoader()
+                .getResourceAsStream("environments/" + environment + ".properties")) {
+            if (resource == null) {
+                throw new IllegalArgumentException("Unknown environment: " + environment);
+            }
+            return new String(resource.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException("No free port for a shard stub", e);
+        }
+    }
+
+    private static class ShardProcess {
+
+        private final Shard shard;
+        private final Process process;
+        private final long startNanos = System.nanoTime();
+
+        private ShardProcess(Shard shard, Process process) {
+            this.shard = shard;
+            this.process = process;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,81 @@
+package sharding;
+
+import org.testng.xml.SuiteXmlParser;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Reads the test classes of a TestNG suite and writes the per-shard suites.
+ * <p>
+ * A shard suite keeps the suite's parallel mode, thread counts, listeners and parameters, and
+ * every {@code <test>} of the original with only the shard's classes in it, so test-level
+ * parameters, parallel modes and {@code preserve-order} still apply.
+ */
+public class ShardSuites {
+
+    public static XmlSuite parse(Path suiteFile) {
+        try (InputStream inputStream = Files.newInputStream(suiteFile)) {
+            return new SuiteXmlParser().parse(suiteFile.toString(), inputStream, false);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read suite " + suiteFile, e);
+        }
+    }
+
+    /**
+     * Every class of the suite, in suite order
+     */
+    public static Set<String> testClasses(XmlSuite suite) {
+        Set<String> classes = new LinkedHashSet<>();
+        for (XmlTest test : suite.getTests()) {
+            for (XmlClass xmlClass : test.getXmlClasses()) {
+                classes.add(xmlClass.getName());
+            }
+        }
+        return classes;
+    }
+
+    public static XmlSuite forShard(XmlSuite suite, Shard shard, int shardCount) {
+        XmlSuite shardSuite = new XmlSuite();
+        shardSuite.setName(suite.getName() + " (shard " + (shard.getIndex() + 1) + " of " + shardCount + ")");
+        shardSuite.setParallel(suite.getParallel());
+        shardSuite.setThreadCount(suite.getThreadCount());
+        shardSuite.setDataProviderThreadCount(suite.getDataProviderThreadCount());
+        shardSuite.setListeners(suite.getListeners());
+        shardSuite.setParameters(suite.getParameters());
+
+        Set<String> assigned = new HashSet<>(shard.getClasses());
+        for (XmlTest test : suite.getTests()) {
+            List<XmlClass> classes = new ArrayList<>();
+            for (XmlClass xmlClass : test.getXmlClasses()) {
+                if (assigned.contains(xmlClass.getName())) {
+                    classes.add((XmlClass) xmlClass.clone());
+                }
+            }
+            if (classes.isEmpty()) {
+                continue;
+            }
+            XmlTest shardTest = new XmlTest(shardSuite);
+            shardTest.setName(test.getName());
+            shardTest.setPreserveOrder(test.getPreserveOrder());
+            shardTest.setParallel(test.getParallel());
+            // toXml() leaves out parallel="none", which the shard would then inherit from the suite;
+            // a single thread runs the methods one at a time just the same
+            shardTest.setThreadCount(test.getParallel().isParallel() ? test.getThreadCount() : 1);
+            shardTest.setParameters(test.getLocalParameters());
+            shardTest.setXmlClasses(classes);
+        }
+        return shardSuite;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,97 @@
+package sharding;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Historical test durations read from Allure result files ({@code *-result.json}).
+ * <p>
+ * Results accumulate over runs, so for every test invocation ({@code historyId}, which also
+ * covers data-provider parameters) only the most recent result counts. Durations are summed per
+ * test class; class-level fixtures are not part of any test result and are not included.
+ */
+@Slf4j
+public class TestDurations {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * Milliseconds per test class, empty when the directory does not exist
+     */
+    public static Map<String, Long> fromAllureResults(Path directory) {
+        Map<String, TestResult> latest = new HashMap<>();
+        if (!Files.isDirectory(directory)) {
+            log.info("No test history in {}; shards will be balanced by class count", directory);
+            return new TreeMap<>();
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*-result.json")) {
+            for (Path file : files) {
+                TestResult result = read(file);
+                if (result != null) {
+                    latest.merge(result.historyId, result, (a, b) -> a.start >= b.start ? a : b);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read test history from " + directory, e);
+        }
+
+        Map<String, Long> durations = new TreeMap<>();
+        latest.values().forEach(result -> durations.merge(result.testClass, result.durationMillis(), Long::sum));
+        log.info("Read durations of {} tests in {} classes from {}", latest.size(), durations.size(), directory);
+        return durations;
+    }
+
+    private static TestResult read(Path file) {
+        JsonNode result;
+        try {
+            result = objectMapper.readTree(file.toFile());
+        } catch (IOException e) {
+            log.debug("Skipping unreadable test result {}", file, e);
+            return null;
+        }
+        String testClass = null;
+        for (JsonNode label : result.path("labels")) {
+            if ("testClass".equals(label.path("name").asText())) {
+                testClass = label.path("value").asText();
+            }
+        }
+        String fullName = result.path("fullName").asText("");
+        if (testClass == null && fullName.lastIndexOf('.') > 0) {
+            testClass = fullName.substring(0, fullName.lastIndexOf('.'));
+        }
+        if (testClass == null || !result.has("start") || !result.has("stop")) {
+            return null;
+        }
+        String historyId = result.path("historyId").asText(fullName);
+        return new TestResult(historyId, testClass, result.path("start").asLong(), result.path("stop").asLong());
+    }
+
+    private static class TestResult {
+
+        private final String historyId;
+        private final String testClass;
+        private final long start;
+        private final long stop;
+
+        private TestResult(String historyId, String testClass, long start, long stop) {
+            this.historyId = historyId;
+            this.testClass = testClass;
+            this.start = start;
+            this.stop = stop;
+        }
+
+        private long durationMillis() {
+            return Math.max(0, stop - start);
+        }
+    }
+}
\ No newline at end of file
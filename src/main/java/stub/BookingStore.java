@@ -0,0 +1,64 @@
+package stub;
+
+import models.booking.BookingRequest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory booking table for the stub server. All operations are safe for concurrent use.
+ */
+public class BookingStore {
+
+    private final Map<Integer, BookingRequest> bookings = new ConcurrentHashMap<>();
+    private final AtomicInteger nextId = new AtomicInteger(1);
+
+    public int create(BookingRequest booking) {
+        int bookingId = nextId.getAndIncrement();
+        bookings.put(bookingId, booking);
+        return bookingId;
+    }
+
+    public BookingRequest get(int bookingId) {
+        return bookings.get(bookingId);
+    }
+
+    /**
+     * Replaces an existing booking, returning null when it does not exist
+     */
+    public BookingRequest replace(int bookingId, BookingRequest booking) {
+        return bookings.replace(bookingId, booking) != null ? booking : null;
+    }
+
+    /**
+     * Atomically applies a change to an existing booking, returning null when it does not exist
+     */
+    public BookingRequest update(int bookingId, UnaryOperator<BookingRequest> change) {
+        return bookings.computeIfPresent(bookingId, (id, current) -> change.apply(current));
+    }
+
+    public boolean delete(int bookingId) {
+        return bookings.remove(bookingId) != null;
+    }
+
+    public List<Integer> find(Predicate<BookingRequest> filter) {
+        return bookings.entrySet().stream()
+                .filter(entry -> filter.test(entry.getValue()))
+                .map(Map.Entry::getKey)
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    public int size() {
+        return bookings.size();
+    }
+
+    public void clear() {
+        bookings.clear();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,478 @@
+package stub;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import config.ConfigManager;
+import lombok.extern.slf4j.Slf4j;
+import models.booking.BookingDates;
+import models.booking.BookingRequest;
+import utils.JsonCodec;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+
+/**
+ * In-process stand-in for the restful-booker API, served from the JDK HTTP server on loopback.
+ * <p>
+ * Implements {@code /auth}, {@code /booking} CRUD, the {@code GET /booking} listing and
+ * {@code /ping} against an in-memory {@link BookingStore}. Writes need a token from {@code /auth}
+ * (as a {@code token} cookie) or basic auth with a configured identity. {@link StubSettings}
+ * adds latency, 503 errors, 429 throttling and ETags; delayed responses are written by a scheduler, so
+ * slow responses do not hold a server thread. Enabled with {@code stub.enabled}, listening on
+ * the port of {@code base.url} (see {@code environments/local.properties}).
+ */
+@Slf4j
+public class BookingStubServer {
+
+    private static final String JSON = "application/json; charset=utf-8";
+    private static final String TEXT = "text/plain; charset=utf-8";
+    private static final ObjectMapper mapper = JsonCodec.getWireMapper();
+    private static volatile BookingStubServer defaultServer;
+
+    static {
+        // The JDK server writes headers and body separately; without TCP_NODELAY every response
+        // waits for the client's delayed ACK (~40 ms), which would dwarf any injected latency
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+    }
+
+    private final BookingStore store = new BookingStore();
+    private final Set<String> tokens = ConcurrentHashMap.newKeySet();
+    private final Map<String, String> credentials;
+    private final StubSettings settings;
+    private final HttpServer server;
+    private final ExecutorService workers;
+    private final ScheduledExecutorService responder;
+    private final AtomicLong throttleTatNanos = new AtomicLong(System.nanoTime());
+
+    public BookingStubServer(int port, StubSettings settings) {
+        this.settings = settings;
+        this.credentials = configuredCredentials();
+        try {
+            this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to bind stub server to port " + port, e);
+        }
+        this.workers = Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors()),
+                daemonThreads("stub-worker"));
+        this.responder = Executors.newScheduledThreadPool(2, daemonThreads("stub-responder"));
+        server.setExecutor(workers);
+        server.createContext("/auth", exchange -> handle(exchange, this::auth));
+        server.createContext("/booking", exchange -> handle(exchange, this::booking));
+        server.createContext("/ping", exchange -> handle(exchange, ignored -> Reply.text(201, "Created")));
+    }
+
+    /**
+     * Starts the shared stub on the port of {@code base.url} when {@code stub.enabled} is set
+     */
+    public static synchronized BookingStubServer startIfEnabled() {
+        if (defaultServer == null && ConfigManager.getConfig().stubEnabled()) {
+            int port = URI.create(ConfigManager.getConfig().baseUrl()).getPort();
+            defaultServer = new BookingStubServer(port, StubSettings.fromConfig()).start();
+        }
+        return defaultServer;
+    }
+
+    public static synchronized void stopDefault() {
+        if (defaultServer != null) {
+            defaultServer.stop();
+            defaultServer = null;
+        }
+    }
+
+    public BookingStubServer start() {
+        server.start();
+        log.info("Booking stub server listening on {} ({})", getBaseUrl(), settings);
+        return this;
+    }
+
+    public void stop() {
+        server.stop(0);
+        workers.shutdownNow();
+        responder.shutdownNow();
+        log.info("Booking stub server stopped with {} bookings", store.size());
+    }
+
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + getPort();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    public BookingStore getStore() {
+        return store;
+    }
+
+    private void handle(HttpExchange exchange, Route route) {
+        if (!acquireThrottlePermit()) {
+            exchange.getResponseHeaders().add("Retry-After", "1");
+            write(exchange, Reply.text(429, "Too Many Requests"));
+            return;
+        }
+
+        long delayMillis = settings.sampleLatencyMillis();
+        Reply reply;
+        if (settings.getErrorRate() > 0 && ThreadLocalRandom.current().nextDouble() < settings.getErrorRate()) {
+            if (settings.getRetryAfterSeconds() > 0) {
+                exchange.getResponseHeaders().add("Retry-After", String.valueOf(settings.getRetryAfterSeconds()));
+            }
+            reply = Reply.text(503, "Service Unavailable");
+        } else {
+            try {
+                reply = route.apply(exchange);
+            } catch (RuntimeException e) {
+                log.debug("Stub request {} {} failed", exchange.getRequestMethod(), exchange.getRequestURI(), e);
+                reply = Reply.text(400, "Bad Request");
+            }
+        }
+
+        if (delayMillis > 0) {
+            Reply delayed = reply;
+            responder.schedule(() -> write(exchange, delayed), delayMillis, TimeUnit.MILLISECONDS);
+        } else {
+            write(exchange, reply);
+        }
+    }
+
+    private Reply auth(HttpExchange exchange) {
+        if (!"POST".equals(exchange.getRequestMethod())) {
+            return Reply.text(405, "Method Not Allowed");
+        }
+        JsonNode body = readTree(exchange);
+        String password = credentials.get(body.path("username").asText());
+        if (password == null || !password.equals(body.path("password").asText())) {
+            return Reply.json(200, mapper.createObjectNode().put("reason", "Bad credentials"));
+        }
+        String token = UUID.randomUUID().toString().replace("-", "").substring(0, 15);
+        tokens.add(token);
+        return Reply.json(200, mapper.createObjectNode().put("token", token));
+    }
+
+    private Reply booking(HttpExchange exchange) {
+        String path = exchange.getRequestURI().getPath();
+        String method = exchange.getRequestMethod();
+        if (path.equals("/booking") || path.equals("/booking/")) {
+            switch (method) {
+                case "GET":
+                    return list(exchange);
+                case "POST":
+                    return create(exchange);
+                default:
+                    return Reply.text(405, "Method Not Allowed");
+            }
+        }
+
+        int bookingId;
+        try {
+            bookingId = Integer.parseInt(path.substring("/booking/".length()));
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            return Reply.text(404, "Not Found");
+        }
+
+        if ("GET".equals(method)) {
+            BookingRequest booking = store.get(bookingId);
+            if (booking == null) {
+                return Reply.text(404, "Not Found");
+            }
+            Reply reply = Reply.json(200, booking);
+            if (!settings.isEtagEnabled()) {
+                return reply;
+            }
+            String etag = etag(reply.body);
+            exchange.getResponseHeaders().set("ETag", etag);
+            return etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))
+                    ? new Reply(304, JSON, new byte[0])
+                    : reply;
+        }
+        if (!isAuthorized(exchange)) {
+            return Reply.text(403, "Forbidden");
+        }
+        switch (method) {
+            case "PUT":
+                return update(bookingId, readBooking(exchange));
+            case "PATCH":
+                return partialUpdate(bookingId, readTree(exchange));
+            case "DELETE":
+                return store.delete(bookingId) ? Reply.text(201, "Created") : Reply.text(405, "Method Not Allowed");
+            default:
+                return Reply.text(405, "Method Not Allowed");
+        }
+    }
+
+    private Reply create(HttpExchange exchange) {
+        BookingRequest booking = readBooking(exchange);
+        if (!isValid(booking)) {
+            return Reply.text(400, "Bad Request");
+        }
+        int bookingId = store.create(booking);
+        ObjectNode response = mapper.createObjectNode().put("bookingid", bookingId);
+        response.set("booking", mapper.valueToTree(booking));
+        return Reply.json(200, response);
+    }
+
+    private Reply update(int bookingId, BookingRequest booking) {
+        if (!isValid(booking)) {
+            return Reply.text(400, "Bad Request");
+        }
+        BookingRequest updated = store.replace(bookingId, booking);
+        return updated != null ? Reply.json(200, updated) : Reply.text(405, "Method Not Allowed");
+    }
+
+    private Reply partialUpdate(int bookingId, JsonNode changes) {
+        if (!changes.isObject()) {
+            return Reply.text(400, "Bad Request");
+        }
+        AtomicBoolean rejected = new AtomicBoolean();
+        BookingRequest updated = store.update(bookingId, current -> {
+            ObjectNode merged = mapper.valueToTree(current);
+            changes.fields().forEachRemaining(field -> {
+                if (field.getValue().isObject() && merged.get(field.getKey()) instanceof ObjectNode) {
+                    ((ObjectNode) merged.get(field.getKey())).setAll((ObjectNode) field.getValue());
+                } else {
+                    merged.set(field.getKey(), field.getValue());
+                }
+            });
+            BookingRequest candidate = mapper.convertValue(merged, BookingRequest.class);
+            if (isValid(candidate)) {
+                return candidate;
+            }
+            rejected.set(true);
+            return current;
+        });
+        if (updated == null) {
+            return Reply.text(405, "Method Not Allowed");
+        }
+        return rejected.get() ? Reply.text(400, "Bad Request") : Reply.json(200, updated);
+    }
+
+    private Reply list(HttpExchange exchange) {
+        Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+        Predicate<BookingRequest> filter = booking -> true;
+        if (query.containsKey("firstname")) {
+            filter = filter.and(booking -> query.get("firstname").equals(booking.getFirstname()));
+        }
+        if (query.containsKey("lastname")) {
+            filter = filter.and(booking -> query.get("lastname").equals(booking.getLastname()));
+        }
+        if (query.containsKey("checkin")) {
+            filter = filter.and(booking -> booking.getBookingdates().getCheckin().compareTo(query.get("checkin")) >= 0);
+        }
+        if (query.containsKey("checkout")) {
+            filter = filter.and(booking -> booking.getBookingdates().getCheckout().compareTo(query.get("checkout")) <= 0);
+        }
+        List<Map<String, Integer>> ids = store.find(filter).stream()
+                .map(bookingId -> Map.of("bookingid", bookingId))
+                .collect(Collectors.toList());
+        return Reply.json(200, ids);
+    }
+
+    /**
+     * Same rules the tests expect from a strict API: names present, price not negative and
+     * checkout on or after checkin
+     */
+    private static boolean isValid(BookingRequest booking) {
+        BookingDates dates = booking.getBookingdates();
+        if (isBlank(booking.getFirstname()) || isBlank(booking.getLastname()) || booking.getTotalprice() < 0
+                || dates == null || isBlank(dates.getCheckin()) || isBlank(dates.getCheckout())) {
+            return false;
+        }
+        try {
+            return !LocalDate.parse(dates.getCheckout()).isBefore(LocalDate.parse(dates.getCheckin()));
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    private boolean isAuthorized(HttpExchange exchange) {
+        String cookie = exchange.getRequestHeaders().getFirst("Cookie");
+        if (cookie != null) {
+            for (String part : cookie.split(";")) {
+                String trimmed = part.trim();
+                if (trimmed.startsWith("token=") && tokens.contains(trimmed.substring("token=".length()))) {
+                    return true;
+                }
+            }
+        }
+        String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        if (authorization != null && authorization.startsWith("Basic ")) {
+            String decoded = new String(Base64.getDecoder().decode(authorization.substring(6).trim()), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(':');
+            return separator > 0
+                    && decoded.substring(separator + 1).equals(credentials.get(decoded.substring(0, separator)));
+        }
+        return false;
+    }
+
+    /**
+     * Generic cell rate algorithm: admits {@code throttleRatePerSecond} requests per second with a
+     * burst of one second's worth, without locks
+     */
+    private boolean acquireThrottlePermit() {
+        double rate = settings.getThrottleRatePerSecond();
+        if (rate <= 0) {
+            return true;
+        }
+        long interval = (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+        long tolerance = TimeUnit.SECONDS.toNanos(1);
+        while (true) {
+            long now = System.nanoTime();
+            long tat = throttleTatNanos.get();
+            long start = Math.max(tat, now);
+            if (start - now > tolerance) {
+                return false;
+            }
+            if (throttleTatNanos.compareAndSet(tat, start + interval)) {
+                return true;
+            }
+        }
+    }
+
+    private static void write(HttpExchange exchange, Reply reply) {
+        try {
+            exchange.getResponseHeaders().set("Content-Type", reply.contentType);
+            exchange.sendResponseHeaders(reply.status, reply.body.length == 0 ? -1 : reply.body.length);
+            if (reply.body.length > 0) {
+                try (OutputStream output = exchange.getResponseBody()) {
+                    output.write(reply.body);
+                }
+            }
+        } catch (IOException e) {
+            log.debug("Failed to write stub response", e);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static BookingRequest readBooking(HttpExchange exchange) {
+        try (InputStream body = exchange.getRequestBody()) {
+            return JsonCodec.read(body.readAllBytes(), BookingRequest.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static JsonNode readTree(HttpExchange exchange) {
+        try (InputStream body = exchange.getRequestBody()) {
+            return mapper.readTree(body.readAllBytes());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return query;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int separator = pair.indexOf('=');
+            if (separator > 0) {
+                query.put(URLDecoder.decode(pair.substring(0, separator), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return query;
+    }
+
+    private static Map<String, String> configuredCredentials() {
+        Map<String, String> identities = new ConcurrentHashMap<>();
+        identities.put(ConfigManager.getConfig().authUsername(), ConfigManager.getConfig().authPassword());
+        for (String user : ConfigManager.getConfig().authUsers()) {
+            int separator = user.indexOf(':');
+            if (separator > 0) {
+                identities.put(user.substring(0, separator).trim(), user.substring(separator + 1));
+            }
+        }
+        return identities;
+    }
+
+    /**
+     * Strong validator derived from the representation, so it changes whenever the booking does
+     */
+    private static String etag(byte[] body) {
+        CRC32 crc = new CRC32();
+        crc.update(body);
+        return "\"" + Long.toHexString(crc.getValue()) + "-" + body.length + "\"";
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        BookingStubServer server = startIfEnabled();
+        if (server == null) {
+            int port = args.length > 0 ? Integer.parseInt(args[0]) : 8089;
+            server = new BookingStubServer(port, StubSettings.fromConfig()).start();
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread(server::stop));
+        Thread.currentThread().join();
+    }
+
+    @FunctionalInterface
+    private interface Route {
+        Reply apply(HttpExchange exchange);
+    }
+
+    private static class Reply {
+        private final int status;
+        private final String contentType;
+        private final byte[] body;
+
+        private Reply(int status, String contentType, byte[] body) {
+            this.status = status;
+            this.contentType = contentType;
+            this.body = body;
+        }
+
+        private static Reply text(int status, String body) {
+            return new Reply(status, TEXT, body.getBytes(StandardCharsets.UTF_8));
+        }
+
+        private static Reply json(int status, Object body) {
+            try {
+                return new Reply(status, JSON, mapper.writeValueAsBytes(body));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
\ No newline at end of file
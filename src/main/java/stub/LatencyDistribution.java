@@ -0,0 +1,39 @@
+package stub;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Shapes of artificial response latency injected by the stub server
+ */
+public enum LatencyDistribution {
+    NONE,
+    FIXED,
+    UNIFORM,
+    EXPONENTIAL;
+
+    /**
+     * Draws a delay in milliseconds: FIXED is always the mean, UNIFORM is spread evenly over
+     * [0, 2 * mean], and EXPONENTIAL has the given mean with a long tail. All are capped at max.
+     */
+    public long sampleMillis(long meanMillis, long maxMillis) {
+        long delay;
+        switch (this) {
+            case FIXED:
+                delay = meanMillis;
+                break;
+            case UNIFORM:
+                delay = ThreadLocalRandom.current().nextLong(2 * meanMillis + 1);
+                break;
+            case EXPONENTIAL:
+                delay = Math.round(-meanMillis * Math.log(1 - ThreadLocalRandom.current().nextDouble()));
+                break;
+            default:
+                return 0;
+        }
+        return Math.min(delay, maxMillis);
+    }
+
+    public static LatencyDistribution fromConfig(String name) {
+        return valueOf(name.trim().toUpperCase());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,41 @@
+package stub;
+
+import config.ConfigManager;
+import config.EnvironmentConfig;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Fault and latency injection for {@link BookingStubServer}.
+ * A fraction {@code errorRate} of requests fails with 503, and requests above
+ * {@code throttleRatePerSecond} (0 = unlimited) are rejected with 429. With {@code etagEnabled}
+ * single bookings carry an {@code ETag} and a matching {@code If-None-Match} gets 304.
+ */
+@Data
+@Builder
+public class StubSettings {
+    private LatencyDistribution latencyDistribution;
+    private long latencyMeanMillis;
+    private long latencyMaxMillis;
+    private double errorRate;
+    private int retryAfterSeconds;
+    private double throttleRatePerSecond;
+    private boolean etagEnabled;
+
+    public static StubSettings fromConfig() {
+        EnvironmentConfig config = ConfigManager.getConfig();
+        return StubSettings.builder()
+                .latencyDistribution(LatencyDistribution.fromConfig(config.stubLatencyDistribution()))
+                .latencyMeanMillis(config.stubLatencyMeanMillis())
+                .latencyMaxMillis(config.stubLatencyMaxMillis())
+                .errorRate(config.stubErrorRate())
+                .retryAfterSeconds(config.stubRetryAfterSeconds())
+                .throttleRatePerSecond(config.stubThrottleRatePerSecond())
+                .etagEnabled(config.stubEtagEnabled())
+                .build();
+    }
+
+    public long sampleLatencyMillis() {
+        return latencyDistribution.sampleMillis(latencyMeanMillis, latencyMaxMillis);
+    }
+}
\ No newline at end of file
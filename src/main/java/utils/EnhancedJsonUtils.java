@@ -40,7 +40,7 @@ public class EnhancedJsonUtils {
         }
         
         try {
-            return objectMapper.readValue(json, clazz);
+            return JsonCodec.readerFor(clazz).readValue(json);
         } catch (JsonProcessingException e) {
             log.error("Error converting JSON to object: {}. JSON: {}", clazz.getSimpleName(), 
                     json.length() > 200 ? json.substring(0, 200) + "..." : json, e);
@@ -0,0 +1,142 @@
+package utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import config.ConfigManager;
+import io.restassured.response.Response;
+import lombok.extern.slf4j.Slf4j;
+import models.booking.BookingRequest;
+import models.booking.BookingResponse;
+import models.booking.PartialBookingRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Serialization for request and response bodies on the wire.
+ * <p>
+ * The wire mapper writes compact JSON; pretty printing is kept on a separate mapper used only
+ * for logging. Readers and writers are resolved once per model type and reused, and responses
+ * are parsed from their bytes without building an intermediate String. The Blackbird module
+ * (generated accessors instead of reflection) is enabled with {@code json.blackbird.enabled}.
+ */
+@Slf4j
+public class JsonCodec {
+
+    private static final ObjectMapper wireMapper = createWireMapper();
+    private static final ObjectWriter prettyWriter = new ObjectMapper()
+            .enable(SerializationFeature.INDENT_OUTPUT)
+            .writer();
+
+    private static final ClassValue<ObjectReader> readers = new ClassValue<ObjectReader>() {
+        @Override
+        protected ObjectReader computeValue(Class<?> type) {
+            return wireMapper.readerFor(type);
+        }
+    };
+    private static final ClassValue<ObjectWriter> writers = new ClassValue<ObjectWriter>() {
+        @Override
+        protected ObjectWriter computeValue(Class<?> type) {
+            return wireMapper.writerFor(type);
+        }
+    };
+
+    static {
+        // Resolve the booking models up front so the first request does not pay for introspection
+        for (Class<?> model : new Class<?>[]{BookingRequest.class, BookingResponse.class, PartialBookingRequest.class}) {
+            readers.get(model);
+            writers.get(model);
+        }
+    }
+
+    private static ObjectMapper createWireMapper() {
+        ObjectMapper mapper = new ObjectMapper();
+        if (ConfigManager.getConfig().jsonBlackbirdEnabled()) {
+            mapper.registerModule(new BlackbirdModule());
+            log.info("Jackson Blackbird module enabled for wire serialization");
+        }
+        return mapper;
+    }
+
+    public static ObjectMapper getWireMapper() {
+        return wireMapper;
+    }
+
+    public static <T> ObjectReader readerFor(Class<T> type) {
+        return readers.get(type);
+    }
+
+    public static ObjectWriter writerFor(Class<?> type) {
+        return writers.get(type);
+    }
+
+    /**
+     * Deserializes a response body straight from its bytes
+     */
+    public static <T> T read(Response response, Class<T> type) {
+        return read(response.getBody().asByteArray(), type);
+    }
+
+    public static <T> T read(byte[] body, Class<T> type) {
+        try {
+            return readers.get(type).readValue(body);
+        } catch (IOException e) {
+            log.error("Error converting JSON to {}", type.getSimpleName(), e);
+            throw new RuntimeException("Failed to convert JSON to " + type.getSimpleName(), e);
+        }
+    }
+
+    public static <T> T read(InputStream body, Class<T> type) {
+        try {
+            return readers.get(type).readValue(body);
+        } catch (IOException e) {
+            log.error("Error converting JSON to {}", type.getSimpleName(), e);
+            throw new RuntimeException("Failed to convert JSON to " + type.getSimpleName(), e);
+        }
+    }
+
+    public static <T> T read(String body, Class<T> type) {
+        try {
+            return readers.get(type).readValue(body);
+        } catch (IOException e) {
+            log.error("Error converting JSON to {}", type.getSimpleName(), e);
+            throw new RuntimeException("Failed to convert JSON to " + type.getSimpleName(), e);
+        }
+    }
+
+    /**
+     * Serializes a request body as compact UTF-8 JSON
+     */
+    public static byte[] writeBytes(Object body) {
+        try {
+            return writers.get(body.getClass()).writeValueAsBytes(body);
+        } catch (IOException e) {
+            log.error("Error converting {} to JSON", body.getClass().getSimpleName(), e);
+            throw new RuntimeException("Failed to convert object to JSON", e);
+        }
+    }
+
+    public static String writeString(Object body) {
+        try {
+            return writers.get(body.getClass()).writeValueAsString(body);
+        } catch (IOException e) {
+            log.error("Error converting {} to JSON", body.getClass().getSimpleName(), e);
+            throw new RuntimeException("Failed to convert object to JSON", e);
+        }
+    }
+
+    /**
+     * Indented JSON for logs and reports; never sent on the wire
+     */
+    public static String toPrettyJson(Object value) {
+        try {
+            return prettyWriter.writeValueAsString(value);
+        } catch (IOException e) {
+            log.error("Error converting object to JSON", e);
+            throw new RuntimeException("Failed to convert object to JSON", e);
+        }
+    }
+}
\ No newline at end of file
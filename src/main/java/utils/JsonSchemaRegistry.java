@@ -0,0 +1,205 @@
+package utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.fge.jsonschema.core.exceptions.ProcessingException;
+import com.github.fge.jsonschema.core.report.ProcessingReport;
+import com.github.fge.jsonschema.main.JsonSchema;
+import com.github.fge.jsonschema.main.JsonSchemaFactory;
+import config.ConfigManager;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Thread-safe cache of compiled JSON schemas.
+ * <p>
+ * Each schema is read from the classpath and compiled once, then shared by all threads.
+ * Bodies that already passed a schema are remembered by SHA-256 digest in a bounded LRU
+ * ({@code schema.validation.cache.size}), so repeated identical payloads skip validation.
+ * The LRU is guarded by a {@link ReentrantLock} rather than a monitor, so virtual threads that
+ * contend on it park instead of pinning their carrier thread.
+ */
+@Slf4j
+public class JsonSchemaRegistry {
+
+    private static final String SCHEMA_DIRECTORY = "schemas";
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final JsonSchemaFactory schemaFactory = JsonSchemaFactory.byDefault();
+    private static final Map<String, JsonSchema> schemas = new ConcurrentHashMap<>();
+    private static final Map<String, Boolean> validatedBodies =
+            boundedCache(ConfigManager.getConfig().schemaValidationCacheSize());
+    private static final ReentrantLock validatedBodiesLock = new ReentrantLock();
+
+    private static final LongAdder schemaHits = new LongAdder();
+    private static final LongAdder schemaMisses = new LongAdder();
+    private static final LongAdder validationHits = new LongAdder();
+    private static final LongAdder validationMisses = new LongAdder();
+
+    /**
+     * Returns the compiled schema, loading and compiling it on first use
+     */
+    public static JsonSchema getSchema(String schemaPath) {
+        JsonSchema schema = schemas.get(schemaPath);
+        if (schema != null) {
+            schemaHits.increment();
+            return schema;
+        }
+        return schemas.computeIfAbsent(schemaPath, path -> {
+            schemaMisses.increment();
+            return compile(path);
+        });
+    }
+
+    /**
+     * Validates a body against a schema, throwing an {@link AssertionError} with the report on failure
+     */
+    public static void validate(byte[] body, String schemaPath) {
+        String cacheKey = schemaPath + "#" + digest(body);
+        if (isValidated(cacheKey)) {
+            validationHits.increment();
+            return;
+        }
+        validationMisses.increment();
+
+        ProcessingReport report;
+        try {
+            JsonNode document = objectMapper.readTree(body);
+            report = getSchema(schemaPath).validate(document);
+        } catch (IOException | ProcessingException e) {
+            throw new AssertionError("JSON schema validation failed for " + schemaPath + ": " + e.getMessage(), e);
+        }
+
+        if (!report.isSuccess()) {
+            throw new AssertionError("JSON schema validation failed for " + schemaPath + ":\n" + report);
+        }
+        validatedBodiesLock.lock();
+        try {
+            validatedBodies.put(cacheKey, Boolean.TRUE);
+        } finally {
+            validatedBodiesLock.unlock();
+        }
+    }
+
+    /**
+     * Compiles the given schemas, or every schema under {@code schemas/} when none are given
+     */
+    public static void warmUp(String... schemaPaths) {
+        if (schemaPaths.length == 0) {
+            schemaPaths = discoverSchemas();
+        }
+        for (String schemaPath : schemaPaths) {
+            getSchema(schemaPath);
+        }
+        log.info("JSON schema registry warmed up with {} schemas", schemas.size());
+    }
+
+    public static long getSchemaHits() {
+        return schemaHits.sum();
+    }
+
+    public static long getSchemaMisses() {
+        return schemaMisses.sum();
+    }
+
+    public static long getValidationHits() {
+        return validationHits.sum();
+    }
+
+    public static long getValidationMisses() {
+        return validationMisses.sum();
+    }
+
+    public static void clear() {
+        schemas.clear();
+        validatedBodiesLock.lock();
+        try {
+            validatedBodies.clear();
+        } finally {
+            validatedBodiesLock.unlock();
+        }
+        schemaHits.reset();
+        schemaMisses.reset();
+        validationHits.reset();
+        validationMisses.reset();
+        log.info("JSON schema registry cleared");
+    }
+
+    private static JsonSchema compile(String schemaPath) {
+        try (InputStream schemaStream = JsonSchemaRegistry.class.getClassLoader()
+                .getResourceAsStream(schemaPath)) {
+            if (schemaStream == null) {
+                throw new RuntimeException("Schema file not found: " + schemaPath);
+            }
+            JsonSchema schema = schemaFactory.getJsonSchema(objectMapper.readTree(schemaStream));
+            log.debug("Compiled JSON schema: {}", schemaPath);
+            return schema;
+        } catch (IOException | ProcessingException e) {
+            log.error("Error compiling JSON schema: {}", schemaPath, e);
+            throw new RuntimeException("Failed to compile JSON schema: " + schemaPath, e);
+        }
+    }
+
+    private static String[] discoverSchemas() {
+        URL directory = JsonSchemaRegistry.class.getClassLoader().getResource(SCHEMA_DIRECTORY);
+        if (directory == null || !"file".equals(directory.getProtocol())) {
+            log.warn("Schema directory is not on the file system; pass schema paths to warmUp explicitly");
+            return new String[0];
+        }
+        try {
+            String[] files = new File(directory.toURI()).list((dir, name) -> name.endsWith(".json"));
+            if (files == null) {
+                return new String[0];
+            }
+            for (int i = 0; i < files.length; i++) {
+                files[i] = SCHEMA_DIRECTORY + "/" + files[i];
+            }
+            return files;
+        } catch (URISyntaxException e) {
+            throw new RuntimeException("Failed to list schema directory", e);
+        }
+    }
+
+    private static boolean isValidated(String cacheKey) {
+        validatedBodiesLock.lock();
+        try {
+            // get() rather than containsKey() so a hit refreshes the entry's LRU position
+            return validatedBodies.get(cacheKey) != null;
+        } finally {
+            validatedBodiesLock.unlock();
+        }
+    }
+
+    private static String digest(byte[] body) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(body);
+            StringBuilder hex = new StringBuilder(hash.length * 2);
+            for (byte b : hash) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static <K, V> Map<K, V> boundedCache(int maxEntries) {
+        return new LinkedHashMap<K, V>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+}
\ No newline at end of file
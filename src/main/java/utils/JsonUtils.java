@@ -26,7 +26,7 @@ public class JsonUtils {
     
     public static <T> T fromJson(String json, Class<T> clazz) {
         try {
-            return objectMapper.readValue(json, clazz);
+            return JsonCodec.readerFor(clazz).readValue(json);
         } catch (JsonProcessingException e) {
             log.error("Error converting JSON to object", e);
             throw new RuntimeException("Failed to convert JSON to object", e);
@@ -1,11 +1,11 @@
 package utils;
 
-import io.restassured.module.jsv.JsonSchemaValidator;
+import io.restassured.path.json.JsonPath;
 import io.restassured.response.Response;
 import lombok.extern.slf4j.Slf4j;
 import org.hamcrest.Matcher;
 
-import java.io.InputStream;
+import java.net.http.HttpResponse;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
@@ -26,14 +26,7 @@ public class ResponseValidator {
     }
     
     public static void validateJsonSchema(Response response, String schemaPath) {
-        InputStream schemaStream = ResponseValidator.class.getClassLoader()
-                .getResourceAsStream(schemaPath);
-        
-        if (schemaStream == null) {
-            throw new RuntimeException("Schema file not found: " + schemaPath);
-        }
-        
-        response.then().assertThat().body(JsonSchemaValidator.matchesJsonSchema(schemaStream));
+        JsonSchemaRegistry.validate(response.getBody().asByteArray(), schemaPath);
         log.info("JSON schema validation passed for: {}", schemaPath);
     }
     
@@ -63,4 +56,22 @@ public class ResponseValidator {
         response.then().assertThat().body(jsonPath, hasSize(expectedSize));
         log.info("Array size validation passed for: {} with size: {}", jsonPath, expectedSize);
     }
+    
+    public static void validateStatusCode(HttpResponse<String> response, int expectedStatusCode) {
+        assertThat("Status code validation failed", 
+                response.statusCode(), equalTo(expectedStatusCode));
+        log.info("Status code validation passed: {}", expectedStatusCode);
+    }
+    
+    public static void validateContentType(HttpResponse<String> response, String expectedContentType) {
+        assertThat("Content-Type validation failed",
+                response.headers().firstValue("Content-Type").orElse(""), containsString(expectedContentType));
+        log.info("Content-Type validation passed: {}", expectedContentType);
+    }
+    
+    public static void validateNotNull(HttpResponse<String> response, String jsonPath) {
+        assertThat("Not null validation failed for: " + jsonPath,
+                JsonPath.from(response.body()).get(jsonPath), notNullValue());
+        log.info("Not null validation passed for: {}", jsonPath);
+    }
 }
\ No newline at end of file
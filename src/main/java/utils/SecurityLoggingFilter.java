@@ -10,6 +10,16 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class SecurityLoggingFilter implements Filter {
     
+    private final SensitiveDataMasker masker;
+    
+    public SecurityLoggingFilter() {
+        this(SensitiveDataMasker.defaultMasker());
+    }
+    
+    public SecurityLoggingFilter(SensitiveDataMasker masker) {
+        this.masker = masker;
+    }
+    
     @Override
     public Response filter(FilterableRequestSpecification requestSpec, 
                           FilterableResponseSpecification responseSpec, 
@@ -29,6 +39,10 @@ public class SecurityLoggingFilter implements Filter {
     private void logSecureRequest(FilterableRequestSpecification requestSpec) {
         log.info("Request: {} {}", requestSpec.getMethod(), requestSpec.getURI());
         
+        if (!log.isDebugEnabled()) {
+            return;
+        }
+        
         // Log headers (mask authorization)
         requestSpec.getHeaders().forEach(header -> {
             if (header.getName().toLowerCase().contains("authorization") || 
@@ -40,9 +54,11 @@ public class SecurityLoggingFilter implements Filter {
         });
         
         // Log body with sensitive data masked
-        if (requestSpec.getBody() != null) {
-            String body = requestSpec.getBody().toString();
-            log.debug("Request Body: {}", SecurityUtils.maskSensitiveData(body));
+        Object body = requestSpec.getBody();
+        if (body != null) {
+            log.debug("Request Body: {}", body instanceof byte[]
+                    ? masker.mask((byte[]) body)
+                    : masker.mask(body.toString()));
         }
     }
     
@@ -52,12 +68,9 @@ public class SecurityLoggingFilter implements Filter {
                 response.getStatusLine(),
                 response.getTime());
         
-        // Log response body with sensitive data masked
-        String responseBody = response.getBody().asString();
-        if (SecurityUtils.containsSensitiveData(responseBody)) {
-            log.debug("Response Body: {}", SecurityUtils.maskSensitiveData(responseBody));
-        } else {
-            log.debug("Response Body: {}", responseBody);
+        // Mask straight from the response bytes; skipped entirely unless DEBUG is on
+        if (log.isDebugEnabled()) {
+            log.debug("Response Body: {}", masker.mask(response.getBody().asByteArray()));
         }
     }
 }
\ No newline at end of file
@@ -2,10 +2,14 @@ package utils;
 
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.regex.Pattern;
+
 @Slf4j
 public class SecurityUtils {
     
     private static final String MASK_PATTERN = "****";
+    private static final Pattern SENSITIVE_FIELD_PATTERN = 
+            Pattern.compile("(\"(?:password|token|authorization)\"\\s*:\\s*\")[^\"]*\"");
     
     /**
      * Masks sensitive token for logging
@@ -25,10 +29,8 @@ public class SecurityUtils {
             return null;
         }
         
-        return json
-            .replaceAll("(\"password\"\\s*:\\s*\")[^\"]*\"", "$1" + MASK_PATTERN + "\"")
-            .replaceAll("(\"token\"\\s*:\\s*\")[^\"]*\"", "$1" + MASK_PATTERN + "\"")
-            .replaceAll("(\"authorization\"\\s*:\\s*\")[^\"]*\"", "$1" + MASK_PATTERN + "\"");
+        // Single pass over the input with a precompiled pattern
+        return SENSITIVE_FIELD_PATTERN.matcher(json).replaceAll("$1" + MASK_PATTERN + "\"");
     }
     
     /**
@@ -0,0 +1,174 @@
+package utils;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import config.ConfigManager;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Masks sensitive JSON fields for logging in a single streaming pass.
+ * <p>
+ * The body is tokenized once and re-emitted compactly; values of configured field names
+ * (case-insensitive) are replaced with {@code ****}, including whole objects or arrays.
+ * Output stops once {@code logging.body.max.chars} is reached, so large bodies are never fully copied.
+ * Bodies that are not valid JSON, such as form-encoded or truncated ones, are masked with a pattern
+ * built from the same field names, matching both {@code "name": value} and {@code name=value}.
+ */
+@Slf4j
+public class SensitiveDataMasker {
+
+    private static final String MASK = "****";
+    private static final String TRUNCATED = "...[truncated]";
+    private static final JsonFactory jsonFactory = new JsonFactory();
+    private static final SensitiveDataMasker defaultMasker = new SensitiveDataMasker(
+            ConfigManager.getConfig().maskedFields(), ConfigManager.getConfig().logBodyMaxChars());
+
+    private final Set<String> sensitiveFields = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+    private final Pattern fallbackPattern;
+    private final int maxChars;
+
+    public SensitiveDataMasker(Collection<String> sensitiveFields, int maxChars) {
+        sensitiveFields.stream()
+                .map(String::trim)
+                .filter(field -> !field.isEmpty())
+                .forEach(this.sensitiveFields::add);
+        this.fallbackPattern = fallbackPattern(this.sensitiveFields);
+        this.maxChars = maxChars;
+    }
+
+    public static SensitiveDataMasker defaultMasker() {
+        return defaultMasker;
+    }
+
+    public String mask(String body) {
+        if (body == null || body.isEmpty()) {
+            return body;
+        }
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            return mask(parser);
+        } catch (IOException e) {
+            return truncate(maskText(body));
+        }
+    }
+
+    public String mask(byte[] body) {
+        if (body == null || body.length == 0) {
+            return "";
+        }
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            return mask(parser);
+        } catch (IOException e) {
+            return truncate(maskText(new String(body, StandardCharsets.UTF_8)));
+        }
+    }
+
+    private String mask(JsonParser parser) throws IOException {
+        BoundedWriter output = new BoundedWriter(maxChars);
+        try (JsonGenerator generator = jsonFactory.createGenerator(output)) {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                if (token == JsonToken.FIELD_NAME && sensitiveFields.contains(parser.getCurrentName())) {
+                    generator.writeFieldName(parser.getCurrentName());
+                    JsonToken value = parser.nextToken();
+                    if (value == JsonToken.START_OBJECT || value == JsonToken.START_ARRAY) {
+                        parser.skipChildren();
+                    }
+                    generator.writeString(MASK);
+                } else {
+                    generator.copyCurrentEvent(parser);
+                }
+            }
+        } catch (BoundedWriter.LimitReachedException e) {
+            return output.toString() + TRUNCATED;
+        }
+        return output.toString();
+    }
+
+    /**
+     * Masks a body the JSON parser rejected; a quoted value may be cut off before its closing quote
+     */
+    private String maskText(String body) {
+        if (fallbackPattern == null) {
+            return body;
+        }
+        Matcher matcher = fallbackPattern.matcher(body);
+        StringBuilder masked = new StringBuilder(body.length());
+        while (matcher.find()) {
+            String value = matcher.group(2);
+            String replacement = value.startsWith("\"") ? "\"" + MASK + "\"" : MASK;
+            matcher.appendReplacement(masked, Matcher.quoteReplacement(matcher.group(1) + replacement));
+        }
+        matcher.appendTail(masked);
+        return masked.toString();
+    }
+
+    private static Pattern fallbackPattern(Set<String> fields) {
+        if (fields.isEmpty()) {
+            return null;
+        }
+        String names = fields.stream().map(Pattern::quote).collect(Collectors.joining("|"));
+        return Pattern.compile("((?<![\\w-])[\"']?(?:" + names + ")[\"']?\\s*[:=]\\s*)"
+                + "(\"(?:[^\"\\\\]|\\\\.)*\"?|[^&\\s,;}\\]]*)", Pattern.CASE_INSENSITIVE);
+    }
+
+    private String truncate(String value) {
+        return value.length() <= maxChars ? value : value.substring(0, maxChars) + TRUNCATED;
+    }
+
+    /**
+     * Collects output up to a fixed size and aborts the pass once the limit is hit
+     */
+    private static class BoundedWriter extends Writer {
+
+        private final StringBuilder buffer = new StringBuilder();
+        private final int limit;
+
+        private BoundedWriter(int limit) {
+            this.limit = limit;
+        }
+
+        @Override
+        public void write(char[] chars, int offset, int length) {
+            int remaining = limit - buffer.length();
+            if (length > remaining) {
+                buffer.append(chars, offset, Math.max(0, remaining));
+                throw new LimitReachedException();
+            }
+            buffer.append(chars, offset, length);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public String toString() {
+            return buffer.toString();
+        }
+
+        private static class LimitReachedException extends RuntimeException {
+
+            private static final long serialVersionUID = 1L;
+
+            private LimitReachedException() {
+                super(null, null, false, false);
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,241 @@
+package utils;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Thread-safe, size-bounded cache of JSON test data files from {@code testdata/} on the classpath.
+ * <p>
+ * Concurrent requests for the same entry wait for a single load. Entries are weighed by the
+ * number of JSON bytes they were parsed from and evicted least recently used once the total
+ * exceeds {@code maxBytes}. Files larger than {@code streamThresholdBytes} are never read into
+ * one tree by {@link #getByKey}: the parser streams over the top-level object, skipping other
+ * values without materializing them, and only the requested key is parsed and cached.
+ */
+@Slf4j
+public class TestDataStore {
+
+    private static final String TEST_DATA_DIRECTORY = "testdata/";
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final long maxBytes;
+    private final long streamThresholdBytes;
+    private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final ReentrantLock entriesLock = new ReentrantLock();
+    private final Map<String, CompletableFuture<JsonNode>> loading = new ConcurrentHashMap<>();
+    private long weightBytes;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+
+    public TestDataStore(long maxBytes, long streamThresholdBytes) {
+        this.maxBytes = maxBytes;
+        this.streamThresholdBytes = streamThresholdBytes;
+    }
+
+    /**
+     * Whole file as a tree
+     */
+    public JsonNode get(String fileName) {
+        return cached(fileName, () -> parse(fileName, null));
+    }
+
+    /**
+     * Value of a top-level key; large files are streamed instead of parsed whole
+     */
+    public JsonNode getByKey(String fileName, String key) {
+        JsonNode result;
+        if (isStreamed(fileName)) {
+            result = cached(fileName + "#" + key, () -> parse(fileName, key));
+        } else {
+            result = get(fileName).get(key);
+        }
+        if (result == null || result.isMissingNode()) {
+            throw new RuntimeException("Test data key not found: " + key + " in file: " + fileName);
+        }
+        return result;
+    }
+
+    public void clear() {
+        entriesLock.lock();
+        try {
+            entries.clear();
+            weightBytes = 0;
+        } finally {
+            entriesLock.unlock();
+        }
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getLoads() {
+        return loads.sum();
+    }
+
+    public long getWeightBytes() {
+        entriesLock.lock();
+        try {
+            return weightBytes;
+        } finally {
+            entriesLock.unlock();
+        }
+    }
+
+    private JsonNode cached(String cacheKey, Supplier<Entry> loader) {
+        JsonNode node = lookup(cacheKey);
+        if (node != null) {
+            return node;
+        }
+
+        CompletableFuture<JsonNode> load = new CompletableFuture<>();
+        CompletableFuture<JsonNode> inFlight = loading.putIfAbsent(cacheKey, load);
+        if (inFlight != null) {
+            hits.increment();
+            try {
+                return inFlight.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+            }
+        }
+
+        try {
+            // Another thread may have finished loading between the lookup and claiming the load
+            node = lookup(cacheKey);
+            if (node == null) {
+                loads.increment();
+                Entry entry = loader.get();
+                store(cacheKey, entry);
+                node = entry.node;
+            }
+            load.complete(node);
+            return node;
+        } catch (RuntimeException e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(cacheKey, load);
+        }
+    }
+
+    private JsonNode lookup(String cacheKey) {
+        entriesLock.lock();
+        try {
+            Entry entry = entries.get(cacheKey);
+            if (entry == null) {
+                return null;
+            }
+            hits.increment();
+            return entry.node;
+        } finally {
+            entriesLock.unlock();
+        }
+    }
+
+    private void store(String cacheKey, Entry entry) {
+        if (entry.weightBytes > maxBytes) {
+            log.debug("Test data {} ({} bytes) exceeds the cache size and is not kept", cacheKey, entry.weightBytes);
+            return;
+        }
+        entriesLock.lock();
+        try {
+            Entry previous = entries.put(cacheKey, entry);
+            weightBytes += entry.weightBytes - (previous == null ? 0 : previous.weightBytes);
+            Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+            while (weightBytes > maxBytes && eldest.hasNext()) {
+                Map.Entry<String, Entry> evicted = eldest.next();
+                weightBytes -= evicted.getValue().weightBytes;
+                eldest.remove();
+                log.debug("Evicted test data {} from the cache", evicted.getKey());
+            }
+        } finally {
+            entriesLock.unlock();
+        }
+    }
+
+    private boolean isStreamed(String fileName) {
+        URL resource = resource(fileName);
+        if (!"file".equals(resource.getProtocol())) {
+            return true;
+        }
+        try {
+            return Files.size(Paths.get(resource.toURI())) > streamThresholdBytes;
+        } catch (IOException | URISyntaxException e) {
+            return true;
+        }
+    }
+
+    /**
+     * Parses the whole file, or with a key only that top-level value, weighing it by the bytes it spans
+     */
+    private Entry parse(String fileName, String key) {
+        String resourcePath = TEST_DATA_DIRECTORY + fileName;
+        try (InputStream inputStream = resource(fileName).openStream();
+             JsonParser parser = objectMapper.getFactory().createParser(inputStream)) {
+            if (key == null) {
+                JsonNode node = objectMapper.readTree(parser);
+                log.info("Loaded test data from: {}", resourcePath);
+                return new Entry(node, parser.getCurrentLocation().getByteOffset());
+            }
+
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new RuntimeException("Test data file must contain a JSON object: " + resourcePath);
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                boolean match = key.equals(parser.getCurrentName());
+                parser.nextToken();
+                if (match) {
+                    long start = parser.getTokenLocation().getByteOffset();
+                    JsonNode node = objectMapper.readTree(parser);
+                    log.info("Streamed test data key {} from: {}", key, resourcePath);
+                    return new Entry(node, parser.getCurrentLocation().getByteOffset() - start);
+                }
+                parser.skipChildren();
+            }
+            return new Entry(objectMapper.missingNode(), 0);
+        } catch (IOException e) {
+            log.error("Error loading test data from: {}", resourcePath, e);
+            throw new UncheckedIOException("Failed to load test data from " + resourcePath, e);
+        }
+    }
+
+    private static URL resource(String fileName) {
+        URL resource = TestDataStore.class.getClassLoader().getResource(TEST_DATA_DIRECTORY + fileName);
+        if (resource == null) {
+            throw new RuntimeException("Resource not found: " + TEST_DATA_DIRECTORY + fileName);
+        }
+        return resource;
+    }
+
+    private static class Entry {
+
+        private final JsonNode node;
+        private final long weightBytes;
+
+        private Entry(JsonNode node, long weightBytes) {
+            this.node = node;
+            this.weightBytes = Math.max(1, weightBytes);
+        }
+    }
+}
\ No newline at end of file
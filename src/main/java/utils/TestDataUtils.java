@@ -1,47 +1,46 @@
 package utils;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import config.ConfigManager;
+import config.EnvironmentConfig;
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.HashMap;
-import java.util.Map;
-
+/**
+ * Static access to the shared {@link TestDataStore}, sized by {@code testdata.cache.max.mb} and
+ * {@code testdata.stream.threshold.mb}. Safe to call from parallel tests and data providers.
+ */
 @Slf4j
 public class TestDataUtils {
-    
-    private static final Map<String, JsonNode> testDataCache = new HashMap<>();
-    
+
+    private static final long BYTES_PER_MB = 1024L * 1024L;
+    private static final TestDataStore store = createStore();
+
+    private static TestDataStore createStore() {
+        EnvironmentConfig config = ConfigManager.getConfig();
+        long maxMb = config.testDataCacheMaxMb();
+        long thresholdMb = config.testDataStreamThresholdMb();
+        return new TestDataStore(maxMb * BYTES_PER_MB, thresholdMb * BYTES_PER_MB);
+    }
+
+    public static TestDataStore getStore() {
+        return store;
+    }
+
     public static JsonNode getTestData(String fileName) {
-        if (testDataCache.containsKey(fileName)) {
-            return testDataCache.get(fileName);
-        }
-        
-        String resourcePath = "testdata/" + fileName;
-        JsonNode testData = JsonUtils.loadJsonFromResource(resourcePath);
-        testDataCache.put(fileName, testData);
-        
-        log.info("Loaded test data from: {}", resourcePath);
-        return testData;
+        return store.get(fileName);
     }
-    
+
     public static JsonNode getTestDataByKey(String fileName, String key) {
-        JsonNode testData = getTestData(fileName);
-        JsonNode result = testData.get(key);
-        
-        if (result == null) {
-            throw new RuntimeException("Test data key not found: " + key + " in file: " + fileName);
-        }
-        
-        return result;
+        return store.getByKey(fileName, key);
     }
-    
+
     public static String getTestDataAsString(String fileName, String key) {
         JsonNode node = getTestDataByKey(fileName, key);
         return node.isTextual() ? node.asText() : node.toString();
     }
-    
+
     public static void clearCache() {
-        testDataCache.clear();
+        store.clear();
         log.info("Test data cache cleared");
     }
 }
\ No newline at end of file
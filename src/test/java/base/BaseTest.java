@@ -1,43 +1,77 @@
 package base;
 
-import auth.AuthenticationManager;
+import auth.TokenPool;
 import config.ConfigManager;
-import core.BaseApiClient;
+import core.ApiClient;
+import core.HttpClientFactory;
 import io.qameta.allure.Attachment;
 import lombok.extern.slf4j.Slf4j;
+import metrics.RequestMetrics;
 import org.testng.ITestResult;
+import org.testng.annotations.AfterClass;
 import org.testng.annotations.AfterMethod;
+import org.testng.annotations.AfterSuite;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.BeforeSuite;
+import reporting.HttpCapture;
+import services.BookingCleanupRegistry;
+import stub.BookingStubServer;
+import utils.JsonSchemaRegistry;
 import utils.TestDataUtils;
 
 import java.lang.reflect.Method;
+import java.time.Duration;
 
 @Slf4j
 public class BaseTest {
     
+    @BeforeSuite(alwaysRun = true)
+    public void setupSuite() {
+        BookingStubServer.startIfEnabled();
+        if (ConfigManager.getConfig().schemaWarmUpEnabled()) {
+            JsonSchemaRegistry.warmUp();
+        }
+    }
+    
+    @AfterSuite(alwaysRun = true)
+    public void tearDownSuite() {
+        BookingCleanupRegistry.awaitCleanup(Duration.ofSeconds(ConfigManager.getConfig().cleanupTimeoutSeconds()));
+        TokenPool.closeAll();
+        log.info("HTTP connection pool at suite end: {}", HttpClientFactory.getPoolStats());
+        RequestMetrics.logSummary();
+        RequestMetrics.exportPrometheus();
+        BookingStubServer.stopDefault();
+    }
+    
     @BeforeClass(alwaysRun = true)
     public void setupClass() {
         log.info("Setting up test class for environment: {}", ConfigManager.getEnvironment());
-        BaseApiClient.getRequestSpec(); // Initialize API client
+        ApiClient.defaultClient(); // Initialize API client
     }
     
     @BeforeMethod(alwaysRun = true)
     public void setupMethod(Method method) {
         log.info("Starting test method: {}", method.getName());
+        BookingCleanupRegistry.setScope(getClass().getName());
+        HttpCapture.clear();
     }
     
     @AfterMethod(alwaysRun = true)
     public void tearDownMethod(ITestResult result) {
+        BookingCleanupRegistry.clearScope();
+        HttpCapture.flush(result.getStatus() == ITestResult.FAILURE);
         if (result.getStatus() == ITestResult.FAILURE) {
             log.error("Test failed: {}", result.getMethod().getMethodName());
             attachFailureInfo(result);
         } else if (result.getStatus() == ITestResult.SUCCESS) {
             log.info("Test passed: {}", result.getMethod().getMethodName());
         }
-        
-        // Clear authentication token after each test to ensure fresh state
-        AuthenticationManager.clearToken();
+    }
+    
+    @AfterClass(alwaysRun = true)
+    public void tearDownClass() {
+        BookingCleanupRegistry.cleanupScope(getClass().getName());
     }
     
     @Attachment(value = "Failure Information", type = "text/plain")
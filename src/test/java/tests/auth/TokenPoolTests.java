@@ -0,0 +1,150 @@
+package tests.auth;
+
+import auth.AuthRequest;
+import auth.TokenLease;
+import auth.TokenPool;
+import auth.TokenProvider;
+import auth.TokenSelectionStrategy;
+import base.BaseTest;
+import core.ApiClient;
+import core.ApiClientSettings;
+import io.qameta.allure.*;
+import org.testng.annotations.Test;
+import recording.RecordingMode;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@Epic("Core Framework")
+@Feature("Token Management")
+public class TokenPoolTests extends BaseTest {
+
+    @Test
+    @Story("Round-robin Identities")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Test that round-robin selection spreads requests evenly across identities")
+    public void testRoundRobinSpreadsRequests() {
+        // Arrange
+        TokenPool pool = new TokenPool(providers("alice", "bob", "carol"), TokenSelectionStrategy.ROUND_ROBIN);
+
+        // Act
+        List<String> users = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            try (TokenLease lease = pool.acquire()) {
+                users.add(lease.getUsername());
+            }
+        }
+
+        // Assert
+        assertThat("Identities should be used in turn", users,
+                contains("alice", "bob", "carol", "alice", "bob", "carol"));
+    }
+
+    @Test
+    @Story("Least In-flight Identities")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Test that least-in-flight selection avoids identities with outstanding requests")
+    public void testLeastInFlightAvoidsBusyIdentity() {
+        // Arrange
+        TokenPool pool = new TokenPool(providers("alice", "bob"), TokenSelectionStrategy.LEAST_IN_FLIGHT);
+
+        // Act
+        TokenLease first = pool.acquire();
+        TokenLease second = pool.acquire();
+        first.close();
+        TokenLease third = pool.acquire();
+
+        // Assert
+        assertThat("Second lease should use the idle identity", second.getUsername(),
+                not(equalTo(first.getUsername())));
+        assertThat("Released identity should be reused", third.getUsername(), equalTo(first.getUsername()));
+        assertThat("In-flight counts should reflect open leases", pool.inFlightByUser().values(),
+                everyItem(equalTo(1)));
+        second.close();
+        third.close();
+    }
+
+    @Test
+    @Story("Independent Tokens")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Test that each identity caches and refreshes its own token")
+    public void testTokensAreCachedPerIdentity() {
+        // Arrange
+        Map<AuthRequest, TokenProvider> providers = providers("alice", "bob");
+        TokenPool pool = new TokenPool(providers, TokenSelectionStrategy.ROUND_ROBIN);
+
+        // Act
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            try (TokenLease lease = pool.acquire()) {
+                tokens.add(lease.getToken());
+            }
+        }
+        providers.values().iterator().next().clear();
+        String refreshed;
+        try (TokenLease lease = pool.acquire()) {
+            refreshed = lease.getToken();
+        }
+
+        // Assert
+        assertThat("Each identity should reuse its cached token", tokens,
+                contains("alice-1", "bob-1", "alice-1", "bob-1"));
+        assertThat("Clearing one identity should only refresh that identity", refreshed, equalTo("alice-2"));
+    }
+
+    @Test
+    @Story("Shared Pools")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Test that clients of the same target share one pool until it is closed")
+    public void testPoolsAreSharedPerTarget() throws IOException {
+        // Arrange
+        ApiClientSettings settings = ApiClientSettings.fromConfig().toBuilder()
+                .baseUrl("http://127.0.0.1:1/pool-target")
+                .build();
+        ApiClient client = new ApiClient(settings);
+        ApiClient sameTarget = new ApiClient(settings.toBuilder().readTimeoutMillis(settings.getReadTimeoutMillis() + 1).build());
+        ApiClient otherTarget = new ApiClient(settings.toBuilder().baseUrl("http://127.0.0.1:2/pool-target").build());
+        Path recording = Files.createTempFile("exchanges", ".rip");
+        Files.delete(recording);
+        ApiClient replaying = new ApiClient(settings.toBuilder()
+                .recordingMode(RecordingMode.REPLAY).recordingFile(recording.toString()).build());
+
+        // Act
+        TokenPool pool = TokenPool.forClient(client);
+        TokenPool shared = TokenPool.forClient(sameTarget);
+        TokenPool other = TokenPool.forClient(otherTarget);
+        TokenPool replay = TokenPool.forClient(replaying);
+        pool.close();
+        TokenPool reopened = TokenPool.forClient(client);
+        reopened.close();
+        other.close();
+        replay.close();
+
+        // Assert
+        assertThat("Clients of one target should share a pool", shared, sameInstance(pool));
+        assertThat("Other targets should get their own pool", other, not(sameInstance(pool)));
+        assertThat("Replaying clients should not share a live pool", replay, not(sameInstance(pool)));
+        assertThat("A closed pool should not be handed out again", reopened, not(sameInstance(pool)));
+    }
+
+    private static Map<AuthRequest, TokenProvider> providers(String... usernames) {
+        Map<AuthRequest, TokenProvider> providers = new LinkedHashMap<>();
+        for (String username : usernames) {
+            AtomicInteger issued = new AtomicInteger();
+            providers.put(AuthRequest.builder().username(username).password("secret").build(),
+                    new TokenProvider(() -> username + "-" + issued.incrementAndGet(),
+                            Duration.ofMinutes(60), Duration.ofMinutes(5)));
+        }
+        return providers;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,137 @@
+package tests.auth;
+
+import auth.TokenProvider;
+import base.BaseTest;
+import io.qameta.allure.*;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@Epic("Core Framework")
+@Feature("Token Management")
+public class TokenProviderTests extends BaseTest {
+
+    @Test
+    @Story("Single-flight Refresh")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Test that concurrent callers on a cold cache share a single token request")
+    public void testConcurrentCallersShareOneRefresh() throws Exception {
+        // Arrange
+        AtomicInteger fetchCount = new AtomicInteger();
+        TokenProvider provider = new TokenProvider(() -> {
+            fetchCount.incrementAndGet();
+            sleep(200);
+            return "token-" + fetchCount.get();
+        }, Duration.ofMinutes(60), Duration.ofMinutes(5));
+        int callers = 32;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+
+        // Act
+        List<CompletableFuture<String>> tokens = IntStream.range(0, callers)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> {
+                    await(start);
+                    return provider.getToken();
+                }, executor))
+                .collect(Collectors.toList());
+        start.countDown();
+        List<String> results = tokens.stream().map(CompletableFuture::join).collect(Collectors.toList());
+        executor.shutdown();
+
+        // Assert
+        assertThat("Only one token request should be made", fetchCount.get(), equalTo(1));
+        assertThat("All callers should receive the same token", results, everyItem(equalTo("token-1")));
+    }
+
+    @Test
+    @Story("Proactive Renewal")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Test that the token is renewed in the background before the expiry buffer is reached")
+    public void testTokenRenewedBeforeExpiry() {
+        // Arrange
+        AtomicInteger fetchCount = new AtomicInteger();
+        TokenProvider provider = new TokenProvider(() -> "token-" + fetchCount.incrementAndGet(),
+                Duration.ofMillis(400), Duration.ofMillis(300));
+
+        // Act
+        String first = provider.getToken();
+        sleep(250);
+        String renewed = provider.getToken();
+
+        // Assert
+        assertThat("Initial token should be issued", first, equalTo("token-1"));
+        assertThat("Token should have been renewed without a caller asking", renewed, not(equalTo(first)));
+        assertThat("Renewed token should be reported valid", provider.hasValidToken(), is(true));
+        provider.clear();
+    }
+
+    @Test
+    @Story("Token Invalidation")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Test that clearing the provider forces a fresh token request")
+    public void testClearForcesNewToken() {
+        // Arrange
+        AtomicInteger fetchCount = new AtomicInteger();
+        TokenProvider provider = new TokenProvider(() -> "token-" + fetchCount.incrementAndGet(),
+                Duration.ofMinutes(60), Duration.ofMinutes(5));
+
+        // Act
+        String first = provider.getToken();
+        String cached = provider.getToken();
+        provider.clear();
+        String afterClear = provider.getToken();
+
+        // Assert
+        assertThat("Cached token should be reused", cached, equalTo(first));
+        assertThat("Clear should force a new token", afterClear, equalTo("token-2"));
+    }
+
+    @Test
+    @Story("Proactive Renewal")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Test that closing the provider stops its background renewals")
+    public void testCloseStopsRenewals() {
+        // Arrange
+        AtomicInteger fetchCount = new AtomicInteger();
+        TokenProvider provider = new TokenProvider(() -> "token-" + fetchCount.incrementAndGet(),
+                Duration.ofMillis(400), Duration.ofMillis(350));
+        provider.getToken();
+
+        // Act
+        provider.close();
+        sleep(450);
+        String onDemand = provider.getToken();
+        sleep(300);
+
+        // Assert
+        assertThat("Tokens should still be fetched on demand", onDemand, equalTo("token-2"));
+        assertThat("No renewal should run after close", fetchCount.get(), equalTo(2));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
\ No newline at end of file
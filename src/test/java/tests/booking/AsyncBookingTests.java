@@ -0,0 +1,99 @@
+package tests.booking;
+
+import base.BaseTest;
+import dataproviders.BookingDataProvider;
+import io.qameta.allure.*;
+import models.booking.BookingRequest;
+import models.booking.BookingResponse;
+import models.booking.PartialBookingRequest;
+import org.testng.annotations.Test;
+import services.AsyncBookingService;
+import services.BulkResult;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@Epic("Booking Management")
+@Feature("Asynchronous Operations")
+public class AsyncBookingTests extends BaseTest {
+
+    private final AsyncBookingService asyncBookingService = new AsyncBookingService();
+
+    @Test
+    @Story("Async Booking Lifecycle")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Test the full booking lifecycle through the non-blocking service")
+    public void testAsyncBookingLifecycle() {
+        // Arrange
+        BookingRequest bookingRequest = BookingDataProvider.createValidBookingRequest();
+        PartialBookingRequest partialRequest = BookingDataProvider.createPartialBookingRequest();
+
+        // Act
+        BookingRequest patchedBooking = asyncBookingService.createBooking(bookingRequest)
+                .thenCompose(created -> asyncBookingService.getBooking(created.getBookingid())
+                        .thenCompose(retrieved -> asyncBookingService.partialUpdateBooking(
+                                created.getBookingid(), partialRequest))
+                        .thenCompose(patched -> asyncBookingService.deleteBooking(created.getBookingid())
+                                .thenApply(ignored -> patched)))
+                .join();
+
+        // Assert
+        assertThat("Partially updated first name should match", patchedBooking.getFirstname(),
+                equalTo(partialRequest.getFirstname()));
+        assertThat("Total price should be preserved", patchedBooking.getTotalprice(),
+                equalTo(bookingRequest.getTotalprice()));
+    }
+
+    @Test
+    @Story("Concurrent Async Bookings")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Test that many bookings can be in flight at once without a thread per request")
+    public void testConcurrentAsyncBookings() {
+        // Arrange
+        int bookingCount = 20;
+
+        // Act
+        List<CompletableFuture<BookingResponse>> futures = IntStream.range(0, bookingCount)
+                .mapToObj(i -> asyncBookingService.createBooking(BookingDataProvider.createValidBookingRequest()))
+                .collect(Collectors.toList());
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+        // Assert
+        List<Integer> bookingIds = futures.stream()
+                .map(future -> future.join().getBookingid())
+                .collect(Collectors.toList());
+        assertThat("All bookings should be created", bookingIds, hasSize(bookingCount));
+        assertThat("Booking IDs should be unique", bookingIds.stream().distinct().count(),
+                equalTo((long) bookingCount));
+    }
+
+    @Test
+    @Story("Bulk Booking Operations")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Test that bookings can be created and deleted in bulk with per-item results")
+    public void testBulkCreateAndDelete() {
+        // Arrange
+        List<BookingRequest> bookingRequests = IntStream.range(0, 25)
+                .mapToObj(i -> BookingDataProvider.createValidBookingRequest())
+                .collect(Collectors.toList());
+
+        // Act
+        BulkResult<BookingRequest, BookingResponse> created = asyncBookingService.createBookings(bookingRequests).join();
+        List<Integer> bookingIds = created.getResults().stream()
+                .map(BookingResponse::getBookingid)
+                .collect(Collectors.toList());
+        BulkResult<Integer, Void> deleted = asyncBookingService.deleteBookings(bookingIds).join();
+
+        // Assert
+        assertThat("Every booking should be created", created.isAllSucceeded(), is(true));
+        assertThat("Results should keep request order", created.getItems().get(0).getInput(),
+                sameInstance(bookingRequests.get(0)));
+        assertThat("Every booking should be deleted", deleted.getSuccessCount(), equalTo((long) bookingIds.size()));
+        assertThat(created.throughput(), greaterThan(0.0));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,145 @@
+package tests.booking;
+
+import auth.TokenPool;
+import base.BaseTest;
+import core.ApiClient;
+import core.ApiClientSettings;
+import dataproviders.BookingDataProvider;
+import io.qameta.allure.*;
+import models.booking.BookingRequest;
+import models.booking.PartialBookingRequest;
+import org.testng.annotations.Test;
+import performance.EndpointLatency;
+import performance.LatencyRecorder;
+import services.BookingCache;
+import services.BookingService;
+import stub.BookingStubServer;
+import stub.LatencyDistribution;
+import stub.StubSettings;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@Epic("Booking Management")
+@Feature("Booking Cache")
+public class BookingCacheTests extends BaseTest {
+
+    @Test
+    @Story("Conditional GET")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Test that cached bookings are revalidated with ETags and invalidated by writes")
+    public void testBookingsRevalidateWithEtags() {
+        // Arrange
+        BookingStubServer server = new BookingStubServer(0, settings(true)).start();
+        BookingCache cache = new BookingCache(100, 60_000);
+        BookingService service = service(server, cache);
+        try {
+            int bookingId = service.createBooking(BookingDataProvider.createValidBookingRequest()).getBookingid();
+            PartialBookingRequest rename = PartialBookingRequest.builder().firstname("Renamed").lastname("Booking").build();
+
+            // Act
+            BookingRequest first = service.getBooking(bookingId);
+            first.setFirstname("Changed by caller");
+            BookingRequest second = service.getBooking(bookingId);
+            service.partialUpdateBooking(bookingId, rename);
+            BookingRequest afterUpdate = service.getBooking(bookingId);
+            server.getStore().update(bookingId, booking -> BookingRequest.builder()
+                    .firstname("Elsewhere").lastname(booking.getLastname()).totalprice(booking.getTotalprice())
+                    .bookingdates(booking.getBookingdates()).build());
+            BookingRequest changedElsewhere = service.getBooking(bookingId);
+
+            // Assert
+            assertThat("Callers should get copies", second.getFirstname(), not(equalTo("Changed by caller")));
+            assertThat("Writes should invalidate the entry", afterUpdate.getFirstname(), equalTo("Renamed"));
+            assertThat("Changed ETags should refresh the entry", changedElsewhere.getFirstname(), equalTo("Elsewhere"));
+            assertThat("Only the second read should be answered with 304", cache.getRevalidations(), equalTo(1L));
+            assertThat(cache.getMisses(), equalTo(3L));
+            assertThat(cache.hitRatio(), closeTo(0.25, 0.001));
+        } finally {
+            server.stop();
+        }
+    }
+
+    @Test
+    @Story("TTL Fallback")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Test that bookings without validators are served from the cache within the TTL")
+    public void testBookingsWithoutValidatorsUseTtl() {
+        // Arrange
+        BookingStubServer server = new BookingStubServer(0, settings(false)).start();
+        BookingCache cache = new BookingCache(1, 60_000);
+        BookingService service = service(server, cache);
+        try {
+            int first = service.createBooking(BookingDataProvider.createValidBookingRequest()).getBookingid();
+            int second = service.createBooking(BookingDataProvider.createValidBookingRequest()).getBookingid();
+
+            // Act
+            long cachedGets;
+            try (LatencyRecorder recorder = LatencyRecorder.start()) {
+                for (int i = 0; i < 5; i++) {
+                    service.getBooking(first);
+                }
+                EndpointLatency gets = recorder.snapshot().get("GET /booking/{id}");
+                cachedGets = gets == null ? 0 : gets.getRequests();
+            }
+            service.getBooking(second);
+            service.getBooking(first);
+            service.deleteBooking(first);
+
+            // Assert
+            assertThat("Reads within the TTL should not reach the server", cachedGets, equalTo(1L));
+            assertThat(cache.getHits(), equalTo(4L));
+            assertThat("A single-entry cache should evict the older booking", cache.getEvictions(), equalTo(2L));
+            assertThat("Deleting should invalidate the entry", cache.size(), equalTo(0));
+            service.verifyBookingDeleted(first);
+        } finally {
+            server.stop();
+        }
+    }
+
+    @Test
+    @Story("Invalidation")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Test that a read invalidated while in flight does not overwrite the invalidation")
+    public void testStaleReadDoesNotOverwriteInvalidation() {
+        // Arrange
+        BookingCache cache = new BookingCache(2, 60_000);
+        BookingRequest stale = BookingDataProvider.createValidBookingRequest();
+        long staleGeneration = cache.generation(1);
+        cache.invalidate(1);
+        long currentGeneration = cache.generation(1);
+        cache.invalidate(2);
+        cache.invalidate(3);
+        cache.invalidate(4);
+
+        // Act
+        cache.store(1, staleGeneration, stale, "\"v1\"", null);
+        int afterStaleStore = cache.size();
+        cache.store(1, currentGeneration, stale, "\"v2\"", null);
+        int afterForgottenStore = cache.size();
+        long generation = cache.generation(1);
+        cache.store(1, generation, stale, "\"v3\"", null);
+
+        // Assert
+        assertThat("A read from before the invalidation should be dropped", afterStaleStore, equalTo(0));
+        assertThat("A forgotten generation should drop reads rather than keep stale ones", afterForgottenStore, equalTo(0));
+        assertThat("A read from after the invalidation should be cached", cache.size(), equalTo(1));
+        assertThat("Only the cached read should count as a miss", cache.getMisses(), equalTo(1L));
+        assertThat(cache.getDroppedReads(), equalTo(2L));
+    }
+
+    private static BookingService service(BookingStubServer server, BookingCache cache) {
+        ApiClient client = new ApiClient(ApiClientSettings.fromConfig().toBuilder()
+                .baseUrl(server.getBaseUrl())
+                .build());
+        return new BookingService(client, TokenPool.forClient(client), cache);
+    }
+
+    private static StubSettings settings(boolean etagEnabled) {
+        return StubSettings.builder()
+                .latencyDistribution(LatencyDistribution.NONE)
+                .latencyMaxMillis(5000)
+                .etagEnabled(etagEnabled)
+                .build();
+    }
+}
\ No newline at end of file
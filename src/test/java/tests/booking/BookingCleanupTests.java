@@ -0,0 +1,48 @@
+package tests.booking;
+
+import base.BaseTest;
+import dataproviders.BookingDataProvider;
+import io.qameta.allure.*;
+import models.booking.BookingResponse;
+import org.testng.annotations.Test;
+import services.BookingCleanupRegistry;
+import services.BookingService;
+import services.BulkItemResult;
+import services.BulkResult;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@Epic("Booking Management")
+@Feature("Test Data Cleanup")
+public class BookingCleanupTests extends BaseTest {
+
+    private final BookingService bookingService = new BookingService();
+
+    @Test
+    @Story("Class Scoped Cleanup")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Test that bookings created by a test class are deleted by the cleanup registry")
+    public void testCreatedBookingsAreCleanedUp() {
+        // Arrange
+        List<Integer> bookingIds = IntStream.range(0, 5)
+                .mapToObj(i -> bookingService.createBooking(BookingDataProvider.createValidBookingRequest()))
+                .map(BookingResponse::getBookingid)
+                .collect(Collectors.toList());
+        bookingService.deleteBooking(bookingIds.get(0));
+
+        // Act
+        BulkResult<Integer, Void> cleanup = BookingCleanupRegistry.cleanupScope(getClass().getName()).join();
+
+        // Assert
+        assertThat("Bookings deleted by the test should not be deleted again",
+                cleanup.getItems().stream().map(BulkItemResult::getInput).collect(Collectors.toList()),
+                containsInAnyOrder(bookingIds.subList(1, bookingIds.size()).toArray()));
+        assertThat("Every remaining booking should be deleted", cleanup.isAllSucceeded(), is(true));
+        bookingIds.forEach(bookingService::verifyBookingDeleted);
+    }
+}
\ No newline at end of file
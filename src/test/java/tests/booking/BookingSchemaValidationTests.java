@@ -6,11 +6,9 @@ import io.qameta.allure.*;
 import models.booking.BookingRequest;
 import org.testng.annotations.Test;
 import utils.ResponseValidator;
-import core.BaseApiClient;
+import core.ApiClient;
 import io.restassured.response.Response;
 
-import static io.restassured.RestAssured.given;
-
 @Epic("Booking Management")
 @Feature("Schema Validation")
 public class BookingSchemaValidationTests extends BaseTest {
@@ -24,8 +22,7 @@ public class BookingSchemaValidationTests extends BaseTest {
         BookingRequest bookingRequest = BookingDataProvider.createValidBookingRequest();
         
         // Act
-        Response response = given()
-                .spec(BaseApiClient.getRequestSpec())
+        Response response = ApiClient.defaultClient().request()
                 .body(bookingRequest)
                 .when()
                 .post("/booking")
@@ -46,8 +43,7 @@ public class BookingSchemaValidationTests extends BaseTest {
         // First create a booking
         BookingRequest bookingRequest = BookingDataProvider.createValidBookingRequest();
         
-        Response createResponse = given()
-                .spec(BaseApiClient.getRequestSpec())
+        Response createResponse = ApiClient.defaultClient().request()
                 .body(bookingRequest)
                 .when()
                 .post("/booking")
@@ -58,8 +54,7 @@ public class BookingSchemaValidationTests extends BaseTest {
         int bookingId = createResponse.jsonPath().getInt("bookingid");
         
         // Act - Get the booking
-        Response getResponse = given()
-                .spec(BaseApiClient.getRequestSpec())
+        Response getResponse = ApiClient.defaultClient().request()
                 .when()
                 .get("/booking/" + bookingId)
                 .then()
@@ -0,0 +1,84 @@
+package tests.booking;
+
+import base.BaseTest;
+import core.ExecutionThreads;
+import dataproviders.BookingDataProvider;
+import io.qameta.allure.*;
+import models.booking.BookingRequest;
+import org.testng.annotations.Test;
+import services.BookingService;
+import services.BookingWorkflowRunner;
+import services.BulkResult;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@Epic("Booking Management")
+@Feature("Concurrent Workflows")
+public class BookingWorkflowTests extends BaseTest {
+
+    private final BookingWorkflowRunner workflowRunner = new BookingWorkflowRunner();
+
+    @Test
+    @Story("Booking Lifecycle")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Test that concurrent create, read, update and delete workflows all complete")
+    public void testConcurrentLifecycles() {
+        // Arrange
+        List<BookingRequest> bookingRequests = IntStream.range(0, 20)
+                .mapToObj(i -> BookingDataProvider.createValidBookingRequest())
+                .collect(Collectors.toList());
+
+        // Act
+        BulkResult<BookingRequest, BookingRequest> result = workflowRunner.runLifecycles(bookingRequests);
+
+        // Assert
+        assertThat("Every workflow should succeed: " + result.getFailures(), result.isAllSucceeded(), is(true));
+        assertThat(result.getResults(), everyItem(hasProperty("additionalneeds", equalTo("Late checkout"))));
+        assertThat("Results should be in input order",
+                result.getItems().stream().map(item -> item.getResult().getLastname()).collect(Collectors.toList()),
+                equalTo(bookingRequests.stream().map(BookingRequest::getLastname).collect(Collectors.toList())));
+    }
+
+    @Test
+    @Story("Workflow Runner")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Test that workflows run in parallel on separate threads and failures are isolated")
+    public void testParallelismAndFailureIsolation() {
+        // Arrange
+        BookingWorkflowRunner runner = new BookingWorkflowRunner(new BookingService(), 4);
+        ConcurrentHashMap<String, Boolean> threads = new ConcurrentHashMap<>();
+
+        // Act
+        BulkResult<Integer, Integer> result = runner.run(Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8), item -> {
+            threads.put(Thread.currentThread().getName(), Boolean.TRUE);
+            sleep(50);
+            if (item == 5) {
+                throw new IllegalStateException("Workflow " + item + " failed");
+            }
+            return item * 10;
+        });
+
+        // Assert
+        assertThat(result.getFailureCount(), equalTo(1L));
+        assertThat(result.getFailures().get(0).getInput(), equalTo(5));
+        assertThat(result.getResults(), contains(10, 20, 30, 40, 60, 70, 80));
+        assertThat("Workflows should overlap", result.getElapsedMillis(), lessThan(8 * 50L));
+        assertThat(threads.keySet(), everyItem(startsWith("booking-workflow-")));
+        assertThat(ExecutionThreads.isVirtual() || threads.size() <= 4, is(true));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,120 @@
+package tests.core;
+
+import base.BaseTest;
+import core.ApiClient;
+import core.ApiClientSettings;
+import dataproviders.BookingDataProvider;
+import io.qameta.allure.*;
+import io.restassured.RestAssured;
+import models.booking.BookingRequest;
+import models.booking.BookingResponse;
+import org.testng.annotations.Test;
+import services.BookingCleanupRegistry;
+import services.BookingService;
+import services.BulkResult;
+import stub.BookingStubServer;
+import stub.LatencyDistribution;
+import stub.StubSettings;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@Epic("Core Framework")
+@Feature("API Client")
+public class ApiClientTests extends BaseTest {
+
+    @Test
+    @Story("Independent Clients")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Test that services on different clients reach and clean up their own targets concurrently")
+    public void testClientsTargetDifferentServers() {
+        // Arrange
+        BookingStubServer first = new BookingStubServer(0, settings(0)).start();
+        BookingStubServer second = new BookingStubServer(0, settings(0)).start();
+        BookingService firstService = new BookingService(client(first, 5000));
+        BookingService secondService = new BookingService(client(second, 5000));
+        BookingRequest booking = BookingDataProvider.createValidBookingRequest();
+
+        // Act
+        try {
+            CompletableFuture<BookingResponse> onFirst = CompletableFuture.supplyAsync(inScope(() -> firstService.createBooking(booking)));
+            CompletableFuture<BookingResponse> onSecond = CompletableFuture.supplyAsync(inScope(() -> secondService.createBooking(booking)));
+            int firstId = onFirst.join().getBookingid();
+            int secondId = onSecond.join().getBookingid();
+            firstService.deleteBooking(firstId);
+            String secondFirstname = secondService.getBooking(secondId).getFirstname();
+            BulkResult<Integer, Void> cleanup = BookingCleanupRegistry.cleanupScope(getClass().getName()).join();
+
+            // Assert
+            assertThat("Each stub numbers its own bookings", firstId, equalTo(secondId));
+            firstService.verifyBookingDeleted(firstId);
+            assertThat(secondFirstname, equalTo(booking.getFirstname()));
+            assertThat("Deleting on one target must not unregister the other", cleanup.getItems(), hasSize(1));
+            assertThat(cleanup.isAllSucceeded(), is(true));
+            assertThat("Cleanup should delete through the owning client", second.getStore().find(any -> true), empty());
+            assertThat("Clients must not install RestAssured defaults", RestAssured.requestSpecification, nullValue());
+        } finally {
+            first.stop();
+            second.stop();
+        }
+    }
+
+    @Test
+    @Story("Independent Clients")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Test that a client's read timeout applies only to that client")
+    public void testTimeoutsArePerClient() {
+        // Arrange
+        BookingStubServer slow = new BookingStubServer(0, settings(500)).start();
+        ApiClient impatient = client(slow, 100);
+        ApiClient patient = client(slow, 5000);
+
+        // Act
+        Throwable timeout;
+        int patientStatus;
+        try {
+            timeout = CompletableFuture.runAsync(() -> impatient.request().get("/ping"))
+                    .handle((ignored, error) -> error).join();
+            patientStatus = patient.request().get("/ping").getStatusCode();
+        } finally {
+            slow.stop();
+        }
+
+        // Assert
+        assertThat("The impatient client should time out", timeout, notNullValue());
+        assertThat(patientStatus, equalTo(201));
+    }
+
+    private static ApiClient client(BookingStubServer server, int readTimeoutMillis) {
+        return new ApiClient(ApiClientSettings.fromConfig().toBuilder()
+                .baseUrl(server.getBaseUrl())
+                .readTimeoutMillis(readTimeoutMillis)
+                .build());
+    }
+
+    /**
+     * Runs the supplier in the cleanup scope of the calling test method
+     */
+    private static <T> Supplier<T> inScope(Supplier<T> supplier) {
+        String scope = BookingCleanupRegistry.currentScope();
+        return () -> {
+            BookingCleanupRegistry.setScope(scope);
+            try {
+                return supplier.get();
+            } finally {
+                BookingCleanupRegistry.clearScope();
+            }
+        };
+    }
+
+    private static StubSettings settings(long latencyMillis) {
+        return StubSettings.builder()
+                .latencyDistribution(latencyMillis > 0 ? LatencyDistribution.FIXED : LatencyDistribution.NONE)
+                .latencyMeanMillis(latencyMillis)
+                .latencyMaxMillis(5000)
+                .build();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,80 @@
+package tests.core;
+
+import base.BaseTest;
+import io.qameta.allure.*;
+import org.testng.annotations.Test;
+import services.BulkExecutor;
+import services.BulkResult;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@Epic("Core Framework")
+@Feature("Bulk Operations")
+public class BulkExecutorTests extends BaseTest {
+
+    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(8);
+
+    @Test
+    @Story("Bounded Concurrency")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Test that bulk operations never exceed the concurrency window and keep input order")
+    public void testConcurrencyWindowIsRespected() {
+        // Arrange
+        List<Integer> items = IntStream.range(0, 200).boxed().collect(Collectors.toList());
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+
+        // Act
+        BulkResult<Integer, Integer> result = BulkExecutor.execute(items, item -> {
+            peak.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            CompletableFuture<Integer> call = new CompletableFuture<>();
+            scheduler.schedule(() -> {
+                inFlight.decrementAndGet();
+                call.complete(item * 2);
+            }, 2, TimeUnit.MILLISECONDS);
+            return call;
+        }, 10).join();
+
+        // Assert
+        assertThat("All items should succeed", result.isAllSucceeded(), is(true));
+        assertThat("Results should keep input order", result.getResults().get(199), equalTo(398));
+        assertThat("In-flight calls should stay within the window", peak.get(), allOf(greaterThan(1), lessThanOrEqualTo(10)));
+        assertThat(result.throughput(), greaterThan(0.0));
+    }
+
+    @Test
+    @Story("Failure Isolation")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Test that failing items are reported without aborting the rest of the batch")
+    public void testFailedItemsDoNotAbortBatch() {
+        // Arrange
+        List<Integer> items = IntStream.range(0, 5000).boxed().collect(Collectors.toList());
+
+        // Act
+        BulkResult<Integer, Integer> result = BulkExecutor.execute(items, item -> {
+            if (item % 100 == 0) {
+                throw new IllegalStateException("Rejected item " + item);
+            }
+            return item % 3 == 0
+                    ? CompletableFuture.failedFuture(new RuntimeException("Failed item " + item))
+                    : CompletableFuture.completedFuture(item);
+        }, 4).join();
+
+        // Assert
+        long expectedFailures = items.stream().filter(item -> item % 100 == 0 || item % 3 == 0).count();
+        assertThat(result.getItems(), hasSize(5000));
+        assertThat(result.getFailureCount(), equalTo(expectedFailures));
+        assertThat(result.getFailures().get(0).getError(), instanceOf(IllegalStateException.class));
+        assertThat(result.getSuccessCount(), equalTo(5000 - expectedFailures));
+    }
+}
\ No newline at end of file
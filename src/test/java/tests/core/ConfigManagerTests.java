@@ -0,0 +1,120 @@
+package tests.core;
+
+import base.BaseTest;
+import config.ConfigManager;
+import config.ConfigSnapshot;
+import config.EnvironmentConfig;
+import core.ApiClient;
+import dataproviders.BookingDatasetProvider;
+import core.HttpClientFactory;
+import io.qameta.allure.*;
+import org.aeonbits.owner.ConfigFactory;
+import org.apache.http.params.CoreConnectionPNames;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@Epic("Core Framework")
+@Feature("Configuration")
+public class ConfigManagerTests extends BaseTest {
+
+    @Test
+    @Story("Config Snapshot")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Test that the snapshot holds the same value as the Owner proxy for every key")
+    public void testSnapshotMatchesOwnerProxy() throws Exception {
+        // Arrange
+        ConfigSnapshot snapshot = ConfigManager.getConfig();
+        ConfigFactory.setProperty("environment", ConfigManager.getEnvironment());
+        EnvironmentConfig proxy = ConfigFactory.create(EnvironmentConfig.class, System.getProperties());
+
+        // Act & Assert
+        for (Method method : EnvironmentConfig.class.getDeclaredMethods()) {
+            assertThat(method.getName(), method.invoke(snapshot), equalTo(method.invoke(proxy)));
+        }
+    }
+
+    @Test
+    @Story("Config Snapshot")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Test that system properties override the environment files through the snapshot")
+    public void testSystemPropertiesOverrideFiles() {
+        // Arrange
+        int fromFile = ConfigManager.getConfig().dataParallelMaxRows();
+        int overridden = fromFile + 7;
+
+        // Act
+        System.setProperty("data.parallel.max.rows", String.valueOf(overridden));
+        int withProperty;
+        int providerLimit;
+        try {
+            ConfigManager.reloadConfig();
+            withProperty = ConfigManager.getConfig().dataParallelMaxRows();
+            providerLimit = BookingDatasetProvider.maxParallelRows();
+        } finally {
+            System.clearProperty("data.parallel.max.rows");
+            ConfigManager.reloadConfig();
+        }
+
+        // Assert
+        assertThat(withProperty, equalTo(overridden));
+        assertThat("Settings should only be read from the snapshot", providerLimit, equalTo(overridden));
+        assertThat("Clearing the property should restore the file value",
+                ConfigManager.getConfig().dataParallelMaxRows(), equalTo(fromFile));
+    }
+
+    @Test
+    @Story("Hot Reload")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Test that editing the environment file swaps in a new snapshot and updates HTTP timeouts")
+    @SuppressWarnings("deprecation") // Reads the timeout from the legacy client params HttpClientFactory sets
+    public void testWatcherReloadsChangedFile() throws Exception {
+        // Arrange
+        URL resource = getClass().getClassLoader()
+                .getResource("environments/" + ConfigManager.getEnvironment() + ".properties");
+        Path file = Paths.get(resource.toURI());
+        String original = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+        ConfigSnapshot before = ConfigManager.getConfig();
+        int readTimeout = before.readTimeout() + 1234;
+        CountDownLatch reloaded = new CountDownLatch(1);
+        Consumer<ConfigSnapshot> listener = snapshot -> {
+            if (snapshot.readTimeout() == readTimeout) {
+                reloaded.countDown();
+            }
+        };
+        ConfigManager.addReloadListener(listener);
+        ConfigManager.startWatching();
+
+        // Act
+        try {
+            Files.write(file, original.replaceAll("(?m)^timeout\\.read=.*$", "timeout.read=" + readTimeout)
+                    .getBytes(StandardCharsets.UTF_8));
+            boolean swapped = reloaded.await(30, TimeUnit.SECONDS);
+            ApiClient.defaultClient().request().get("/booking");
+
+            // Assert
+            assertThat("Watcher should reload the edited file", swapped, is(true));
+            assertThat(ConfigManager.getConfig().readTimeout(), equalTo(readTimeout));
+            assertThat("Earlier snapshots never change", before.readTimeout(), equalTo(readTimeout - 1234));
+            assertThat("Pooled client follows the reload, also after a request",
+                    HttpClientFactory.getHttpClient().getParams().getIntParameter(CoreConnectionPNames.SO_TIMEOUT, 0),
+                    equalTo(readTimeout));
+            assertThat("Reloading must not touch system properties", System.getProperty("timeout.read"), nullValue());
+        } finally {
+            ConfigManager.stopWatching();
+            ConfigManager.removeReloadListener(listener);
+            Files.write(file, original.getBytes(StandardCharsets.UTF_8));
+            ConfigManager.reloadConfig();
+        }
+    }
+}
\ No newline at end of file
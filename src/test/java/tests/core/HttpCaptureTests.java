@@ -0,0 +1,93 @@
+package tests.core;
+
+import base.BaseTest;
+import config.ConfigManager;
+import core.ApiClient;
+import core.ApiClientSettings;
+import dataproviders.BookingDataProvider;
+import io.qameta.allure.*;
+import org.testng.annotations.Test;
+import reporting.CaptureMode;
+import reporting.HttpCapture;
+import reporting.HttpExchange;
+import stub.BookingStubServer;
+import stub.LatencyDistribution;
+import stub.StubSettings;
+import utils.JsonCodec;
+
+import java.util.Collections;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@Epic("Core Framework")
+@Feature("Allure HTTP Capture")
+public class HttpCaptureTests extends BaseTest {
+
+    @Test
+    @Story("Failure-only Capture")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Test that buffered exchanges are dropped for passing tests and the last N are kept for failures")
+    public void testBufferKeepsLastExchangesForFailures() {
+        // Arrange
+        int bufferSize = ConfigManager.getConfig().allureCaptureBufferSize();
+        HttpCapture.clear();
+
+        // Act
+        for (int i = 0; i < bufferSize + 5; i++) {
+            HttpCapture.capture(exchange(i));
+        }
+        int attachedForPass = HttpCapture.flush(false);
+        for (int i = 0; i < bufferSize + 5; i++) {
+            HttpCapture.capture(exchange(i));
+        }
+        int attachedForFailure = HttpCapture.flush(true);
+        int attachedAfterFlush = HttpCapture.flush(true);
+
+        // Assert
+        assertThat(HttpCapture.getMode(), equalTo(CaptureMode.FAILURES));
+        assertThat("Passing tests are not sampled by default", attachedForPass, equalTo(0));
+        assertThat("Only the last buffer.size exchanges are kept", attachedForFailure, equalTo(bufferSize));
+        assertThat("Flushing empties the buffer", attachedAfterFlush, equalTo(0));
+    }
+
+    @Test
+    @Story("Failure-only Capture")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Test that exchanges through an API client are buffered per thread")
+    public void testFilterBuffersPerThread() throws InterruptedException {
+        // Arrange
+        BookingStubServer server = new BookingStubServer(0, StubSettings.builder()
+                .latencyDistribution(LatencyDistribution.NONE).latencyMaxMillis(5000).build()).start();
+        ApiClient client = new ApiClient(ApiClientSettings.fromConfig().toBuilder().baseUrl(server.getBaseUrl()).build());
+        HttpCapture.clear();
+
+        // Act
+        try {
+            client.request()
+                    .body(JsonCodec.writeBytes(BookingDataProvider.createValidBookingRequest()))
+                    .post("/booking");
+            Thread other = new Thread(() -> client.request().get("/booking"));
+            other.start();
+            other.join();
+        } finally {
+            server.stop();
+        }
+        int attached = HttpCapture.flush(true);
+
+        // Assert
+        assertThat("Only this thread's exchange is attached", attached, equalTo(1));
+    }
+
+    private static HttpExchange exchange(int index) {
+        return HttpExchange.builder()
+                .method("GET")
+                .url("http://localhost/booking/" + index)
+                .requestHeaders(Collections.emptyMap())
+                .statusCode(200)
+                .statusLine("HTTP/1.1 200 OK")
+                .responseHeaders(Collections.singletonMap("Content-Type", "application/json"))
+                .responseBody("{\"bookingid\":" + index + "}")
+                .responseContentType("application/json")
+                .build();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,121 @@
+package tests.core;
+
+import base.BaseTest;
+import com.sun.net.httpserver.HttpServer;
+import core.ApiClient;
+import core.ApiClientSettings;
+import core.HttpClientFactory;
+import core.HttpPoolStats;
+import io.qameta.allure.*;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@Epic("Core Framework")
+@Feature("Connection Pooling")
+public class HttpClientFactoryTests extends BaseTest {
+
+    private HttpServer server;
+    private String baseUri;
+
+    @BeforeClass(alwaysRun = true)
+    public void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/ping", exchange -> {
+            byte[] body = "{\"status\":\"ok\"}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        });
+        server.setExecutor(Executors.newFixedThreadPool(4));
+        server.start();
+        baseUri = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    @Story("Shared Pool")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Test that concurrent requests lease connections from the shared pool and return them")
+    public void testRequestsUseSharedPool() {
+        // Arrange
+        ApiClient client = new ApiClient(ApiClientSettings.fromConfig().toBuilder().baseUrl(baseUri).build());
+        long leasesBefore = HttpClientFactory.getPoolStats().getLeases();
+        int availableBefore = HttpClientFactory.getPoolStats().getAvailable();
+        ExecutorService clients = Executors.newFixedThreadPool(4);
+        List<CompletableFuture<Integer>> calls = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < 20; i++) {
+            calls.add(CompletableFuture.supplyAsync(() -> client.request()
+                    .when()
+                    .get("/ping")
+                    .then()
+                    .extract()
+                    .statusCode(), clients));
+        }
+        calls.forEach(CompletableFuture::join);
+        clients.shutdown();
+        HttpPoolStats stats = HttpClientFactory.getPoolStats();
+
+        // Assert
+        calls.forEach(call -> assertThat(call.join(), equalTo(200)));
+        assertThat("Every request should lease a pooled connection",
+                stats.getLeases() - leasesBefore, greaterThanOrEqualTo(20L));
+        assertThat("All connections should be returned to the pool", stats.getLeased(), equalTo(0));
+        assertThat("Idle connections should be kept for reuse", stats.getAvailable(),
+                allOf(greaterThan(0), lessThanOrEqualTo(availableBefore + 4)));
+        assertThat(stats.getMaxLeaseWaitMillis(), greaterThanOrEqualTo(0.0));
+    }
+
+    @Test
+    @Story("SSL Isolation")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Test that a client with relaxed HTTPS validation does not relax the pool of verifying clients")
+    @SuppressWarnings("deprecation") // Inspects the scheme registries of the legacy clients REST Assured uses
+    public void testRelaxedSslStaysInItsOwnPool() {
+        // Arrange
+        SchemeRegistry verifyingSchemes = HttpClientFactory.newHttpClient(5000, 5000, true)
+                .getConnectionManager().getSchemeRegistry();
+        SchemeRegistry relaxedSchemes = HttpClientFactory.newHttpClient(5000, 5000, false)
+                .getConnectionManager().getSchemeRegistry();
+        Object verifyingHttps = verifyingSchemes.getScheme("https").getSchemeSocketFactory();
+        Object relaxedHttps = relaxedSchemes.getScheme("https").getSchemeSocketFactory();
+        // REST Assured installs its socket factory for https targets only; the handshake itself fails
+        ApiClient relaxedClient = new ApiClient(ApiClientSettings.fromConfig().toBuilder()
+                .baseUrl(baseUri.replace("http://", "https://"))
+                .readTimeoutMillis(1000)
+                .sslVerification(false)
+                .build());
+
+        // Act
+        Throwable handshakeFailure = CompletableFuture.runAsync(() -> relaxedClient.request().get("/ping"))
+                .handle((ignored, error) -> error).join();
+
+        // Assert
+        assertThat("A plain HTTP server cannot complete the handshake", handshakeFailure, notNullValue());
+        assertThat("The relaxed client should get REST Assured's trust-all factory",
+                relaxedSchemes.getScheme("https").getSchemeSocketFactory(), not(sameInstance(relaxedHttps)));
+        assertThat("Verifying clients should keep their socket factory",
+                verifyingSchemes.getScheme("https").getSchemeSocketFactory(), sameInstance(verifyingHttps));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,61 @@
+package tests.core;
+
+import base.BaseTest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import dataproviders.BookingDataProvider;
+import io.qameta.allure.*;
+import models.booking.BookingRequest;
+import models.booking.BookingResponse;
+import org.testng.annotations.Test;
+import utils.JsonCodec;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@Epic("Core Framework")
+@Feature("Serialization")
+public class JsonCodecTests extends BaseTest {
+
+    @Test
+    @Story("Wire Serialization")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Test that request bodies are written compactly and read back from bytes")
+    public void testCompactRoundTrip() {
+        // Arrange
+        BookingRequest bookingRequest = BookingDataProvider.createValidBookingRequest();
+
+        // Act
+        byte[] body = JsonCodec.writeBytes(bookingRequest);
+        BookingRequest decoded = JsonCodec.read(body, BookingRequest.class);
+
+        // Assert
+        assertThat("Wire JSON should not be indented", new String(body, StandardCharsets.UTF_8),
+                not(containsString("\n")));
+        assertThat("Pretty JSON should be indented", JsonCodec.toPrettyJson(bookingRequest), containsString("\n"));
+        assertThat("Round trip should preserve the booking", decoded, equalTo(bookingRequest));
+    }
+
+    @Test
+    @Story("Wire Serialization")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Test that the booking models deserialize with the Blackbird module enabled")
+    public void testBlackbirdCompatibleModels() throws Exception {
+        // Arrange
+        ObjectMapper blackbirdMapper = new ObjectMapper().registerModule(new BlackbirdModule());
+        BookingResponse bookingResponse = new BookingResponse();
+        bookingResponse.setBookingid(42);
+        bookingResponse.setBooking(BookingDataProvider.createValidBookingRequest());
+
+        // Act
+        byte[] body = blackbirdMapper.writeValueAsBytes(bookingResponse);
+        BookingResponse decoded = blackbirdMapper.readValue(body, BookingResponse.class);
+
+        // Assert
+        assertThat("Blackbird round trip should preserve the response", decoded, equalTo(bookingResponse));
+        assertThat("Codec should read Blackbird output", JsonCodec.read(body, BookingResponse.class),
+                equalTo(bookingResponse));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,78 @@
+package tests.core;
+
+import base.BaseTest;
+import io.qameta.allure.*;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import utils.JsonSchemaRegistry;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@Epic("Core Framework")
+@Feature("Schema Validation")
+public class JsonSchemaRegistryTests extends BaseTest {
+
+    private static final String CREATE_SCHEMA = "schemas/create-booking-response-schema.json";
+    private static final String VALID_BODY = "{\"bookingid\":1,\"booking\":{\"firstname\":\"Jim\",\"lastname\":\"Brown\","
+            + "\"totalprice\":111,\"depositpaid\":true,\"bookingdates\":{\"checkin\":\"2018-01-01\","
+            + "\"checkout\":\"2019-01-01\"},\"additionalneeds\":\"Breakfast\"}}";
+
+    @BeforeMethod(alwaysRun = true)
+    public void resetRegistry() {
+        JsonSchemaRegistry.clear();
+    }
+
+    @Test
+    @Story("Schema Compilation")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Test that each schema is compiled once and then served from the registry")
+    public void testSchemaCompiledOnce() {
+        // Act
+        JsonSchemaRegistry.warmUp();
+        JsonSchemaRegistry.getSchema(CREATE_SCHEMA);
+        JsonSchemaRegistry.getSchema(CREATE_SCHEMA);
+
+        // Assert
+        assertThat("Warm-up should compile every schema in the directory",
+                JsonSchemaRegistry.getSchemaMisses(), equalTo(2L));
+        assertThat("Later lookups should hit the registry", JsonSchemaRegistry.getSchemaHits(), equalTo(2L));
+    }
+
+    @Test
+    @Story("Validation Memoization")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Test that an identical payload is validated only once")
+    public void testIdenticalPayloadSkipsValidation() {
+        // Act
+        JsonSchemaRegistry.validate(VALID_BODY.getBytes(StandardCharsets.UTF_8), CREATE_SCHEMA);
+        JsonSchemaRegistry.validate(VALID_BODY.getBytes(StandardCharsets.UTF_8), CREATE_SCHEMA);
+
+        // Assert
+        assertThat("First validation should miss the cache", JsonSchemaRegistry.getValidationMisses(), equalTo(1L));
+        assertThat("Second validation should hit the cache", JsonSchemaRegistry.getValidationHits(), equalTo(1L));
+    }
+
+    @Test
+    @Story("Validation Failure")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Test that a payload violating the schema fails and is not remembered as valid")
+    public void testInvalidPayloadFails() {
+        // Arrange
+        byte[] invalidBody = "{\"bookingid\":0}".getBytes(StandardCharsets.UTF_8);
+
+        // Act & Assert
+        for (int attempt = 0; attempt < 2; attempt++) {
+            try {
+                JsonSchemaRegistry.validate(invalidBody, CREATE_SCHEMA);
+                throw new IllegalStateException("Expected schema validation to fail");
+            } catch (AssertionError e) {
+                assertThat("Failure should name the schema", e.getMessage(), containsString(CREATE_SCHEMA));
+            }
+        }
+        assertThat("Invalid payloads should never be served from cache",
+                JsonSchemaRegistry.getValidationHits(), equalTo(0L));
+    }
+}
\ No newline at end of file
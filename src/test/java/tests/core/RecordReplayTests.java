@@ -0,0 +1,218 @@
+package tests.core;
+
+import base.BaseTest;
+import core.ApiClient;
+import core.ApiClientSettings;
+import dataproviders.BookingDataGenerator;
+import io.qameta.allure.*;
+import models.booking.BookingRequest;
+import models.booking.BookingResponse;
+import org.testng.annotations.Test;
+import recording.ExchangeStore;
+import recording.RecordedExchange;
+import recording.RecordingMode;
+import services.AsyncBookingService;
+import services.BookingCleanupRegistry;
+import services.BookingService;
+import services.BulkResult;
+import stub.BookingStubServer;
+import stub.LatencyDistribution;
+import stub.StubSettings;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@Epic("Core Framework")
+@Feature("Record and Replay")
+public class RecordReplayTests extends BaseTest {
+
+    @Test
+    @Story("Replay")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Test that a recorded booking workflow replays without the target server")
+    public void testWorkflowReplaysWithoutServer() throws IOException {
+        // Arrange
+        Path recording = Files.createTempFile("exchanges", ".rip");
+        Files.delete(recording);
+        BookingDataGenerator generator = new BookingDataGenerator(42);
+        BookingRequest booking = generator.booking(0);
+        BookingRequest update = generator.booking(1);
+        BookingStubServer server = new BookingStubServer(0, StubSettings.builder()
+                .latencyDistribution(LatencyDistribution.NONE).latencyMaxMillis(5000).build()).start();
+
+        // Act
+        String[] recorded;
+        try {
+            recorded = runWorkflow(new BookingService(client(RecordingMode.RECORD, server.getBaseUrl(), recording)), booking, update);
+        } finally {
+            server.stop();
+        }
+        String[] replayed = runWorkflow(new BookingService(client(RecordingMode.REPLAY, server.getBaseUrl(), recording)),
+                booking, update);
+
+        // Assert
+        assertThat("Replay should see the responses of the recording", replayed, equalTo(recorded));
+        assertThat("Reads before and after the update should differ", recorded[0], not(equalTo(recorded[1])));
+    }
+
+    @Test
+    @Story("Replay")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Test that replaying a workflow and cleaning up after it opens no connection")
+    public void testReplayOpensNoSockets() throws IOException {
+        // Arrange
+        Path recording = Files.createTempFile("exchanges", ".rip");
+        Files.delete(recording);
+        BookingDataGenerator generator = new BookingDataGenerator(7);
+        BookingRequest booking = generator.booking(0);
+        BookingRequest update = generator.booking(1);
+        String testScope = BookingCleanupRegistry.currentScope();
+        String recordScope = testScope + "#record";
+        String replayScope = testScope + "#replay";
+        BookingStubServer server = new BookingStubServer(0, StubSettings.builder()
+                .latencyDistribution(LatencyDistribution.NONE).latencyMaxMillis(5000).build()).start();
+        int port = URI.create(server.getBaseUrl()).getPort();
+        try {
+            BookingCleanupRegistry.setScope(recordScope);
+            runWorkflow(new BookingService(client(RecordingMode.RECORD, server.getBaseUrl(), recording)), booking, update);
+            BookingCleanupRegistry.cleanupScope(recordScope).join();
+        } finally {
+            server.stop();
+        }
+
+        // Act
+        int connections = 0;
+        BulkResult<Integer, Void> cleanup;
+        Throwable asyncFailure;
+        try (ServerSocket guard = new ServerSocket(port)) {
+            ApiClient replayClient = client(RecordingMode.REPLAY, server.getBaseUrl(), recording);
+            BookingCleanupRegistry.setScope(replayScope);
+            String[] replayed = runWorkflow(new BookingService(replayClient), booking, update);
+            cleanup = BookingCleanupRegistry.cleanupScope(replayScope).join();
+            asyncFailure = new AsyncBookingService(replayClient)
+                    .getBooking(Integer.parseInt(replayed[2]))
+                    .handle((result, failure) -> failure)
+                    .join();
+            guard.setSoTimeout(200);
+            try {
+                while (true) {
+                    guard.accept().close();
+                    connections++;
+                }
+            } catch (SocketTimeoutException e) {
+                // No further connections are waiting
+            }
+        } finally {
+            BookingCleanupRegistry.setScope(testScope);
+        }
+
+        // Assert
+        assertThat("Replay should not connect to the recorded target", connections, equalTo(0));
+        assertThat("Replayed bookings should not be cleaned up", cleanup.getItems(), empty());
+        assertThat("Async calls bypass the recording and should be refused",
+                asyncFailure, instanceOf(UnsupportedOperationException.class));
+    }
+
+    @Test
+    @Story("Replay")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Test that targets recorded into one file each replay their own responses")
+    public void testTargetsSharingRecordingReplayTheirOwnResponses() throws IOException {
+        // Arrange
+        Path recording = Files.createTempFile("exchanges", ".rip");
+        Files.delete(recording);
+        BookingDataGenerator generator = new BookingDataGenerator(11);
+        BookingStubServer first = new BookingStubServer(0, StubSettings.builder()
+                .latencyDistribution(LatencyDistribution.NONE).latencyMaxMillis(5000).build()).start();
+        BookingStubServer second = new BookingStubServer(0, StubSettings.builder()
+                .latencyDistribution(LatencyDistribution.NONE).latencyMaxMillis(5000).build()).start();
+        int firstId;
+        int secondId;
+        try {
+            firstId = new BookingService(client(RecordingMode.RECORD, first.getBaseUrl(), recording))
+                    .createBooking(generator.booking(0)).getBookingid();
+            secondId = new BookingService(client(RecordingMode.RECORD, second.getBaseUrl(), recording))
+                    .createBooking(generator.booking(1)).getBookingid();
+            new BookingService(client(RecordingMode.RECORD, first.getBaseUrl(), recording)).getBooking(firstId);
+            new BookingService(client(RecordingMode.RECORD, second.getBaseUrl(), recording)).getBooking(secondId);
+        } finally {
+            first.stop();
+            second.stop();
+        }
+
+        // Act
+        BookingRequest secondReplayed = new BookingService(client(RecordingMode.REPLAY, second.getBaseUrl(), recording))
+                .getBooking(secondId);
+        BookingRequest firstReplayed = new BookingService(client(RecordingMode.REPLAY, first.getBaseUrl(), recording))
+                .getBooking(firstId);
+
+        // Assert
+        assertThat("Both stubs should have issued the same ID", secondId, equalTo(firstId));
+        assertThat(secondReplayed.getFirstname(), equalTo(generator.booking(1).getFirstname()));
+        assertThat(firstReplayed.getFirstname(), equalTo(generator.booking(0).getFirstname()));
+    }
+
+    @Test
+    @Story("Recording File")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Test that recordings survive reopening and keep the order of repeated requests")
+    public void testRecordingsPersistInOrder() throws IOException {
+        // Arrange
+        Path file = Files.createTempFile("exchanges", ".rip");
+        Files.delete(file);
+        String key = ExchangeStore.key("GET", "http://localhost:8089/booking/1", null);
+        byte[] large = new byte[300_000];
+
+        // Act
+        try (ExchangeStore store = ExchangeStore.open(file, 1024)) {
+            store.append(key, exchange(200, "first"));
+            store.append(ExchangeStore.key("POST", "http://localhost:8089/booking", large), exchange(200, "large"));
+            store.append(key, exchange(200, "second"));
+        }
+        try (ExchangeStore reopened = ExchangeStore.open(file, 1024)) {
+            // Assert
+            assertThat(reopened.size(), equalTo(3));
+            assertThat(body(reopened.next(key)), equalTo("first"));
+            assertThat(body(reopened.next(key)), equalTo("second"));
+            assertThat("Used-up keys should repeat their last exchange", body(reopened.next(key)), equalTo("second"));
+            assertThat(body(reopened.next(ExchangeStore.key("POST", "http://localhost:8089/booking", large))), equalTo("large"));
+            assertThat("Bodies should be part of the key", reopened.next(ExchangeStore.key("POST", "http://localhost:8089/booking", null)), nullValue());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static String[] runWorkflow(BookingService service, BookingRequest booking, BookingRequest update) {
+        BookingResponse created = service.createBooking(booking);
+        String beforeUpdate = service.getBooking(created.getBookingid()).getFirstname();
+        service.updateBooking(created.getBookingid(), update);
+        String afterUpdate = service.getBooking(created.getBookingid()).getFirstname();
+        return new String[]{beforeUpdate, afterUpdate, String.valueOf(created.getBookingid())};
+    }
+
+    private static ApiClient client(RecordingMode mode, String baseUrl, Path recording) {
+        return new ApiClient(ApiClientSettings.fromConfig().toBuilder()
+                .baseUrl(baseUrl)
+                .recordingMode(mode)
+                .recordingFile(recording.toString())
+                .build());
+    }
+
+    private static RecordedExchange exchange(int status, String body) {
+        return new RecordedExchange(status, "HTTP/1.1 " + status, Map.of("Content-Type", "text/plain"),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String body(RecordedExchange exchange) {
+        return new String(exchange.getBody(), StandardCharsets.UTF_8);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,109 @@
+package tests.core;
+
+import base.BaseTest;
+import core.ApiClient;
+import core.ApiClientSettings;
+import dataproviders.BookingDataProvider;
+import io.qameta.allure.*;
+import metrics.EndpointMetrics;
+import metrics.PrometheusExporter;
+import metrics.RequestMetrics;
+import org.testng.annotations.Test;
+import stub.BookingStubServer;
+import stub.LatencyDistribution;
+import stub.StubSettings;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@Epic("Core Framework")
+@Feature("Request Metrics")
+public class RequestMetricsTests extends BaseTest {
+
+    @Test
+    @Story("Path Templating")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Test that IDs, hosts and query strings are removed from metric paths")
+    public void testTemplatePath() {
+        // Act & Assert
+        assertThat(RequestMetrics.templatePath("https://host:8443/booking/42?x=1"), equalTo("/booking/{id}"));
+        assertThat(RequestMetrics.templatePath("/booking/42/history/7"), equalTo("/booking/{id}/history/{id}"));
+        assertThat(RequestMetrics.templatePath("/auth"), equalTo("/auth"));
+        assertThat(RequestMetrics.templatePath("/v2/booking/123e4567-e89b-12d3-a456-426614174000"),
+                equalTo("/v2/booking/{id}"));
+    }
+
+    @Test
+    @Story("Recording")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Test that latencies, statuses, retries and bytes are aggregated per endpoint")
+    public void testEndpointAggregation() {
+        // Arrange
+        EndpointMetrics metrics = new EndpointMetrics("GET", "/aggregation/{id}");
+
+        // Act
+        for (int i = 0; i < 90; i++) {
+            metrics.record(200, TimeUnit.MILLISECONDS.toNanos(2), 0, 100, false);
+        }
+        for (int i = 0; i < 9; i++) {
+            metrics.record(503, TimeUnit.MILLISECONDS.toNanos(300), 10, 0, false);
+        }
+        metrics.record(EndpointMetrics.TRANSPORT_ERROR, TimeUnit.MILLISECONDS.toNanos(300), 10, 0, true);
+
+        // Assert
+        assertThat(metrics.getRequestCount(), equalTo(100L));
+        assertThat(metrics.getErrorCount(), equalTo(10L));
+        assertThat(metrics.getRetryCount(), equalTo(1L));
+        assertThat(metrics.getRequestBytes(), equalTo(100L));
+        assertThat(metrics.getResponseBytes(), equalTo(9000L));
+        assertThat(metrics.getStatusCounts(), allOf(hasEntry("200", 90L), hasEntry("503", 9L), hasEntry("error", 1L)));
+        assertThat(metrics.getP50Millis(), allOf(greaterThan(1.0), lessThanOrEqualTo(2.5)));
+        assertThat(metrics.getP99Millis(), allOf(greaterThan(250.0), lessThanOrEqualTo(300.0)));
+        assertThat(metrics.getMaxMillis(), closeTo(300.0, 0.001));
+    }
+
+    @Test
+    @Story("Export")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Test that the client filter records exchanges and exposes them over JMX and Prometheus text")
+    public void testFilterExportsOverJmxAndPrometheus() throws Exception {
+        // Arrange
+        BookingStubServer server = new BookingStubServer(0, StubSettings.builder()
+                .latencyDistribution(LatencyDistribution.NONE).latencyMaxMillis(5000).build()).start();
+        ApiClient client = new ApiClient(ApiClientSettings.fromConfig().toBuilder().baseUrl(server.getBaseUrl()).build());
+        EndpointMetrics getBooking = RequestMetrics.endpoint("GET", "/booking/1");
+        long before = getBooking.getRequestCount();
+
+        // Act
+        try {
+            int bookingId = client.request()
+                    .body(BookingDataProvider.createValidBookingRequest())
+                    .post("/booking").jsonPath().getInt("bookingid");
+            client.request().get("/booking/" + bookingId);
+            client.request().get("/booking/" + bookingId);
+        } finally {
+            server.stop();
+        }
+        MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        Object jmxCount = mBeanServer.getAttribute(
+                new ObjectName("api.client:type=RequestMetrics,method=GET,path=" + ObjectName.quote("/booking/{id}")),
+                "RequestCount");
+        String prometheus = PrometheusExporter.format(Collections.singletonList(getBooking));
+
+        // Assert
+        assertThat(getBooking.getRequestCount() - before, equalTo(2L));
+        assertThat(getBooking.getResponseBytes(), greaterThan(0L));
+        assertThat(jmxCount, equalTo(getBooking.getRequestCount()));
+        assertThat(prometheus, containsString("# TYPE api_client_request_duration_seconds histogram"));
+        assertThat(prometheus, containsString(
+                "api_client_requests_total{method=\"GET\",path=\"/booking/{id}\",status=\"200\"} "));
+        assertThat(prometheus, containsString(
+                "api_client_request_duration_seconds_bucket{method=\"GET\",path=\"/booking/{id}\",le=\"+Inf\"} "
+                        + getBooking.getRequestCount()));
+    }
+}
\ No newline at end of file
@@ -1,11 +1,23 @@
 package tests.core;
 
 import base.BaseTest;
+import com.fasterxml.jackson.core.JsonParseException;
+import core.RetryBudget;
+import core.RetryClassifier;
 import core.RetryManager;
+import core.RetryableStatusException;
 import dev.failsafe.RetryPolicy;
 import io.qameta.allure.*;
 import org.testng.annotations.Test;
 
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -95,4 +107,89 @@ public class RetryManagerTests extends BaseTest {
         assertThat("Should succeed on retry", result, equalTo("success on retry"));
         assertThat("Should execute twice", counter.get(), equalTo(2));
     }
+    
+    @Test
+    @Story("Failure Classification")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Test that non-retryable failures fail fast without retry")
+    public void testNonRetryableFailureIsNotRetried() {
+        // Arrange
+        AtomicInteger counter = new AtomicInteger(0);
+        
+        // Act
+        try {
+            RetryManager.executeWithRetry(() -> {
+                counter.incrementAndGet();
+                throw new IllegalArgumentException("Invalid booking request");
+            });
+        } catch (Exception e) {
+            // Expected to fail immediately
+        }
+        
+        // Assert
+        assertThat("Should execute only once", counter.get(), equalTo(1));
+    }
+    
+    @Test
+    @Story("Failure Classification")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Test that throttling and transport failures are retryable and client errors are not")
+    public void testRetryClassification() {
+        // Assert
+        assertThat(RetryClassifier.isRetryable(new RetryableStatusException(503, null)), is(true));
+        assertThat(RetryClassifier.isRetryable(new SocketException("Connection reset")), is(true));
+        assertThat(RetryClassifier.isRetryable(new CompletionException(new SocketTimeoutException("Read timed out"))), is(true));
+        assertThat(RetryClassifier.isRetryable(new UnknownHostException("no.such.host")), is(false));
+        assertThat(RetryClassifier.isRetryable(new RuntimeException(new JsonParseException(null, "Malformed"))), is(false));
+        assertThat(RetryClassifier.isRetryable(new AssertionError("Expected status 200")), is(false));
+        assertThat(RetryClassifier.isRetryableStatus(429), is(true));
+        assertThat(RetryClassifier.isRetryableStatus(400), is(false));
+    }
+    
+    @Test
+    @Story("Failure Classification")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Test parsing of Retry-After given as seconds or as an HTTP date")
+    public void testRetryAfterParsing() {
+        // Arrange
+        String httpDate = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC).plusSeconds(30));
+        
+        // Act
+        Duration fromSeconds = RetryClassifier.parseRetryAfter("2");
+        Duration fromDate = RetryClassifier.parseRetryAfter(httpDate);
+        
+        // Assert
+        assertThat(fromSeconds, equalTo(Duration.ofSeconds(2)));
+        assertThat(fromDate.getSeconds(), allOf(greaterThan(25L), lessThanOrEqualTo(30L)));
+        assertThat(RetryClassifier.parseRetryAfter("soon"), nullValue());
+    }
+    
+    @Test
+    @Story("Retry Budget")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Test that the retry budget caps retries at a share of traffic")
+    public void testRetryBudgetLimitsRetries() {
+        // Arrange
+        RetryBudget budget = new RetryBudget(10, 2);
+        
+        // Act
+        boolean first = budget.hasRetry();
+        budget.withdrawRetry();
+        boolean second = budget.hasRetry();
+        budget.withdrawRetry();
+        boolean exhausted = budget.hasRetry();
+        for (int i = 0; i < 10; i++) {
+            budget.onRequest();
+        }
+        boolean refilled = budget.hasRetry();
+        budget.withdrawRetry();
+        budget.withdrawRetry();
+        
+        // Assert
+        assertThat("Burst retries should be allowed", first && second, is(true));
+        assertThat("Retry should be refused once the budget is spent", exhausted, is(false));
+        assertThat("Ten requests at 10% should earn one retry", refilled, is(true));
+        assertThat("Withdrawals should never overdraw the bucket", budget.availableRetries(), equalTo(0.0));
+        assertThat(budget.hasRetry(), is(false));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,119 @@
+package tests.core;
+
+import base.BaseTest;
+import io.qameta.allure.*;
+import org.testng.annotations.Test;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+import sharding.Shard;
+import sharding.ShardPlanner;
+import sharding.ShardSuites;
+import sharding.TestDurations;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@Epic("Core Framework")
+@Feature("Sharding")
+public class ShardingTests extends BaseTest {
+
+    @Test
+    @Story("Shard Planning")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Test that classes are spread over shards of near-equal expected duration")
+    public void testShardsAreBalancedByDuration() {
+        // Arrange
+        Map<String, Long> durations = Map.of(
+                "SlowTests", 9000L, "MediumTests", 5000L, "OtherMediumTests", 4000L,
+                "FastTests", 3000L, "OtherFastTests", 2000L, "QuickTests", 1000L);
+        List<String> classes = new ArrayList<>(durations.keySet());
+        classes.add("NewTests");
+
+        // Act
+        List<Shard> shards = ShardPlanner.plan(classes, durations, 3);
+        List<Shard> replanned = ShardPlanner.plan(classes, durations, 3);
+
+        // Assert
+        List<String> assigned = new ArrayList<>();
+        shards.forEach(shard -> assigned.addAll(shard.getClasses()));
+        assertThat("Every class should be in exactly one shard", assigned, containsInAnyOrder(classes.toArray()));
+        long total = shards.stream().mapToLong(Shard::getExpectedMillis).sum();
+        assertThat("Classes without history should count as the mean", total, equalTo(24000L + 4000L));
+        for (Shard shard : shards) {
+            assertThat(shard.getExpectedMillis(), lessThanOrEqualTo(10000L));
+        }
+        assertThat("The same history should give the same plan", replanned, equalTo(shards));
+    }
+
+    @Test
+    @Story("Test History")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Test that durations are summed per class from the latest Allure result of each test")
+    public void testDurationsComeFromLatestResults() throws IOException {
+        // Arrange
+        Path directory = Files.createTempDirectory("allure-results");
+        writeResult(directory, "a", "tests.AuthTests.testLogin", "tests.AuthTests", 1000, 1500);
+        writeResult(directory, "a", "tests.AuthTests.testLogin", "tests.AuthTests", 5000, 5200);
+        writeResult(directory, "b", "tests.AuthTests.testLogout", "tests.AuthTests", 5000, 5300);
+        writeResult(directory, "c", "tests.BookingTests.testCreate", null, 5000, 6000);
+        Files.write(directory.resolve("broken-result.json"), "{".getBytes(StandardCharsets.UTF_8));
+
+        // Act
+        Map<String, Long> durations = TestDurations.fromAllureResults(directory);
+
+        // Assert
+        assertThat(durations, hasEntry("tests.AuthTests", 500L));
+        assertThat("The class should fall back to the full name", durations, hasEntry("tests.BookingTests", 1000L));
+        assertThat(durations.size(), equalTo(2));
+        assertThat("A missing directory should mean no history",
+                TestDurations.fromAllureResults(directory.resolve("missing")).isEmpty(), is(true));
+    }
+
+    @Test
+    @Story("Shard Suites")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Test that a shard suite keeps the suite settings and only the classes of its shard")
+    public void testShardSuiteContainsOnlyItsClasses() throws IOException {
+        // Arrange
+        XmlSuite suite = ShardSuites.parse(Paths.get("src/test/resources/testng-suites/regression.xml"));
+        Set<String> classes = ShardSuites.testClasses(suite);
+        List<Shard> shards = ShardPlanner.plan(classes, Map.of(), 2);
+
+        // Act
+        Path file = Files.createTempFile("shard", ".xml");
+        Files.write(file, ShardSuites.forShard(suite, shards.get(0), 2).toXml().getBytes(StandardCharsets.UTF_8));
+        XmlSuite shardSuite = ShardSuites.parse(file);
+
+        // Assert
+        assertThat(ShardSuites.testClasses(shardSuite), containsInAnyOrder(shards.get(0).getClasses().toArray()));
+        assertThat(shardSuite.getName(), containsString("shard 1 of 2"));
+        assertThat(shardSuite.getParallel(), equalTo(suite.getParallel()));
+        assertThat(shardSuite.getThreadCount(), equalTo(suite.getThreadCount()));
+        assertThat(shardSuite.getListeners(), equalTo(suite.getListeners()));
+        for (XmlTest shardTest : shardSuite.getTests()) {
+            XmlTest original = suite.getTests().stream()
+                    .filter(test -> test.getName().equals(shardTest.getName())).findFirst().orElseThrow();
+            boolean sequential = !shardTest.getParallel().isParallel() || shardTest.getThreadCount() == 1;
+            assertThat("Sequential tests should stay sequential", sequential, is(!original.getParallel().isParallel()));
+        }
+        Files.deleteIfExists(file);
+    }
+
+    private static void writeResult(Path directory, String historyId, String fullName, String testClass,
+                                    long start, long stop) throws IOException {
+        String labels = testClass == null ? "[]" : "[{\"name\":\"testClass\",\"value\":\"" + testClass + "\"}]";
+        String json = "{\"historyId\":\"" + historyId + "\",\"fullName\":\"" + fullName + "\",\"start\":" + start
+                + ",\"stop\":" + stop + ",\"labels\":" + labels + "}";
+        Files.write(Files.createTempFile(directory, "", "-result.json"), json.getBytes(StandardCharsets.UTF_8));
+    }
+}
\ No newline at end of file
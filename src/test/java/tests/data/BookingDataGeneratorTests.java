@@ -0,0 +1,96 @@
+package tests.data;
+
+import base.BaseTest;
+import dataproviders.BookingDataGenerator;
+import io.qameta.allure.*;
+import models.booking.BookingRequest;
+import org.testng.annotations.Test;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@Epic("Test Data")
+@Feature("Booking Data Generation")
+public class BookingDataGeneratorTests extends BaseTest {
+
+    @Test
+    @Story("Reproducible Data")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Test that the same seed and index always produce the same booking")
+    public void testSameSeedProducesSameDataset() {
+        // Arrange
+        BookingDataGenerator first = new BookingDataGenerator(42);
+        BookingDataGenerator second = new BookingDataGenerator(42);
+        BookingDataGenerator other = new BookingDataGenerator(43);
+
+        // Act
+        List<BookingRequest> firstRun = IntStream.range(0, 1000).mapToObj(first::booking).collect(Collectors.toList());
+        List<BookingRequest> secondRun = IntStream.range(0, 1000).mapToObj(i -> second.nextBooking()).collect(Collectors.toList());
+        List<BookingRequest> otherRun = IntStream.range(0, 1000).mapToObj(other::booking).collect(Collectors.toList());
+
+        // Assert
+        assertThat("Same seed should give the same dataset", secondRun, equalTo(firstRun));
+        assertThat("Different seeds should give different datasets", otherRun, not(equalTo(firstRun)));
+        assertThat("Lookups by index should be stable", first.booking(500), equalTo(firstRun.get(500)));
+    }
+
+    @Test
+    @Story("Thread Safety")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Test that concurrent callers get unique positions and identical values per index")
+    public void testConcurrentGenerationIsDeterministic() {
+        // Arrange
+        BookingDataGenerator generator = new BookingDataGenerator(7);
+        BookingDataGenerator reference = new BookingDataGenerator(7);
+
+        // Act
+        List<CompletableFuture<Set<Long>>> workers = IntStream.range(0, 8)
+                .mapToObj(worker -> CompletableFuture.supplyAsync(() -> {
+                    Set<Long> indexes = new HashSet<>();
+                    for (int i = 0; i < 10_000; i++) {
+                        long index = generator.nextIndex();
+                        assertThat(generator.booking(index), equalTo(reference.booking(index)));
+                        indexes.add(index);
+                    }
+                    return indexes;
+                }))
+                .collect(Collectors.toList());
+        Set<Long> allIndexes = new HashSet<>();
+        workers.forEach(worker -> allIndexes.addAll(worker.join()));
+
+        // Assert
+        assertThat("Every index should be handed out exactly once", allIndexes, hasSize(80_000));
+    }
+
+    @Test
+    @Story("Valid Data")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Test that generated bookings have valid prices and ordered ISO dates")
+    public void testGeneratedValuesAreValid() {
+        // Arrange
+        BookingDataGenerator generator = new BookingDataGenerator(99);
+
+        // Act & Assert
+        for (long index = 0; index < 10_000; index++) {
+            BookingRequest booking = generator.booking(index);
+            LocalDate checkin = LocalDate.parse(booking.getBookingdates().getCheckin());
+            LocalDate checkout = LocalDate.parse(booking.getBookingdates().getCheckout());
+
+            assertThat(booking.getFirstname(), not(emptyString()));
+            assertThat(booking.getLastname(), not(emptyString()));
+            assertThat(booking.getTotalprice(), allOf(greaterThanOrEqualTo(100), lessThan(2000)));
+            assertThat("Checkout should follow checkin", checkout.isAfter(checkin), is(true));
+        }
+        LocalDate invalidCheckin = LocalDate.parse(generator.invalidBookingDates(1).getCheckin());
+        LocalDate invalidCheckout = LocalDate.parse(generator.invalidBookingDates(1).getCheckout());
+        assertThat("Invalid dates should be reversed", invalidCheckout.isBefore(invalidCheckin), is(true));
+    }
+}
\ No newline at end of file
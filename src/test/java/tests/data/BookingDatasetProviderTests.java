@@ -0,0 +1,131 @@
+package tests.data;
+
+import base.BaseTest;
+import dataproviders.BookingDataGenerator;
+import dataproviders.BookingDataset;
+import dataproviders.BookingDatasetProvider;
+import dataproviders.BookingRowIterator;
+import io.qameta.allure.*;
+import models.booking.BookingRequest;
+import org.testng.annotations.Test;
+import utils.JsonCodec;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@Epic("Test Data")
+@Feature("Streaming Datasets")
+public class BookingDatasetProviderTests extends BaseTest {
+
+    @Test
+    @Story("Dataset Formats")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Test that JSONL and CSV datasets stream the same bookings")
+    public void testCsvAndJsonlDatasetsMatch() {
+        // Act
+        List<BookingRequest> jsonl = readAll(BookingRowIterator.open("bookings.jsonl"));
+        List<BookingRequest> csv = readAll(BookingRowIterator.open("bookings.csv"));
+
+        // Assert
+        assertThat(jsonl, hasSize(24));
+        assertThat("CSV rows should match JSONL rows, including quoted fields", csv, equalTo(jsonl));
+    }
+
+    @Test
+    @Story("Sharding")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Test that shards split a large dataset into disjoint parts that cover every row")
+    public void testShardsPartitionDataset() throws IOException {
+        // Arrange
+        int rows = 50_000;
+        int shards = 4;
+        BookingDataGenerator generator = new BookingDataGenerator(42);
+        Path dataset = Files.createTempFile("bookings", ".jsonl");
+        try {
+            try (BufferedWriter writer = Files.newBufferedWriter(dataset, StandardCharsets.UTF_8)) {
+                for (int i = 0; i < rows; i++) {
+                    writer.write(JsonCodec.writeString(generator.booking(i)));
+                    writer.newLine();
+                }
+            }
+
+            // Act
+            List<List<BookingRequest>> parts = new ArrayList<>();
+            for (int shard = 0; shard < shards; shard++) {
+                parts.add(readAll(BookingRowIterator.open(dataset.toString(), shard, shards)));
+            }
+
+            // Assert
+            int total = 0;
+            for (int shard = 0; shard < shards; shard++) {
+                List<BookingRequest> part = parts.get(shard);
+                assertThat("Shards should be balanced", part, hasSize(rows / shards));
+                assertThat("Shard rows should keep their dataset position",
+                        part.get(1), equalTo(generator.booking(shards + shard)));
+                total += part.size();
+            }
+            assertThat("Shards should cover every row", total, equalTo(rows));
+        } finally {
+            Files.deleteIfExists(dataset);
+        }
+    }
+
+    @BookingDataset("bookings.csv")
+    @Test(dataProvider = BookingDatasetProvider.PARALLEL, dataProviderClass = BookingDatasetProvider.class)
+    @Story("Data-Driven Tests")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Test that every streamed booking is well formed when rows run in parallel")
+    public void testDatasetBookingsAreWellFormed(BookingRequest booking) {
+        // Assert
+        assertThat(booking.getFirstname(), not(emptyOrNullString()));
+        assertThat(booking.getLastname(), not(emptyOrNullString()));
+        assertThat(booking.getTotalprice(), greaterThan(0));
+        assertThat("Checkout should follow checkin",
+                booking.getBookingdates().getCheckout(), greaterThan(booking.getBookingdates().getCheckin()));
+    }
+
+    @Test
+    @Story("Sharding")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Test that a row limit fails a dataset with more rows instead of truncating it")
+    public void testRowLimitRejectsLargerDataset() {
+        // Arrange
+        BookingRowIterator withinLimit = BookingRowIterator.open("bookings.jsonl", 0, 1, 24);
+        BookingRowIterator overLimit = BookingRowIterator.open("bookings.jsonl", 0, 2, 10);
+        for (int i = 0; i < 10; i++) {
+            overLimit.next();
+        }
+
+        // Act & Assert
+        assertThat(readAll(withinLimit), hasSize(24));
+        RuntimeException error = expectFailure(overLimit::hasNext);
+        assertThat(error, instanceOf(IllegalStateException.class));
+        assertThat(error.getMessage(), containsString("more than 10 rows"));
+        assertThat("The dataset should be closed after failing", overLimit.hasNext(), is(false));
+    }
+
+    private static List<BookingRequest> readAll(BookingRowIterator rows) {
+        List<BookingRequest> bookings = new ArrayList<>();
+        try (rows) {
+            rows.forEachRemaining(row -> bookings.add((BookingRequest) row[0]));
+        }
+        return bookings;
+    }
+
+    private static RuntimeException expectFailure(Runnable action) {
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            return e;
+        }
+        throw new AssertionError("Expected a failure");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,124 @@
+package tests.data;
+
+import base.BaseTest;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.qameta.allure.*;
+import org.testng.annotations.Test;
+import utils.TestDataStore;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@Epic("Test Data")
+@Feature("Test Data Cache")
+public class TestDataStoreTests extends BaseTest {
+
+    private static final String BOOKING_DATA = "booking-test-data.json";
+    private static final long MEGABYTE = 1024L * 1024L;
+
+    @Test
+    @Story("Thread Safety")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Test that concurrent readers of the same file share a single load")
+    public void testConcurrentReadersLoadFileOnce() {
+        // Arrange
+        TestDataStore store = new TestDataStore(MEGABYTE, MEGABYTE);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // Act
+        List<CompletableFuture<JsonNode>> readers = IntStream.range(0, 16)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return store.get(BOOKING_DATA);
+                }))
+                .collect(Collectors.toList());
+        start.countDown();
+        List<JsonNode> results = readers.stream().map(CompletableFuture::join).collect(Collectors.toList());
+
+        // Assert
+        assertThat("File should be parsed once", store.getLoads(), equalTo(1L));
+        assertThat("Every reader should get the same tree", results.stream().distinct().count(), equalTo(1L));
+        assertThat(results.get(0).get("validBooking").get("firstname").asText(), equalTo("John"));
+    }
+
+    @Test
+    @Story("Memory Bound")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Test that entries are evicted once the cache exceeds its size")
+    public void testCacheStaysWithinSize() {
+        // Arrange
+        TestDataStore bounded = new TestDataStore(200, 0);
+        TestDataStore tooSmall = new TestDataStore(10, MEGABYTE);
+
+        // Act
+        bounded.getByKey(BOOKING_DATA, "validBooking");
+        bounded.getByKey(BOOKING_DATA, "invalidBooking");
+        bounded.getByKey(BOOKING_DATA, "validBooking");
+        tooSmall.get(BOOKING_DATA);
+        tooSmall.get(BOOKING_DATA);
+
+        // Assert
+        assertThat("Cache weight should stay within its size", bounded.getWeightBytes(), lessThanOrEqualTo(200L));
+        assertThat("Evicted key should be loaded again", bounded.getLoads(), equalTo(3L));
+        assertThat("Files larger than the cache should not be kept", tooSmall.getWeightBytes(), equalTo(0L));
+        assertThat(tooSmall.getLoads(), equalTo(2L));
+    }
+
+    @Test
+    @Story("Streaming")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Test that keys of files above the stream threshold are read without parsing the whole file")
+    public void testLargeFilesAreStreamedByKey() {
+        // Arrange
+        TestDataStore streaming = new TestDataStore(MEGABYTE, 0);
+        TestDataStore whole = new TestDataStore(MEGABYTE, MEGABYTE);
+
+        // Act
+        JsonNode streamed = streaming.getByKey(BOOKING_DATA, "partialUpdate");
+        JsonNode parsed = whole.getByKey(BOOKING_DATA, "partialUpdate");
+        streaming.getByKey(BOOKING_DATA, "partialUpdate");
+
+        // Assert
+        assertThat("Streamed value should match the fully parsed one", streamed, equalTo(parsed));
+        assertThat("Only the requested key should be kept",
+                streaming.getWeightBytes(), lessThan(whole.getWeightBytes()));
+        assertThat("Repeated lookups should hit the cache", streaming.getHits(), equalTo(1L));
+    }
+
+    @Test
+    @Story("Error Handling")
+    @Severity(SeverityLevel.MINOR)
+    @Description("Test that missing keys and files are reported")
+    public void testMissingKeysAndFilesFail() {
+        // Arrange
+        TestDataStore streaming = new TestDataStore(MEGABYTE, 0);
+        TestDataStore whole = new TestDataStore(MEGABYTE, MEGABYTE);
+
+        // Act & Assert
+        for (TestDataStore store : List.of(streaming, whole)) {
+            RuntimeException missingKey = expectFailure(() -> store.getByKey(BOOKING_DATA, "unknownKey"));
+            assertThat(missingKey.getMessage(), containsString("Test data key not found: unknownKey"));
+        }
+        RuntimeException missingFile = expectFailure(() -> whole.get("missing.json"));
+        assertThat(missingFile.getMessage(), containsString("Resource not found"));
+    }
+
+    private static RuntimeException expectFailure(Runnable action) {
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            return e;
+        }
+        throw new AssertionError("Expected a failure");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,185 @@
+package tests.performance;
+
+import base.BaseTest;
+import dataproviders.BookingDataProvider;
+import io.qameta.allure.*;
+import models.booking.BookingRequest;
+import models.booking.BookingResponse;
+import org.testng.annotations.Test;
+import performance.BookingOperation;
+import performance.LoadProfile;
+import performance.LoadTestEngine;
+import performance.LoadTestReport;
+import services.BookingService;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@Epic("Core Framework")
+@Feature("Load Generation")
+public class LoadTestEngineTests extends BaseTest {
+
+    @Test
+    @Story("Arrival Schedule")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Test that arrivals ramp up linearly and then follow the constant target rate")
+    public void testIntendedArrivalSchedule() {
+        // Arrange
+        LoadProfile profile = LoadProfile.builder()
+                .ratePerSecond(10)
+                .rampUpSeconds(2)
+                .durationSeconds(10)
+                .build();
+
+        // Act & Assert
+        assertThat("First arrival starts immediately", profile.intendedOffsetNanos(0), equalTo(0L));
+        assertThat("Ramp-up completes after rate * rampUp / 2 arrivals",
+                profile.intendedOffsetNanos(10), equalTo(TimeUnit.SECONDS.toNanos(2)));
+        assertThat("Arrivals after ramp-up are spaced by 1 / rate",
+                profile.intendedOffsetNanos(11) - profile.intendedOffsetNanos(10),
+                equalTo(TimeUnit.MILLISECONDS.toNanos(100)));
+    }
+
+    @Test
+    @Story("Coordinated Omission")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Test that latency is measured from the intended start so a slow server inflates the tail")
+    public void testLatencyIncludesQueueingBehindSlowServer() {
+        // Arrange
+        BookingDataProvider.createValidBookingRequest(); // Warm up the data generator outside the measured run
+        AtomicInteger bookingIds = new AtomicInteger();
+        BookingService slowService = new BookingService() {
+            @Override
+            public BookingResponse createBooking(BookingRequest bookingRequest) {
+                sleep(50);
+                BookingResponse response = new BookingResponse();
+                response.setBookingid(bookingIds.incrementAndGet());
+                return response;
+            }
+
+            @Override
+            public BookingRequest getBooking(int bookingId) {
+                sleep(20);
+                return null;
+            }
+        };
+        LoadProfile profile = LoadProfile.builder()
+                .ratePerSecond(40)
+                .durationSeconds(2)
+                .maxInFlight(1000)
+                .operations(Arrays.asList(BookingOperation.CREATE, BookingOperation.GET))
+                .build();
+
+        // Act
+        LoadTestReport report = new LoadTestEngine(profile, slowService).run();
+
+        // Assert
+        long created = report.getLatencies().get(BookingOperation.CREATE).getTotalCount();
+        long retrieved = report.getLatencies().get(BookingOperation.GET).getTotalCount();
+        assertThat("All arrivals should be executed", created + retrieved, equalTo(80L));
+        assertThat("Recorded latency should include the service time",
+                report.getLatencies().get(BookingOperation.CREATE).getValueAtPercentile(50),
+                greaterThanOrEqualTo(TimeUnit.MILLISECONDS.toMicros(50)));
+        assertThat("No arrivals should be dropped", report.getDropped(), equalTo(0L));
+    }
+
+    @Test
+    @Story("Live Rate Change")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Test that changing the rate of a running load continues the schedule at the new rate")
+    public void testRateChangeDuringRun() throws InterruptedException {
+        // Arrange
+        AtomicInteger calls = new AtomicInteger();
+        BookingService fastService = new BookingService() {
+            @Override
+            public BookingResponse createBooking(BookingRequest bookingRequest) {
+                BookingResponse response = new BookingResponse();
+                response.setBookingid(calls.incrementAndGet());
+                return response;
+            }
+
+            @Override
+            public BookingRequest getBooking(int bookingId) {
+                calls.incrementAndGet();
+                return null;
+            }
+        };
+        BookingDataProvider.createValidBookingRequest();
+        LoadProfile profile = LoadProfile.builder()
+                .ratePerSecond(20)
+                .durationSeconds(2)
+                .maxInFlight(1000)
+                .operations(Arrays.asList(BookingOperation.GET))
+                .build();
+        LoadTestEngine engine = new LoadTestEngine(profile, fastService);
+        Thread rateChanger = new Thread(() -> {
+            sleep(1000);
+            engine.setRatePerSecond(100);
+        });
+
+        // Act
+        rateChanger.start();
+        engine.run();
+        rateChanger.join();
+
+        // Assert
+        assertThat("About 20 arrivals in the first second and 100 in the second", calls.get(),
+                allOf(greaterThan(90), lessThanOrEqualTo(125)));
+    }
+
+    @Test
+    @Story("Live Rate Change")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Test that a rate change during ramp-up keeps ramping toward the new rate")
+    public void testRateChangeDuringRampUp() throws InterruptedException {
+        // Arrange
+        AtomicInteger calls = new AtomicInteger();
+        BookingService fastService = new BookingService() {
+            @Override
+            public BookingResponse createBooking(BookingRequest bookingRequest) {
+                BookingResponse response = new BookingResponse();
+                response.setBookingid(calls.incrementAndGet());
+                return response;
+            }
+
+            @Override
+            public BookingRequest getBooking(int bookingId) {
+                calls.incrementAndGet();
+                return null;
+            }
+        };
+        LoadProfile profile = LoadProfile.builder()
+                .ratePerSecond(20)
+                .rampUpSeconds(2)
+                .durationSeconds(2)
+                .maxInFlight(1000)
+                .operations(Arrays.asList(BookingOperation.GET))
+                .build();
+        LoadTestEngine engine = new LoadTestEngine(profile, fastService);
+        Thread rateChanger = new Thread(() -> {
+            sleep(1000);
+            engine.setRatePerSecond(100);
+        });
+
+        // Act
+        rateChanger.start();
+        engine.run();
+        rateChanger.join();
+
+        // Assert
+        assertThat("About 5 arrivals in the first second and 75 while ramping to 100/s, not 100 at full rate",
+                calls.get(), allOf(greaterThan(65), lessThan(92)));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
\ No newline at end of file
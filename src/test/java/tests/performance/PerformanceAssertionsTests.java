@@ -0,0 +1,147 @@
+package tests.performance;
+
+import base.BaseTest;
+import core.ApiClient;
+import core.ApiClientSettings;
+import io.qameta.allure.*;
+import org.testng.annotations.Test;
+import performance.EndpointLatency;
+import performance.LatencyRecorder;
+import performance.PerformanceAssertions;
+import performance.Sla;
+import stub.BookingStubServer;
+import stub.LatencyDistribution;
+import stub.StubSettings;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@Epic("Core Framework")
+@Feature("Latency SLA")
+public class PerformanceAssertionsTests extends BaseTest {
+
+    private static final Sla SLA = Sla.builder()
+            .p95Millis(100)
+            .p99Millis(250)
+            .maxErrorRatePercent(1.0)
+            .minSamples(20)
+            .build();
+
+    @Test
+    @Story("Percentile Assertions")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Test that percentiles are aggregated per endpoint and a slow tail fails the p99 objective")
+    public void testPercentilesAcrossCalls() {
+        // Arrange
+        LatencyRecorder recorder = LatencyRecorder.start();
+        recorder.close();
+
+        // Act
+        for (int i = 0; i < 100; i++) {
+            recorder.onExchange("GET", "/sla/{id}", 200, TimeUnit.MILLISECONDS.toNanos(i < 98 ? 10 : 400));
+            recorder.onExchange("POST", "/sla", 200, TimeUnit.MILLISECONDS.toNanos(20));
+        }
+        Map<String, EndpointLatency> snapshot = recorder.snapshot();
+        AssertionError error = null;
+        try {
+            PerformanceAssertions.assertSla(recorder, SLA);
+        } catch (AssertionError e) {
+            error = e;
+        }
+
+        // Assert
+        assertThat(snapshot.keySet(), contains("GET /sla/{id}", "POST /sla"));
+        assertThat(snapshot.get("GET /sla/{id}").getRequests(), equalTo(100L));
+        assertThat(snapshot.get("GET /sla/{id}").percentileMillis(95), closeTo(10.0, 0.1));
+        assertThat(snapshot.get("GET /sla/{id}").percentileMillis(99), closeTo(400.0, 0.5));
+        assertThat("Slow tail should violate the SLA", error, notNullValue());
+        assertThat(error.getMessage(), containsString("GET /sla/{id} p99"));
+        assertThat(error.getMessage(), not(containsString("POST /sla p")));
+        PerformanceAssertions.assertSla(recorder, "POST", "/sla", SLA);
+    }
+
+    @Test
+    @Story("Error Rate")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Test that server errors count against the error rate, expected 4xx responses do not, "
+            + "and small samples skip percentile checks")
+    public void testErrorRateCeiling() {
+        // Arrange
+        LatencyRecorder recorder = LatencyRecorder.start();
+        recorder.close();
+
+        // Act
+        for (int i = 0; i < 10; i++) {
+            recorder.onExchange("GET", "/missing/{id}", 404, TimeUnit.SECONDS.toNanos(1));
+        }
+        for (int i = 0; i < 50; i++) {
+            recorder.onExchange("PUT", "/flaky/{id}", i == 0 ? 503 : 200, TimeUnit.MILLISECONDS.toNanos(5));
+        }
+        AssertionError error = null;
+        try {
+            PerformanceAssertions.assertSla(recorder, SLA);
+        } catch (AssertionError e) {
+            error = e;
+        }
+
+        // Assert
+        assertThat(recorder.snapshot().get("GET /missing/{id}").getErrors(), equalTo(0L));
+        assertThat(recorder.snapshot().get("PUT /flaky/{id}").errorRatePercent(), closeTo(2.0, 0.001));
+        assertThat("2% errors should exceed the 1% ceiling", error, notNullValue());
+        assertThat(error.getMessage(), containsString("PUT /flaky/{id} error rate 2.00%"));
+        assertThat("10 samples are too few for percentile checks", error.getMessage(),
+                not(containsString("GET /missing/{id} p")));
+    }
+
+    @Test
+    @Story("Sliding Window")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Test that a sliding recorder forgets requests older than its window")
+    public void testSlidingWindowExpiry() throws InterruptedException {
+        // Arrange
+        LatencyRecorder recorder = LatencyRecorder.sliding(Duration.ofMillis(200));
+        recorder.close();
+
+        // Act
+        recorder.onExchange("GET", "/window", 200, TimeUnit.MILLISECONDS.toNanos(500));
+        long beforeExpiry = recorder.snapshot().get("GET /window").getRequests();
+        Thread.sleep(300);
+        recorder.onExchange("GET", "/window", 200, TimeUnit.MILLISECONDS.toNanos(5));
+
+        // Assert
+        assertThat(beforeExpiry, equalTo(1L));
+        assertThat(recorder.snapshot().get("GET /window").getRequests(), equalTo(1L));
+        assertThat(recorder.snapshot().get("GET /window").maxMillis(), lessThan(10.0));
+    }
+
+    @Test
+    @Story("Percentile Assertions")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Test that requests made through REST Assured are recorded while the recorder is open")
+    public void testRecordsLiveRequests() {
+        // Arrange
+        BookingStubServer server = new BookingStubServer(0, StubSettings.builder()
+                .latencyDistribution(LatencyDistribution.FIXED).latencyMeanMillis(20).latencyMaxMillis(5000)
+                .build()).start();
+        ApiClient client = new ApiClient(ApiClientSettings.fromConfig().toBuilder().baseUrl(server.getBaseUrl()).build());
+
+        // Act
+        try (LatencyRecorder recorder = LatencyRecorder.start()) {
+            for (int i = 0; i < 25; i++) {
+                client.request().get("/booking");
+            }
+            EndpointLatency listing = recorder.snapshot().get("GET /booking");
+
+            // Assert
+            assertThat(listing.getRequests(), equalTo(25L));
+            assertThat(listing.percentileMillis(50), greaterThanOrEqualTo(20.0));
+            PerformanceAssertions.assertSla(recorder, "GET", "/booking", Sla.builder()
+                    .p95Millis(2000).maxErrorRatePercent(0).minSamples(20).build());
+        } finally {
+            server.stop();
+        }
+    }
+}
\ No newline at end of file
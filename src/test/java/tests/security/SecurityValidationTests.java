@@ -4,6 +4,9 @@ import base.BaseTest;
 import io.qameta.allure.*;
 import org.testng.annotations.Test;
 import utils.SecurityUtils;
+import utils.SensitiveDataMasker;
+
+import java.util.Arrays;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
@@ -59,4 +62,66 @@ public class SecurityValidationTests extends BaseTest {
         assertThat("Token should be masked", maskedJson, containsString("\"token\":\"****\""));
         assertThat("Username should not be masked", maskedJson, containsString("\"username\":\"admin\""));
     }
+    
+    @Test
+    @Story("Streaming JSON Masking")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Verify that the streaming masker hides configured fields at any depth and in any case")
+    public void testStreamingMaskerMasksNestedFields() {
+        // Arrange
+        SensitiveDataMasker masker = new SensitiveDataMasker(Arrays.asList("password", "token", "secret"), 4096);
+        String sensitiveJson = "{\"user\":{\"name\":\"admin\",\"Password\":\"secret123\"},"
+                + "\"token\":12345,\"secret\":{\"key\":\"abc\"},\"items\":[{\"token\":\"xyz\"}]}";
+        
+        // Act
+        String maskedJson = masker.mask(sensitiveJson);
+        
+        // Assert
+        assertThat("Nested password should be masked", maskedJson, containsString("\"Password\":\"****\""));
+        assertThat("Numeric token should be masked", maskedJson, containsString("\"token\":\"****\""));
+        assertThat("Object values should be masked as a whole", maskedJson, containsString("\"secret\":\"****\""));
+        assertThat("Tokens inside arrays should be masked", maskedJson, not(containsString("xyz")));
+        assertThat("Other fields should be kept", maskedJson, containsString("\"name\":\"admin\""));
+    }
+    
+    @Test
+    @Story("Streaming JSON Masking")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Verify that masked output is truncated and non-JSON bodies still get masked")
+    public void testStreamingMaskerTruncatesAndFallsBack() {
+        // Arrange
+        SensitiveDataMasker masker = new SensitiveDataMasker(Arrays.asList("password"), 50);
+        StringBuilder largeJson = new StringBuilder("[");
+        for (int i = 0; i < 1000; i++) {
+            largeJson.append(i == 0 ? "" : ",").append("{\"id\":").append(i).append('}');
+        }
+        largeJson.append(']');
+        
+        // Act
+        String truncated = masker.mask(largeJson.toString());
+        String nonJson = masker.mask("password=\"x\" \"password\":\"secret123\" trailing");
+        
+        // Assert
+        assertThat("Output should be bounded", truncated.length(), lessThan(100));
+        assertThat("Truncation should be marked", truncated, endsWith("...[truncated]"));
+        assertThat("Non-JSON bodies should still be masked", nonJson, not(containsString("secret123")));
+    }
+    
+    @Test
+    @Story("Streaming JSON Masking")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Verify that form-encoded and malformed bodies are masked using the configured fields")
+    public void testFallbackMasksConfiguredFields() {
+        // Arrange
+        SensitiveDataMasker masker = new SensitiveDataMasker(Arrays.asList("pin", "api_key"), 4096);
+        
+        // Act
+        String form = masker.mask("user=admin&PIN=1234&api_key=k-987&spin=keep");
+        String truncatedJson = masker.mask("{\"user\":\"admin\",\"api_key\":\"k-98");
+        
+        // Assert
+        assertThat("Form fields should be masked", form, equalTo("user=admin&PIN=****&api_key=****&spin=keep"));
+        assertThat("Cut-off JSON values should be masked", truncatedJson, not(containsString("k-98")));
+        assertThat(truncatedJson, containsString("\"api_key\":\"****\""));
+    }
 }
\ No newline at end of file
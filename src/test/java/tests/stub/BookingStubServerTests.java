@@ -0,0 +1,151 @@
+package tests.stub;
+
+import base.BaseTest;
+import dataproviders.BookingDataProvider;
+import io.qameta.allure.*;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import models.booking.BookingRequest;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import stub.BookingStubServer;
+import stub.LatencyDistribution;
+import stub.StubSettings;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@Epic("Core Framework")
+@Feature("Booking Stub Server")
+public class BookingStubServerTests extends BaseTest {
+
+    private BookingStubServer server;
+    private BookingStubServer faultyServer;
+
+    @BeforeClass(alwaysRun = true)
+    public void startServers() {
+        server = new BookingStubServer(0, settings(LatencyDistribution.NONE, 0, 0, 0)).start();
+        faultyServer = new BookingStubServer(0, settings(LatencyDistribution.FIXED, 100, 1.0, 0)).start();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServers() {
+        server.stop();
+        faultyServer.stop();
+    }
+
+    @Test
+    @Story("Booking API")
+    @Severity(SeverityLevel.CRITICAL)
+    @Description("Test that the stub supports the booking lifecycle with token authentication")
+    public void testBookingLifecycle() {
+        // Arrange
+        BookingRequest bookingRequest = BookingDataProvider.createValidBookingRequest();
+        String token = request(server).body("{\"username\":\"admin\",\"password\":\"password123\"}")
+                .post("/auth").jsonPath().getString("token");
+
+        // Act
+        int bookingId = request(server).body(bookingRequest).post("/booking").jsonPath().getInt("bookingid");
+        Response forbidden = request(server).delete("/booking/" + bookingId);
+        Response invalidPatch = request(server).cookie("token", token).body("{\"totalprice\":-1}")
+                .patch("/booking/" + bookingId);
+        Response patched = request(server).cookie("token", token).body("{\"firstname\":\"Patched\"}")
+                .patch("/booking/" + bookingId);
+        Response deleted = request(server).cookie("token", token).delete("/booking/" + bookingId);
+        Response missing = request(server).get("/booking/" + bookingId);
+
+        // Assert
+        assertThat("Auth should return a token", token, not(emptyOrNullString()));
+        assertThat("Writes without a token should be rejected", forbidden.getStatusCode(), equalTo(403));
+        assertThat("Patches leaving an invalid booking should be rejected", invalidPatch.getStatusCode(), equalTo(400));
+        assertThat(patched.jsonPath().getString("firstname"), equalTo("Patched"));
+        assertThat("Rejected patches should not change the booking", patched.jsonPath().getInt("totalprice"),
+                equalTo(bookingRequest.getTotalprice()));
+        assertThat("Patch should keep other fields", patched.jsonPath().getString("lastname"),
+                equalTo(bookingRequest.getLastname()));
+        assertThat(deleted.getStatusCode(), equalTo(201));
+        assertThat(missing.getStatusCode(), equalTo(404));
+    }
+
+    @Test
+    @Story("Booking API")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Test that the stub lists bookings by name and rejects invalid bookings")
+    public void testListingAndValidation() {
+        // Arrange
+        BookingRequest bookingRequest = BookingDataProvider.createValidBookingRequest();
+        bookingRequest.setFirstname("Listing");
+        List<Integer> bookingIds = IntStream.range(0, 3)
+                .mapToObj(i -> request(server).body(bookingRequest).post("/booking").jsonPath().getInt("bookingid"))
+                .collect(Collectors.toList());
+
+        // Act
+        List<Integer> listed = request(server).queryParam("firstname", "Listing").get("/booking")
+                .jsonPath().getList("bookingid", Integer.class);
+        Response invalid = request(server).body(BookingDataProvider.createBookingWithInvalidPrice()).post("/booking");
+
+        // Assert
+        assertThat(listed, equalTo(bookingIds));
+        assertThat("Negative prices should be rejected", invalid.getStatusCode(), equalTo(400));
+    }
+
+    @Test
+    @Story("Fault Injection")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Test that injected errors return 503 after the configured latency")
+    public void testErrorAndLatencyInjection() {
+        // Act
+        Response response = request(faultyServer).get("/booking");
+
+        // Assert
+        assertThat(response.getStatusCode(), equalTo(503));
+        assertThat("Injected latency should delay the response", response.getTime(), greaterThanOrEqualTo(90L));
+        assertThat(response.getHeader("Retry-After"), equalTo("1"));
+    }
+
+    @Test
+    @Story("Fault Injection")
+    @Severity(SeverityLevel.NORMAL)
+    @Description("Test that requests above the throttle rate are rejected with 429")
+    public void testThrottling() {
+        // Arrange
+        BookingStubServer throttled = new BookingStubServer(0, settings(LatencyDistribution.NONE, 0, 0, 5)).start();
+
+        // Act
+        List<Integer> statuses;
+        try {
+            statuses = IntStream.range(0, 20)
+                    .mapToObj(i -> request(throttled).get("/ping").getStatusCode())
+                    .collect(Collectors.toList());
+        } finally {
+            throttled.stop();
+        }
+
+        // Assert
+        assertThat("Requests within the burst should pass", statuses, hasItem(201));
+        assertThat("Requests above the rate should be throttled", statuses, hasItem(429));
+    }
+
+    private static RequestSpecification request(BookingStubServer target) {
+        return given().baseUri(target.getBaseUrl()).contentType(ContentType.JSON);
+    }
+
+    private static StubSettings settings(LatencyDistribution distribution, long latencyMillis,
+                                         double errorRate, double throttleRate) {
+        return StubSettings.builder()
+                .latencyDistribution(distribution)
+                .latencyMeanMillis(latencyMillis)
+                .latencyMaxMillis(5000)
+                .errorRate(errorRate)
+                .retryAfterSeconds(1)
+                .throttleRatePerSecond(throttleRate)
+                .build();
+    }
+}
\ No newline at end of file
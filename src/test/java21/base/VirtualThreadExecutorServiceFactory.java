@@ -0,0 +1,26 @@
+package base;
+
+import core.ExecutionThreads;
+import org.testng.IExecutorServiceFactory;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gives TestNG's method, class and data-provider pools virtual threads from {@link ExecutionThreads}.
+ * Pool sizes still come from the suite, so {@code thread-count} and {@code data-provider-thread-count}
+ * keep bounding how many tests run at once; only the threads themselves become cheap.
+ */
+public class VirtualThreadExecutorServiceFactory implements IExecutorServiceFactory {
+
+    @Override
+    public ExecutorService create(int corePoolSize, int maximumPoolSize, long keepAliveTime, TimeUnit unit,
+                                  BlockingQueue<Runnable> workQueue, ThreadFactory threadFactory) {
+        // TestNG recognises its own threads by name, e.g. to run timed-out tests in place
+        return new ThreadPoolExecutor(corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue,
+                ExecutionThreads.threadFactory("TestNG-virtual"));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,41 @@
+package base;
+
+import core.ExecutionThreads;
+import lombok.extern.slf4j.Slf4j;
+import org.testng.TestNG;
+
+import java.util.Arrays;
+
+/**
+ * Runs TestNG suites with tests and data-provider rows on virtual threads.
+ * <p>
+ * Surefire cannot hand TestNG an executor factory, so the {@code java21} profile runs suites
+ * through this launcher instead: {@code mvn -Pjava21 test-compile exec:exec -Dsuite=regression}.
+ * Suite and data-provider thread counts are raised to {@code execution.virtual.parallelism}.
+ */
+@Slf4j
+public class VirtualThreadSuiteLauncher {
+
+    public static void main(String[] suiteFiles) {
+        if (suiteFiles.length == 0) {
+            throw new IllegalArgumentException("Usage: VirtualThreadSuiteLauncher <suite.xml>...");
+        }
+
+        TestNG testng = new TestNG();
+        testng.setTestSuites(Arrays.asList(suiteFiles));
+        testng.setOutputDirectory("target/testng-output");
+        if (ExecutionThreads.isVirtual()) {
+            int parallelism = ExecutionThreads.parallelism();
+            testng.setExecutorServiceFactory(new VirtualThreadExecutorServiceFactory());
+            testng.setThreadCount(parallelism);
+            testng.setDataProviderThreadCount(parallelism);
+            log.info("Running {} with up to {} tests and data-provider rows at once on virtual threads",
+                    Arrays.toString(suiteFiles), parallelism);
+        } else {
+            log.warn("Virtual threads are not available; running {} with the suites' own thread counts",
+                    Arrays.toString(suiteFiles));
+        }
+        testng.run();
+        System.exit(testng.getStatus());
+    }
+}
\ No newline at end of file